@@ -0,0 +1,273 @@
+package com.realestate.benchmark;
+
+import com.realestate.dto.ClientDto;
+import com.realestate.dto.ContractDto;
+import com.realestate.dto.PropertyDto;
+import com.realestate.dto.TransactionDto;
+import com.realestate.entity.Client;
+import com.realestate.entity.Client.ClientStatus;
+import com.realestate.entity.Client.ClientType;
+import com.realestate.entity.Contract;
+import com.realestate.entity.Contract.ContractStatus;
+import com.realestate.entity.Contract.ContractType;
+import com.realestate.entity.Property;
+import com.realestate.entity.Property.PropertyStatus;
+import com.realestate.entity.Property.PropertyType;
+import com.realestate.entity.Transaction;
+import com.realestate.entity.Transaction.TransactionStatus;
+import com.realestate.entity.Transaction.TransactionType;
+import com.realestate.mapper.ClientMapper;
+import com.realestate.mapper.ClientMapperImpl;
+import com.realestate.mapper.ContractMapper;
+import com.realestate.mapper.ContractMapperImpl;
+import com.realestate.mapper.PropertyMapper;
+import com.realestate.mapper.PropertyMapperImpl;
+import com.realestate.mapper.TransactionMapper;
+import com.realestate.mapper.TransactionMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * エンティティ・DTO変換ベンチマーク
+ *
+ * 従来の手書き変換（各サービスの convertToDto）と、
+ * MapStructで生成されたマッパーの変換コストを比較します。
+ * 実行: ./gradlew jmh （-prof gc によりオブジェクト割り当て量も出力）
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private PropertyMapper propertyMapper;
+    private ClientMapper clientMapper;
+    private ContractMapper contractMapper;
+    private TransactionMapper transactionMapper;
+
+    private Property property;
+    private Client client;
+    private Contract contract;
+    private Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        propertyMapper = new PropertyMapperImpl();
+        clientMapper = new ClientMapperImpl();
+        contractMapper = new ContractMapperImpl(propertyMapper, clientMapper);
+        transactionMapper = new TransactionMapperImpl();
+
+        LocalDateTime now = LocalDateTime.now();
+
+        property = new Property();
+        property.setId(1L);
+        property.setName("サンプルマンション");
+        property.setAddress("東京都千代田区1-1-1");
+        property.setDescription("駅徒歩5分");
+        property.setType(PropertyType.APARTMENT);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal("45000000"));
+        property.setArea(new BigDecimal("65.5"));
+        property.setRooms(3);
+        property.setBathrooms(1);
+        property.setParkingSpaces(1);
+        property.setYearBuilt(2015);
+        property.setCreatedAt(now);
+        property.setUpdatedAt(now);
+
+        client = new Client();
+        client.setId(1L);
+        client.setFirstName("太郎");
+        client.setLastName("山田");
+        client.setEmail("taro@example.com");
+        client.setPhone("03-0000-0000");
+        client.setAddress("東京都港区2-2-2");
+        client.setType(ClientType.BUYER);
+        client.setStatus(ClientStatus.ACTIVE);
+        client.setCreatedAt(now);
+        client.setUpdatedAt(now);
+
+        contract = new Contract();
+        contract.setId(1L);
+        contract.setContractNumber("C-2025-0001");
+        contract.setProperty(property);
+        contract.setClient(client);
+        contract.setType(ContractType.SALE);
+        contract.setStatus(ContractStatus.ACTIVE);
+        contract.setAmount(new BigDecimal("45000000"));
+        contract.setMonthlyRent(BigDecimal.ZERO);
+        contract.setStartDate(now);
+        contract.setEndDate(now.plusYears(2));
+        contract.setTerms("標準契約条件");
+        contract.setCreatedAt(now);
+        contract.setUpdatedAt(now);
+
+        transaction = new Transaction();
+        transaction.setId(1L);
+        transaction.setContract(contract);
+        transaction.setType(TransactionType.PAYMENT);
+        transaction.setAmount(new BigDecimal("4500000"));
+        transaction.setTransactionDate(now);
+        transaction.setDescription("手付金");
+        transaction.setStatus(TransactionStatus.COMPLETED);
+        transaction.setCreatedAt(now);
+        transaction.setUpdatedAt(now);
+    }
+
+    @Benchmark
+    public PropertyDto propertyHandWritten() {
+        return legacyPropertyToDto(property);
+    }
+
+    @Benchmark
+    public PropertyDto propertyGenerated() {
+        return propertyMapper.toDto(property);
+    }
+
+    @Benchmark
+    public ClientDto clientHandWritten() {
+        return legacyClientToDto(client);
+    }
+
+    @Benchmark
+    public ClientDto clientGenerated() {
+        return clientMapper.toDto(client);
+    }
+
+    @Benchmark
+    public ContractDto contractHandWritten() {
+        return legacyContractToDto(contract);
+    }
+
+    @Benchmark
+    public ContractDto contractGenerated() {
+        return contractMapper.toDto(contract);
+    }
+
+    @Benchmark
+    public TransactionDto transactionHandWritten() {
+        return legacyTransactionToDto(transaction);
+    }
+
+    @Benchmark
+    public TransactionDto transactionGenerated() {
+        return transactionMapper.toDto(transaction);
+    }
+
+    // -------------------------------------------------------------------------
+    // 比較用：マッパー導入前の手書き変換処理
+    // -------------------------------------------------------------------------
+
+    private static PropertyDto legacyPropertyToDto(Property property) {
+        PropertyDto dto = new PropertyDto();
+        dto.setId(property.getId());
+        dto.setName(property.getName());
+        dto.setAddress(property.getAddress());
+        dto.setDescription(property.getDescription());
+        dto.setType(property.getType());
+        dto.setStatus(property.getStatus());
+        dto.setPrice(property.getPrice());
+        dto.setArea(property.getArea());
+        dto.setRooms(property.getRooms());
+        dto.setBathrooms(property.getBathrooms());
+        dto.setParkingSpaces(property.getParkingSpaces());
+        dto.setYearBuilt(property.getYearBuilt());
+        dto.setCreatedAt(property.getCreatedAt());
+        dto.setUpdatedAt(property.getUpdatedAt());
+        return dto;
+    }
+
+    private static ClientDto legacyClientToDto(Client client) {
+        ClientDto dto = new ClientDto();
+        dto.setId(client.getId());
+        dto.setFirstName(client.getFirstName());
+        dto.setLastName(client.getLastName());
+        dto.setEmail(client.getEmail());
+        dto.setPhone(client.getPhone());
+        dto.setAddress(client.getAddress());
+        dto.setType(client.getType());
+        dto.setStatus(client.getStatus());
+        dto.setCreatedAt(client.getCreatedAt());
+        dto.setUpdatedAt(client.getUpdatedAt());
+        return dto;
+    }
+
+    private static ContractDto legacyContractToDto(Contract contract) {
+        ContractDto dto = new ContractDto();
+        dto.setId(contract.getId());
+        dto.setContractNumber(contract.getContractNumber());
+        if (contract.getProperty() != null) {
+            PropertyDto propertyDto = new PropertyDto();
+            propertyDto.setId(contract.getProperty().getId());
+            propertyDto.setName(contract.getProperty().getName());
+            propertyDto.setAddress(contract.getProperty().getAddress());
+            propertyDto.setDescription(contract.getProperty().getDescription());
+            propertyDto.setType(contract.getProperty().getType());
+            propertyDto.setStatus(contract.getProperty().getStatus());
+            propertyDto.setPrice(contract.getProperty().getPrice());
+            propertyDto.setArea(contract.getProperty().getArea());
+            propertyDto.setRooms(contract.getProperty().getRooms());
+            propertyDto.setBathrooms(contract.getProperty().getBathrooms());
+            propertyDto.setParkingSpaces(contract.getProperty().getParkingSpaces());
+            propertyDto.setYearBuilt(contract.getProperty().getYearBuilt());
+            propertyDto.setCreatedAt(contract.getProperty().getCreatedAt());
+            propertyDto.setUpdatedAt(contract.getProperty().getUpdatedAt());
+            dto.setProperty(propertyDto);
+        }
+        if (contract.getClient() != null) {
+            ClientDto clientDto = new ClientDto();
+            clientDto.setId(contract.getClient().getId());
+            clientDto.setFirstName(contract.getClient().getFirstName());
+            clientDto.setLastName(contract.getClient().getLastName());
+            clientDto.setEmail(contract.getClient().getEmail());
+            clientDto.setPhone(contract.getClient().getPhone());
+            clientDto.setAddress(contract.getClient().getAddress());
+            clientDto.setType(contract.getClient().getType());
+            clientDto.setCreatedAt(contract.getClient().getCreatedAt());
+            clientDto.setUpdatedAt(contract.getClient().getUpdatedAt());
+            dto.setClient(clientDto);
+        }
+        if (contract.getProperty() != null) {
+            dto.setPropertyName(contract.getProperty().getName());
+        }
+        if (contract.getClient() != null) {
+            dto.setClientName(contract.getClient().getFirstName() + " " + contract.getClient().getLastName());
+        }
+        dto.setType(contract.getType());
+        dto.setStatus(contract.getStatus());
+        dto.setAmount(contract.getAmount());
+        dto.setMonthlyRent(contract.getMonthlyRent());
+        dto.setStartDate(contract.getStartDate());
+        dto.setEndDate(contract.getEndDate());
+        dto.setTerms(contract.getTerms());
+        dto.setCreatedAt(contract.getCreatedAt());
+        dto.setUpdatedAt(contract.getUpdatedAt());
+        return dto;
+    }
+
+    private static TransactionDto legacyTransactionToDto(Transaction transaction) {
+        TransactionDto dto = new TransactionDto();
+        dto.setId(transaction.getId());
+        dto.setContractId(transaction.getContract() != null ? transaction.getContract().getId() : null);
+        dto.setType(transaction.getType());
+        dto.setAmount(transaction.getAmount());
+        dto.setTransactionDate(transaction.getTransactionDate());
+        dto.setDescription(transaction.getDescription());
+        dto.setStatus(transaction.getStatus());
+        dto.setCreatedAt(transaction.getCreatedAt());
+        dto.setUpdatedAt(transaction.getUpdatedAt());
+        return dto;
+    }
+}
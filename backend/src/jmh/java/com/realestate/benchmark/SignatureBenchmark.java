@@ -0,0 +1,70 @@
+package com.realestate.benchmark;
+
+import com.realestate.signature.SignatureAlgorithm;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Security;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 電子署名アルゴリズムベンチマーク
+ *
+ * アルゴリズムごとの署名作成・署名検証のスループットを比較します。
+ * 署名対象は電子署名サービスと同じく文書ハッシュ（SHA-256のBase64文字列）です。
+ * 実行: ./gradlew jmh
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SignatureBenchmark {
+
+    @Param({"RSA_SHA256", "RSA_PSS", "ECDSA_P256", "ED25519"})
+    private SignatureAlgorithm algorithm;
+
+    private PrivateKey privateKey;
+    private PublicKey publicKey;
+
+    private byte[] documentHash;
+    private byte[] signature;
+
+    @Setup
+    public void setUp() throws Exception {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+
+        // 実際の署名と同じく、エンコード済みの鍵から復元した鍵を使用
+        KeyPair keyPair = algorithm.generateKeyPair();
+        privateKey = algorithm.privateKey(keyPair.getPrivate().getEncoded());
+        publicKey = algorithm.publicKey(keyPair.getPublic().getEncoded());
+
+        documentHash = "n4bQgYhMfWWaL+qgxVrQFaO/TxsrC4Is0V1sFbDwCgg=".getBytes(StandardCharsets.US_ASCII);
+        signature = algorithm.sign(privateKey, documentHash);
+    }
+
+    @Benchmark
+    public byte[] sign() throws Exception {
+        return algorithm.sign(privateKey, documentHash);
+    }
+
+    @Benchmark
+    public boolean verify() throws Exception {
+        return algorithm.verify(publicKey, documentHash, signature);
+    }
+}
@@ -0,0 +1,40 @@
+package com.realestate.archive;
+
+import com.realestate.dto.TransactionDto;
+import com.realestate.entity.Transaction.TransactionStatus;
+import com.realestate.entity.Transaction.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * アーカイブされた取引（アーカイブファイルの1行）
+ *
+ * @param id 取引ID
+ * @param contractId 契約ID
+ * @param type 取引タイプ
+ * @param amount 金額
+ * @param transactionDate 取引日時
+ * @param description 取引説明
+ * @param status 取引ステータス
+ * @param rentPeriod 賃料の対象期間（賃料スケジュールで生成された取引のみ）
+ * @param createdAt 作成日時
+ * @param updatedAt 更新日時
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record ArchivedTransaction(Long id, Long contractId, TransactionType type, BigDecimal amount,
+                                  LocalDateTime transactionDate, String description, TransactionStatus status,
+                                  LocalDate rentPeriod, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    /**
+     * 取引DTOに変換
+     * @return 取引DTO
+     */
+    public TransactionDto toDto() {
+        return new TransactionDto(id, contractId, type, amount, transactionDate, description, status,
+                createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,87 @@
+package com.realestate.archive;
+
+import com.realestate.entity.Transaction.TransactionStatus;
+import com.realestate.entity.Transaction.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * アーカイブ検索条件（nullの項目は条件なし）
+ *
+ * @param id 取引ID
+ * @param contractId 契約ID
+ * @param from 取引日時の下限（この日時を含む）
+ * @param to 取引日時の上限（この日時を含まない）
+ * @param type 取引タイプ
+ * @param status 取引ステータス
+ * @param minAmount 金額の下限
+ * @param maxAmount 金額の上限
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record TransactionArchiveQuery(Long id, Long contractId, LocalDateTime from, LocalDateTime to,
+                                      TransactionType type, TransactionStatus status,
+                                      BigDecimal minAmount, BigDecimal maxAmount) {
+
+    /**
+     * 全件の検索条件
+     * @return 検索条件
+     */
+    public static TransactionArchiveQuery all() {
+        return new TransactionArchiveQuery(null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * 取引IDによる検索条件
+     * @param id 取引ID
+     * @return 検索条件
+     */
+    public static TransactionArchiveQuery byId(Long id) {
+        return new TransactionArchiveQuery(id, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * 契約IDによる検索条件
+     * @param contractId 契約ID
+     * @return 検索条件
+     */
+    public static TransactionArchiveQuery byContractId(Long contractId) {
+        return new TransactionArchiveQuery(null, contractId, null, null, null, null, null, null);
+    }
+
+    /**
+     * 取引タイプによる検索条件
+     * @param type 取引タイプ
+     * @return 検索条件
+     */
+    public static TransactionArchiveQuery byType(TransactionType type) {
+        return new TransactionArchiveQuery(null, null, null, null, type, null, null, null);
+    }
+
+    /**
+     * 取引ステータスによる検索条件
+     * @param status 取引ステータス
+     * @return 検索条件
+     */
+    public static TransactionArchiveQuery byStatus(TransactionStatus status) {
+        return new TransactionArchiveQuery(null, null, null, null, null, status, null, null);
+    }
+
+    /**
+     * 取引が条件に一致するかどうか
+     * @param row アーカイブされた取引
+     * @return 一致する場合true
+     */
+    boolean matches(ArchivedTransaction row) {
+        return (id == null || id.equals(row.id()))
+                && (contractId == null || contractId.equals(row.contractId()))
+                && (from == null || !row.transactionDate().isBefore(from))
+                && (to == null || row.transactionDate().isBefore(to))
+                && (type == null || type == row.type())
+                && (status == null || status == row.status())
+                && (minAmount == null || row.amount().compareTo(minAmount) >= 0)
+                && (maxAmount == null || row.amount().compareTo(maxAmount) <= 0);
+    }
+}
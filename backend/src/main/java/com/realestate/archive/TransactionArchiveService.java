@@ -0,0 +1,466 @@
+package com.realestate.archive;
+
+import com.realestate.audit.AuditAction;
+import com.realestate.audit.AuditLogWriter;
+import com.realestate.dto.TransactionArchivePartitionDto;
+import com.realestate.dto.TransactionDto;
+import com.realestate.entity.Transaction.TransactionStatus;
+import com.realestate.entity.Transaction.TransactionType;
+import com.realestate.entity.TransactionArchivePartition;
+import com.realestate.repository.TransactionArchivePartitionRepository;
+import com.realestate.service.ContractListViewService;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 取引アーカイブサービスクラス
+ *
+ * 取引を取引日の月ごとに分割し、保持期間（既定24か月）を過ぎて締められた月の取引を
+ * 取引テーブルから圧縮ファイル（{@link TransactionArchiveStore}）へ移動します。
+ * 取引テーブルには直近の取引のみが残るため、直近の月の検索は履歴の長さに関係なく一定の速さを保ちます。
+ *
+ * <ul>
+ *   <li>締め処理：最も古い月から順に、未処理（PENDING）の取引が無い月をアーカイブします。
+ *       未処理の取引が残る月に達した時点で終了し、締め済みの期間は常に連続します
+ *       （未処理の取引が1件でも残る月以降は締められないため、賃料スケジュールは過去の月の支払予定を生成しません）</li>
+ *   <li>締め済みの期間（{@link #closedBefore()} より前）と締め処理中の月の取引は登録・変更できません。
+ *       締め処理は月の取引を行ロックして読み込み、同じトランザクションで削除するため、処理中の変更は失われません</li>
+ *   <li>検索：パーティションごとに期間・取引ID・金額の範囲、取引タイプ・ステータス・契約IDの集合を保持し、
+ *       条件と重ならないパーティションは読み込みません</li>
+ * </ul>
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+public class TransactionArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionArchiveService.class);
+
+    private static final String OLDEST_TRANSACTION_SQL = "SELECT MIN(transaction_date) FROM transactions";
+
+    private static final String COUNT_PENDING_SQL = "SELECT COUNT(*) FROM transactions "
+            + "WHERE transaction_date >= ? AND transaction_date < ? AND status = ?";
+
+    private static final String SELECT_PERIOD_SQL = "SELECT id, contract_id, type, amount, transaction_date, "
+            + "description, status, rent_period, created_at, updated_at FROM transactions "
+            + "WHERE transaction_date >= ? AND transaction_date < ? ORDER BY id FOR UPDATE";
+
+    private static final String DELETE_PERIOD_SQL =
+            "DELETE FROM transactions WHERE transaction_date >= ? AND transaction_date < ?";
+
+    private final TransactionArchivePartitionRepository partitionRepository;
+
+    private final TransactionArchiveStore store;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ContractListViewService contractListViewService;
+
+    private final AuditLogWriter auditLogWriter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 保持期間（月数）。当月を含めてこの月数より前の月が締め処理の対象
+     */
+    private final int retentionMonths;
+
+    /**
+     * 読み込み時のフェッチサイズ
+     */
+    private final int fetchSize;
+
+    /**
+     * 締め処理の多重実行防止
+     */
+    private final ReentrantLock archiveLock = new ReentrantLock();
+
+    /**
+     * パーティション情報（検索時の絞り込み用、期間順）
+     */
+    private volatile List<Partition> partitions = List.of();
+
+    /**
+     * 締め処理中の月の終わり（締め処理中はこの日時より前の取引も登録・変更できない）
+     */
+    private volatile LocalDateTime archivingBefore;
+
+    public TransactionArchiveService(TransactionArchivePartitionRepository partitionRepository,
+                                     TransactionArchiveStore store,
+                                     JdbcTemplate jdbcTemplate,
+                                     ContractListViewService contractListViewService,
+                                     AuditLogWriter auditLogWriter,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.archive.retention-months:24}") int retentionMonths,
+                                     @Value("${app.archive.fetch-size:1000}") int fetchSize) {
+        this.partitionRepository = partitionRepository;
+        this.store = store;
+        this.jdbcTemplate = jdbcTemplate;
+        this.contractListViewService = contractListViewService;
+        this.auditLogWriter = auditLogWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionMonths = Math.max(1, retentionMonths);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 起動時にパーティション情報を読み込み
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPartitions() {
+        partitions = partitionRepository.findAllByOrderByPeriodAsc().stream()
+                .map(Partition::of)
+                .toList();
+    }
+
+    /**
+     * 締め済み期間の終わり（この日時より前の取引はアーカイブ済みで変更できない）
+     * @return 締め済み期間の終わり（アーカイブが無い場合は空）
+     */
+    public Optional<LocalDateTime> closedBefore() {
+        List<Partition> current = partitions;
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(current.get(current.size() - 1).end());
+    }
+
+    /**
+     * 取引日時が締め済みの期間に含まれる場合は例外を送出
+     * @param transactionDate 取引日時
+     * @throws IllegalArgumentException 締め済みの期間の場合
+     */
+    public void checkOpen(LocalDateTime transactionDate) {
+        Optional<LocalDateTime> closed = Optional.ofNullable(archivingBefore).or(this::closedBefore);
+        if (transactionDate != null && closed.isPresent() && transactionDate.isBefore(closed.get())) {
+            throw new IllegalArgumentException("締め済みの期間の取引は登録・変更できません: " + transactionDate);
+        }
+    }
+
+    /**
+     * アーカイブ済みパーティションの一覧
+     * @return パーティションDTOのリスト（期間順）
+     */
+    public List<TransactionArchivePartitionDto> getPartitions() {
+        return partitions.stream().map(Partition::toDto).toList();
+    }
+
+    /**
+     * アーカイブから取引を検索（条件と重なるパーティションのみ読み込み）
+     * @param query 検索条件
+     * @return 該当する取引DTOのリスト（取引日時・ID順）
+     */
+    public List<TransactionDto> find(TransactionArchiveQuery query) {
+        List<TransactionDto> result = new ArrayList<>();
+        for (Partition partition : partitions) {
+            if (!partition.mayContain(query)) {
+                continue;
+            }
+            store.read(partition.fileName(), row -> {
+                if (query.matches(row)) {
+                    result.add(row.toDto());
+                }
+            });
+            if (query.id() != null && !result.isEmpty()) {
+                break;
+            }
+        }
+        result.sort(Comparator.comparing(TransactionDto::getTransactionDate).thenComparing(TransactionDto::getId));
+        return result;
+    }
+
+    /**
+     * アーカイブの取引を1件ずつ読み込み（条件と重なるパーティションのみ、結果を保持しない）
+     * 取引は月の古い順、月内は取引ID順に渡します
+     * @param query 検索条件
+     * @param consumer 条件に一致した取引を受け取る処理
+     */
+    public void forEach(TransactionArchiveQuery query, Consumer<ArchivedTransaction> consumer) {
+        for (Partition partition : partitions) {
+            if (partition.mayContain(query)) {
+                store.read(partition.fileName(), row -> {
+                    if (query.matches(row)) {
+                        consumer.accept(row);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * 締め処理（スケジュール実行）
+     */
+    @Scheduled(cron = "${app.archive.cron:0 30 3 1 * *}")
+    public void scheduledArchive() {
+        if (archiveClosedPeriods().isEmpty()) {
+            log.warn("取引の締め処理が実行中のため、今回の実行をスキップしました");
+        }
+    }
+
+    /**
+     * 保持期間を過ぎた月の取引をアーカイブへ移動
+     * @return 今回アーカイブしたパーティション（既に実行中の場合は空）
+     */
+    public Optional<List<TransactionArchivePartitionDto>> archiveClosedPeriods() {
+        if (!archiveLock.tryLock()) {
+            return Optional.empty();
+        }
+        try {
+            LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths - 1L);
+            List<TransactionArchivePartitionDto> archived = new ArrayList<>();
+            Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_TRANSACTION_SQL, Timestamp.class);
+            LocalDate period = oldest != null ? oldest.toLocalDateTime().toLocalDate().withDayOfMonth(1) : cutoff;
+            for (; period.isBefore(cutoff); period = period.plusMonths(1)) {
+                Timestamp from = Timestamp.valueOf(period.atStartOfDay());
+                Timestamp to = Timestamp.valueOf(period.plusMonths(1).atStartOfDay());
+                // 読み込み前に締め処理中の月への登録・変更を受け付けないようにする
+                archivingBefore = to.toLocalDateTime();
+                Integer pending = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Integer.class,
+                        from, to, TransactionStatus.PENDING.name());
+                if (pending != null && pending > 0) {
+                    log.info("未処理の取引が{}件あるため、{}以降は締め処理を行いません", pending, period);
+                    break;
+                }
+                Optional<Partition> partition = archivePeriod(period, from, to);
+                if (partition.isPresent()) {
+                    List<Partition> updated = new ArrayList<>(partitions);
+                    updated.add(partition.get());
+                    partitions = List.copyOf(updated);
+                    archived.add(partition.get().toDto());
+                }
+            }
+            if (!archived.isEmpty()) {
+                contractListViewService.rebuild();
+            }
+            return Optional.of(archived);
+        } finally {
+            archivingBefore = null;
+            archiveLock.unlock();
+        }
+    }
+
+    /**
+     * 1か月分の取引をアーカイブへ移動
+     * 取引の読み込み（行ロック付き）・ファイルの書き込み・パーティションの記録・取引の削除を1トランザクションで行います。
+     * 締め処理の開始前に受け付けた変更は行ロックによりコミットを待ってから読み込むため、
+     * 変更前の値がアーカイブされて変更が失われることはありません。
+     * 削除件数が書き込んだ件数と異なる場合（書き込み中に取引が追加された場合）や、
+     * 未処理の取引が含まれる場合は取り消します
+     */
+    private Optional<Partition> archivePeriod(LocalDate period, Timestamp from, Timestamp to) {
+        try (TransactionArchiveStore.PartitionWriter writer = store.open(period)) {
+            PartitionStats stats = new PartitionStats();
+            try {
+                TransactionArchivePartition saved = transactionTemplate.execute(status -> {
+                    jdbcTemplate.query(connection -> {
+                        var statement = connection.prepareStatement(SELECT_PERIOD_SQL);
+                        statement.setFetchSize(fetchSize);
+                        statement.setTimestamp(1, from);
+                        statement.setTimestamp(2, to);
+                        return statement;
+                    }, (RowCallbackHandler) resultSet -> {
+                        ArchivedTransaction row = toRow(resultSet);
+                        try {
+                            writer.append(row);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        stats.add(row);
+                    });
+                    if (stats.rowCount == 0) {
+                        return null;
+                    }
+                    if (stats.statuses.contains(TransactionStatus.PENDING)) {
+                        throw new IllegalStateException("締め処理中に未処理の取引が登録・変更されました: " + period);
+                    }
+                    long compressedBytes;
+                    try {
+                        compressedBytes = writer.commit();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("アーカイブファイルを書き込めません: " + period, e);
+                    }
+                    int deleted = jdbcTemplate.update(DELETE_PERIOD_SQL, from, to);
+                    if (deleted != stats.rowCount) {
+                        throw new IllegalStateException("締め処理中に取引が変更されました: " + period);
+                    }
+                    auditLogWriter.appendAfterCommit("Transaction", "archive:" + period, AuditAction.BULK,
+                            Map.of("archived", stats.rowCount, "file", store.fileName(period)));
+                    return partitionRepository.save(stats.toEntity(period, store.fileName(period), compressedBytes));
+                });
+                if (saved == null) {
+                    return Optional.empty();
+                }
+                log.info("取引をアーカイブしました: {} {}件 ({}バイト)", period, stats.rowCount,
+                        saved.getCompressedBytes());
+                return Optional.of(Partition.of(saved));
+            } catch (RuntimeException e) {
+                writer.discard();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("アーカイブファイルを書き込めません: " + period, e);
+        }
+    }
+
+    private static ArchivedTransaction toRow(ResultSet resultSet) throws SQLException {
+        Date rentPeriod = resultSet.getDate("rent_period");
+        return new ArchivedTransaction(
+                resultSet.getLong("id"),
+                resultSet.getLong("contract_id"),
+                TransactionType.valueOf(resultSet.getString("type")),
+                resultSet.getBigDecimal("amount"),
+                resultSet.getTimestamp("transaction_date").toLocalDateTime(),
+                resultSet.getString("description"),
+                TransactionStatus.valueOf(resultSet.getString("status")),
+                rentPeriod != null ? rentPeriod.toLocalDate() : null,
+                resultSet.getTimestamp("created_at").toLocalDateTime(),
+                resultSet.getTimestamp("updated_at").toLocalDateTime());
+    }
+
+    /**
+     * 書き込み中のパーティションの集計
+     */
+    private static final class PartitionStats {
+
+        private long rowCount;
+
+        private long minId = Long.MAX_VALUE;
+
+        private long maxId = Long.MIN_VALUE;
+
+        private BigDecimal minAmount;
+
+        private BigDecimal maxAmount;
+
+        private final EnumSet<TransactionType> types = EnumSet.noneOf(TransactionType.class);
+
+        private final EnumSet<TransactionStatus> statuses = EnumSet.noneOf(TransactionStatus.class);
+
+        private final RoaringBitmap contractIds = new RoaringBitmap();
+
+        void add(ArchivedTransaction row) {
+            rowCount++;
+            minId = Math.min(minId, row.id());
+            maxId = Math.max(maxId, row.id());
+            minAmount = minAmount == null || row.amount().compareTo(minAmount) < 0 ? row.amount() : minAmount;
+            maxAmount = maxAmount == null || row.amount().compareTo(maxAmount) > 0 ? row.amount() : maxAmount;
+            types.add(row.type());
+            statuses.add(row.status());
+            contractIds.add(row.contractId().intValue());
+        }
+
+        TransactionArchivePartition toEntity(LocalDate period, String fileName, long compressedBytes) {
+            contractIds.runOptimize();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(contractIds.serializedSizeInBytes());
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                contractIds.serialize(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new TransactionArchivePartition(null, period, fileName, rowCount, compressedBytes,
+                    minId, maxId, minAmount, maxAmount, join(types), join(statuses), bytes.toByteArray(),
+                    LocalDateTime.now());
+        }
+
+        private static String join(Set<? extends Enum<?>> values) {
+            return values.stream().map(Enum::name).collect(Collectors.joining(","));
+        }
+    }
+
+    /**
+     * 検索時に使用するパーティション情報
+     */
+    private record Partition(LocalDate period, String fileName, long rowCount, long compressedBytes,
+                             long minId, long maxId, BigDecimal minAmount, BigDecimal maxAmount,
+                             Set<TransactionType> types, Set<TransactionStatus> statuses,
+                             RoaringBitmap contractIds, LocalDateTime archivedAt) {
+
+        static Partition of(TransactionArchivePartition entity) {
+            RoaringBitmap contractIds = new RoaringBitmap();
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(entity.getContractIds()))) {
+                contractIds.deserialize(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Partition(entity.getPeriod(), entity.getFileName(), entity.getRowCount(),
+                    entity.getCompressedBytes(), entity.getMinId(), entity.getMaxId(),
+                    entity.getMinAmount(), entity.getMaxAmount(),
+                    parse(entity.getTypes(), TransactionType.class),
+                    parse(entity.getStatuses(), TransactionStatus.class),
+                    contractIds, entity.getArchivedAt());
+        }
+
+        LocalDateTime start() {
+            return period.atStartOfDay();
+        }
+
+        LocalDateTime end() {
+            return period.plusMonths(1).atStartOfDay();
+        }
+
+        /**
+         * 条件に一致する取引が含まれる可能性があるかどうか
+         */
+        boolean mayContain(TransactionArchiveQuery query) {
+            return (query.from() == null || query.from().isBefore(end()))
+                    && (query.to() == null || query.to().isAfter(start()))
+                    && (query.id() == null || (query.id() >= minId && query.id() <= maxId))
+                    && (query.type() == null || types.contains(query.type()))
+                    && (query.status() == null || statuses.contains(query.status()))
+                    && (query.minAmount() == null || maxAmount.compareTo(query.minAmount()) >= 0)
+                    && (query.maxAmount() == null || minAmount.compareTo(query.maxAmount()) <= 0)
+                    && (query.contractId() == null || query.contractId() > Integer.MAX_VALUE
+                        || contractIds.contains(query.contractId().intValue()));
+        }
+
+        TransactionArchivePartitionDto toDto() {
+            return new TransactionArchivePartitionDto(period, rowCount, compressedBytes, minAmount, maxAmount,
+                    types, statuses, contractIds.getCardinality(), archivedAt);
+        }
+
+        private static <E extends Enum<E>> Set<E> parse(String values, Class<E> type) {
+            EnumSet<E> result = EnumSet.noneOf(type);
+            if (!values.isEmpty()) {
+                Arrays.stream(values.split(",")).map(value -> Enum.valueOf(type, value)).forEach(result::add);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.realestate.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 取引アーカイブファイルの読み書き
+ *
+ * 1か月分の取引を1ファイル（gzip圧縮のNDJSON、取引ID順）として保存します。
+ * 書き込みは一時ファイルに行い、ディスクへの同期後に正式なファイル名へ移動するため、
+ * 途中で異常終了しても不完全なファイルが読まれることはありません。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class TransactionArchiveStore {
+
+    private static final DateTimeFormatter FILE_PERIOD = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+
+    private final ObjectWriter writer;
+
+    private final ObjectReader reader;
+
+    public TransactionArchiveStore(ObjectMapper objectMapper,
+                                   @Value("${app.archive.directory:./data/archive/transactions}") String directory) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.writer = objectMapper.writerFor(ArchivedTransaction.class);
+        this.reader = objectMapper.readerFor(ArchivedTransaction.class);
+    }
+
+    /**
+     * 対象月のアーカイブファイル名
+     * @param period 対象月（月の初日）
+     * @return ファイル名
+     */
+    public String fileName(LocalDate period) {
+        return "transactions-" + FILE_PERIOD.format(period) + ".ndjson.gz";
+    }
+
+    /**
+     * 対象月の一時ファイルへの書き込みを開始
+     * @param period 対象月（月の初日）
+     * @return 書き込み
+     * @throws IOException 入出力エラー
+     */
+    public PartitionWriter open(LocalDate period) throws IOException {
+        Files.createDirectories(directory);
+        return new PartitionWriter(directory.resolve(fileName(period) + ".tmp"),
+                directory.resolve(fileName(period)));
+    }
+
+    /**
+     * アーカイブファイルを先頭から読み込み
+     * @param fileName アーカイブファイル名
+     * @param consumer 取引ごとの処理
+     */
+    public void read(String fileName, Consumer<ArchivedTransaction> consumer) {
+        Path file = directory.resolve(fileName);
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    consumer.accept(reader.readValue(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("アーカイブファイルを読み込めません: " + file, e);
+        }
+    }
+
+    /**
+     * 1か月分のアーカイブファイルの書き込み
+     * {@link #commit()} を呼ばずに閉じた場合は一時ファイルを削除します
+     */
+    public final class PartitionWriter implements Closeable {
+
+        private final Path temporary;
+
+        private final Path target;
+
+        private final FileOutputStream file;
+
+        private final GZIPOutputStream gzip;
+
+        private final Writer out;
+
+        private boolean committed;
+
+        private PartitionWriter(Path temporary, Path target) throws IOException {
+            this.temporary = temporary;
+            this.target = target;
+            this.file = new FileOutputStream(temporary.toFile());
+            this.gzip = new GZIPOutputStream(new BufferedOutputStream(file, BUFFER_SIZE), BUFFER_SIZE);
+            this.out = new OutputStreamWriter(gzip, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * 取引を1行追加
+         * @param row 取引
+         * @throws IOException 入出力エラー
+         */
+        public void append(ArchivedTransaction row) throws IOException {
+            out.write(writer.writeValueAsString(row));
+            out.write('\n');
+        }
+
+        /**
+         * 書き込みを完了し、ディスクへ同期してから正式なファイル名へ移動
+         * @return 圧縮後のファイルサイズ（バイト）
+         * @throws IOException 入出力エラー
+         */
+        public long commit() throws IOException {
+            out.flush();
+            gzip.finish();
+            gzip.flush();
+            file.getFD().sync();
+            out.close();
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+            return Files.size(target);
+        }
+
+        /**
+         * コミット済みのファイルを削除（データベースへの記録に失敗した場合）
+         * @throws IOException 入出力エラー
+         */
+        public void discard() throws IOException {
+            Files.deleteIfExists(target);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                try {
+                    out.close();
+                } finally {
+                    Files.deleteIfExists(temporary);
+                }
+            }
+        }
+    }
+}
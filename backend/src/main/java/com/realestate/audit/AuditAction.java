@@ -0,0 +1,19 @@
+package com.realestate.audit;
+
+/**
+ * 監査ログの操作種別
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public enum AuditAction {
+    /** 作成 */
+    CREATE,
+    /** 更新 */
+    UPDATE,
+    /** 削除 */
+    DELETE,
+    /** 一括処理（JDBCによる一括登録・削除など、行ごとの記録を行わない変更） */
+    BULK
+}
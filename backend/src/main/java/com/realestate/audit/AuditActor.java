@@ -0,0 +1,46 @@
+package com.realestate.audit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 監査ログの操作者の特定
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public final class AuditActor {
+
+    /**
+     * 操作者を指定するリクエストヘッダー
+     */
+    public static final String HEADER = "X-User-Id";
+
+    /**
+     * リクエスト外（スケジュール実行・バックグラウンド処理）の操作者
+     */
+    public static final String SYSTEM = "system";
+
+    private AuditActor() {
+    }
+
+    /**
+     * 現在の操作者
+     * @return X-User-Id ヘッダーの値（無い場合は anonymous@接続元アドレス、リクエスト外は system）
+     */
+    public static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            HttpServletRequest request = servlet.getRequest();
+            String user = request.getHeader(HEADER);
+            if (user != null && !user.isBlank()) {
+                return user.strip();
+            }
+            return "anonymous@" + request.getRemoteAddr();
+        }
+        return SYSTEM;
+    }
+}
@@ -0,0 +1,187 @@
+package com.realestate.audit;
+
+import com.realestate.entity.BiometricData;
+import com.realestate.entity.Contract;
+import com.realestate.entity.DigitalSignature;
+import com.realestate.entity.Transaction;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * エンティティ変更の監査ログ記録（Hibernateのコミット後イベント）
+ *
+ * 契約・取引・電子署名・生体認証データの作成・更新・削除を、トランザクションのコミット後に
+ * {@link AuditLogWriter} へ渡します。ロールバックされた変更は記録されません。
+ * 更新時は変更された項目の変更前・変更後の値を記録し、関連エンティティはIDのみを記録します。
+ * 生体認証テンプレート・署名値などの機微な値は、値そのものではなくSHA-256ハッシュを記録します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class AuditEntityListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    /**
+     * 監査対象のエンティティ
+     */
+    private static final Set<Class<?>> AUDITED_TYPES = Set.of(
+            Contract.class, Transaction.class, DigitalSignature.class, BiometricData.class);
+
+    /**
+     * 値の代わりにハッシュを記録する項目
+     */
+    private static final Set<String> DIGEST_PROPERTIES = Set.of("biometricData", "signatureData");
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final AuditLogWriter auditLogWriter;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public AuditEntityListener(AuditLogWriter auditLogWriter, EntityManagerFactory entityManagerFactory) {
+        this.auditLogWriter = auditLogWriter;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Hibernateのイベントリスナーとして登録
+     */
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return AUDITED_TYPES.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (!requiresPostCommitHandling(event.getPersister())) {
+            return;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        Object[] state = event.getState();
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (!(state[i] instanceof Collection<?>) && !(state[i] instanceof PersistentCollection<?>)) {
+                changes.put(names[i], normalize(names[i], state[i], event.getSession()));
+            }
+        }
+        append(event.getPersister(), event.getId(), AuditAction.CREATE, changes);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!requiresPostCommitHandling(event.getPersister())) {
+            return;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        Object[] state = event.getState();
+        Object[] oldState = event.getOldState();
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (state[i] instanceof PersistentCollection<?>) {
+                continue;
+            }
+            Object newValue = normalize(names[i], state[i], event.getSession());
+            Object oldValue = oldState != null ? normalize(names[i], oldState[i], event.getSession()) : null;
+            if (oldState != null && Objects.equals(oldValue, newValue)) {
+                continue;
+            }
+            Map<String, Object> change = new LinkedHashMap<>();
+            change.put("old", oldValue);
+            change.put("new", newValue);
+            changes.put(names[i], change);
+        }
+        append(event.getPersister(), event.getId(), AuditAction.UPDATE, changes);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            append(event.getPersister(), event.getId(), AuditAction.DELETE, Map.of());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // ロールバックされた変更は記録しない
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // ロールバックされた変更は記録しない
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // ロールバックされた変更は記録しない
+    }
+
+    private void append(EntityPersister persister, Object id, AuditAction action, Map<String, Object> changes) {
+        auditLogWriter.appendCommitted(new AuditEntry(Instant.now(), AuditActor.current(),
+                persister.getMappedClass().getSimpleName(), String.valueOf(id), action, changes));
+    }
+
+    /**
+     * 記録する値に変換（関連エンティティはID、機微な値はハッシュ）
+     */
+    private static Object normalize(String property, Object value, SharedSessionContractImplementor session) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        EntityPersister persister = session.getFactory().getMappingMetamodel()
+                .findEntityDescriptor(value.getClass());
+        if (persister != null) {
+            return persister.getIdentifier(value, session);
+        }
+        if (value instanceof byte[] bytes) {
+            return digest(bytes);
+        }
+        if (DIGEST_PROPERTIES.contains(property)) {
+            return digest(value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return value;
+    }
+
+    private static String digest(byte[] bytes) {
+        MessageDigest digest = AuditSegment.newDigest();
+        return "sha256:" + HEX.formatHex(digest.digest(bytes));
+    }
+}
@@ -0,0 +1,21 @@
+package com.realestate.audit;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 監査ログへ書き込む変更内容（連番・ハッシュは書き込み時に付与）
+ *
+ * @param occurredAt 発生日時
+ * @param actor 操作者（リクエストの X-User-Id ヘッダー、無い場合は接続元アドレス。バックグラウンド処理は system）
+ * @param entityType エンティティ種別（クラス名）
+ * @param entityId エンティティID
+ * @param action 操作種別
+ * @param changes 変更内容（項目名→値、更新時は項目名→{old, new}）
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record AuditEntry(Instant occurredAt, String actor, String entityType, String entityId,
+                         AuditAction action, Map<String, Object> changes) {
+}
@@ -0,0 +1,213 @@
+package com.realestate.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestate.dto.AuditRecordDto;
+import com.realestate.dto.AuditVerificationDto;
+import com.realestate.entity.AuditLogIndexEntry;
+import com.realestate.repository.AuditLogIndexRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 監査ログの検索・検証サービスクラス
+ *
+ * 検索は索引（{@code audit_log_index}）でレコードの位置を特定し、セグメントファイルから該当行のみを読み込みます。
+ * 検証はセグメントごとに並列で全レコードのハッシュを再計算し、最後にセグメント間の連結を確認します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+public class AuditLogService {
+
+    /**
+     * 1回の検索で返す件数の上限
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    private final AuditLogWriter auditLogWriter;
+
+    private final AuditLogIndexRepository indexRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService verifyPool;
+
+    public AuditLogService(AuditLogWriter auditLogWriter,
+                           AuditLogIndexRepository indexRepository,
+                           ObjectMapper objectMapper,
+                           @Value("${app.audit.verify-workers:0}") int verifyWorkers) {
+        this.auditLogWriter = auditLogWriter;
+        this.indexRepository = indexRepository;
+        this.objectMapper = objectMapper;
+        int threads = verifyWorkers > 0 ? verifyWorkers : Runtime.getRuntime().availableProcessors();
+        this.verifyPool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "audit-log-verify");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        verifyPool.shutdownNow();
+    }
+
+    /**
+     * 監査ログの検索（連番順）
+     *
+     * @param entityType エンティティ種別（nullの場合は全エンティティ）
+     * @param entityId エンティティID（エンティティ種別を指定した場合は必須）
+     * @param from 発生日時の下限（この日時を含む）
+     * @param to 発生日時の上限（この日時を含まない）
+     * @param limit 最大件数
+     * @return 監査ログレコードDTOのリスト
+     */
+    public List<AuditRecordDto> find(String entityType, String entityId, LocalDateTime from, LocalDateTime to,
+                                     int limit) {
+        if (entityType != null && entityId == null) {
+            throw new IllegalArgumentException("エンティティ種別を指定する場合はエンティティIDも指定してください");
+        }
+        PageRequest page = PageRequest.of(0, limit <= 0 ? MAX_LIMIT : Math.min(limit, MAX_LIMIT));
+        List<AuditLogIndexEntry> entries = entityType != null
+                ? indexRepository.findByEntityTypeAndEntityIdAndOccurredAtGreaterThanEqualAndOccurredAtLessThanOrderBySequenceAsc(
+                        entityType, entityId, from, to, page)
+                : indexRepository.findByOccurredAtGreaterThanEqualAndOccurredAtLessThanOrderBySequenceAsc(
+                        from, to, page);
+        List<AuditRecordDto> records = new ArrayList<>(entries.size());
+        for (AuditLogIndexEntry entry : entries) {
+            records.add(read(entry));
+        }
+        return records;
+    }
+
+    /**
+     * 全セグメントの改ざん・欠落の検証
+     * @return 検証結果
+     */
+    public AuditVerificationDto verify() {
+        long started = System.nanoTime();
+        try {
+            List<Path> segments = AuditSegment.list(auditLogWriter.directory());
+            List<Future<SegmentResult>> futures = new ArrayList<>(segments.size());
+            for (Path segment : segments) {
+                futures.add(verifyPool.submit(() -> verifySegment(segment)));
+            }
+            List<String> problems = new ArrayList<>();
+            long records = 0;
+            SegmentResult previous = null;
+            for (Future<SegmentResult> future : futures) {
+                SegmentResult result = future.get();
+                problems.addAll(result.problems());
+                records += result.records();
+                if (result.records() == 0) {
+                    continue;
+                }
+                // セグメント間の連結（前のセグメントの最後のレコードとの連結・連番の連続）
+                String expectedHash = previous != null ? previous.lastHash() : AuditSegment.GENESIS_HASH;
+                long expectedSequence = previous != null ? previous.lastSequence() + 1 : 1;
+                if (!result.firstPreviousHash().equals(expectedHash)) {
+                    problems.add(result.name() + ": 前のセグメントとハッシュが連結していません");
+                }
+                if (result.firstSequence() != expectedSequence) {
+                    problems.add(result.name() + ": 連番が連続していません（期待値 " + expectedSequence
+                            + "、実際 " + result.firstSequence() + "）");
+                }
+                previous = result;
+            }
+            long lostRecords = auditLogWriter.lostRecords();
+            if (lostRecords > 0) {
+                problems.add("起動後に書き込めなかったレコードがあります: " + lostRecords + "件（エラーログを参照）");
+            }
+            return new AuditVerificationDto(problems.isEmpty(), segments.size(), records,
+                    previous != null ? previous.lastHash() : AuditSegment.GENESIS_HASH, lostRecords, problems,
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("監査ログの検証に失敗しました", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("監査ログの検証が中断されました", e);
+        }
+    }
+
+    private SegmentResult verifySegment(Path segment) throws IOException {
+        MessageDigest digest = AuditSegment.newDigest();
+        String name = segment.getFileName().toString();
+        List<String> problems = new ArrayList<>();
+        SegmentResult[] state = {new SegmentResult(name, 0, null, 0, null, 0, problems)};
+        AuditSegment.ScanResult scan = AuditSegment.scan(segment, (offset, length, line) -> {
+            SegmentResult current = state[0];
+            long sequence = AuditSegment.sequenceOf(line.payload());
+            if (!AuditSegment.hash(digest, line.previousHash(), line.payload()).equals(line.hash())) {
+                problems.add(name + " 位置" + offset + ": 内容がハッシュと一致しません（連番 " + sequence + "）");
+            }
+            if (current.records() > 0) {
+                if (!line.previousHash().equals(current.lastHash())) {
+                    problems.add(name + " 位置" + offset + ": 直前のレコードと連結していません（連番 " + sequence + "）");
+                }
+                if (sequence != current.lastSequence() + 1) {
+                    problems.add(name + " 位置" + offset + ": 連番が連続していません（連番 " + sequence + "）");
+                }
+            }
+            state[0] = new SegmentResult(name, current.records() + 1,
+                    current.records() == 0 ? line.previousHash() : current.firstPreviousHash(),
+                    current.records() == 0 ? sequence : current.firstSequence(),
+                    line.hash(), sequence, problems);
+        });
+        if (scan.invalidLine()) {
+            problems.add(name + " 位置" + scan.validEnd() + ": 形式が不正な行があります");
+        }
+        return state[0];
+    }
+
+    private AuditRecordDto read(AuditLogIndexEntry entry) {
+        Path file = auditLogWriter.directory().resolve(AuditSegment.fileName(entry.getSegment()));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(entry.getLength());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, entry.getFileOffset() + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            String text = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).stripTrailing();
+            AuditSegment.Line line = AuditSegment.parse(text);
+            if (line == null) {
+                throw new IllegalStateException("監査ログのレコードを読み込めません: 連番 " + entry.getSequence());
+            }
+            AuditRecordDto record = objectMapper.readValue(line.payload(), AuditRecordDto.class);
+            record.setPreviousHash(line.previousHash());
+            record.setHash(line.hash());
+            return record;
+        } catch (IOException e) {
+            throw new UncheckedIOException("監査ログを読み込めません: " + file, e);
+        }
+    }
+
+    /**
+     * セグメントごとの検証結果
+     */
+    private record SegmentResult(String name, long records, String firstPreviousHash, long firstSequence,
+                                 String lastHash, long lastSequence, List<String> problems) {
+    }
+}
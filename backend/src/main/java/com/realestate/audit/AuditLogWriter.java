@@ -0,0 +1,494 @@
+package com.realestate.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestate.repository.AuditLogIndexRepository;
+import com.realestate.search.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 監査ログ書き込みコンポーネント（グループコミット）
+ *
+ * 変更内容をキューに受け付け、専用スレッドがまとめて（既定で最大512件、最初の1件から最大2ms待機）
+ * セグメントファイルへ追記し、1回のfsyncで永続化します。
+ * コミット後の記録（{@link #appendCommitted(AuditEntry)}）は、トランザクションの完了処理の最後に
+ * そのトランザクションの全レコードがfsyncされるまで最大 commit-wait-ms 待機するため、
+ * 応答を返した変更の記録は通常は永続化済みです。
+ *
+ * 各レコードは直前のレコードのハッシュを含めたSHA-256で連結され（{@link AuditSegment}）、
+ * 途中のレコードの改ざん・削除は以降の全レコードのハッシュの不一致として検出されます。
+ * セグメントファイルは既定64MBを超えると次のファイルへ切り替え、書き込み済みのファイルは変更しません。
+ *
+ * 起動時は最後のセグメントの書き込み途中の行を切り詰めてハッシュの連結を再開し、
+ * 索引（{@code audit_log_index}）に無いレコードをセグメントから補います。
+ * 待機時間を過ぎてもキューに残っているレコードは異常終了時に失われることがあります（件数は
+ * {@link #delayedRecords()}）。書き込みに失敗したレコードは件数（{@link #lostRecords()}）と内容をエラーログに残し、
+ * 検証結果で報告します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_INDEX_SQL = "INSERT INTO audit_log_index "
+            + "(sequence, entity_type, entity_id, action, occurred_at, segment, file_offset, length) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final Path directory;
+
+    private final ObjectMapper objectMapper;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AuditLogIndexRepository indexRepository;
+
+    /**
+     * 1回のfsyncでまとめて書き込む最大件数
+     */
+    private final int maxBatch;
+
+    /**
+     * 最初の1件を受け付けてから後続を待つ最大時間（ナノ秒）
+     */
+    private final long groupCommitNanos;
+
+    /**
+     * セグメントファイルの切り替えサイズ（バイト）
+     */
+    private final long segmentBytes;
+
+    /**
+     * コミット後の記録で永続化を待つ最大時間（ミリ秒）
+     */
+    private final long commitWaitMillis;
+
+    /**
+     * トランザクションごとの永続化待ちのレコード（トランザクションリソースのキー）
+     */
+    private final Object commitWaitKey = new Object();
+
+    private final BlockingQueue<Pending> queue;
+
+    /**
+     * 書き込みに失敗したレコード数（起動後の累計）
+     */
+    private final LongAdder lost = new LongAdder();
+
+    /**
+     * 待機時間内に永続化を確認できなかったレコード数（起動後の累計）
+     */
+    private final LongAdder delayed = new LongAdder();
+
+    private final Thread writerThread;
+
+    private volatile boolean running;
+
+    // 以下は書き込みスレッドのみが参照（起動時の復元を除く）
+
+    private final MessageDigest digest = AuditSegment.newDigest();
+
+    private long sequence;
+
+    private String lastHash = AuditSegment.GENESIS_HASH;
+
+    private long segment = 1;
+
+    private FileChannel channel;
+
+    private long position;
+
+    /**
+     * 登録に失敗した索引（次回の書き込み時に再登録）
+     */
+    private final List<Object[]> unindexed = new ArrayList<>();
+
+    public AuditLogWriter(ObjectMapper objectMapper,
+                          JdbcTemplate jdbcTemplate,
+                          AuditLogIndexRepository indexRepository,
+                          @Value("${app.audit.directory:./data/audit}") String directory,
+                          @Value("${app.audit.max-batch:512}") int maxBatch,
+                          @Value("${app.audit.group-commit-delay-ms:2}") long groupCommitDelayMs,
+                          @Value("${app.audit.segment-size-mb:64}") long segmentSizeMb,
+                          @Value("${app.audit.queue-capacity:100000}") int queueCapacity,
+                          @Value("${app.audit.commit-wait-ms:200}") long commitWaitMillis) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.indexRepository = indexRepository;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.groupCommitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, groupCommitDelayMs));
+        this.segmentBytes = Math.max(1, segmentSizeMb) * 1024 * 1024;
+        this.commitWaitMillis = Math.max(0, commitWaitMillis);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+        this.writerThread = new Thread(this::run, "audit-log-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    /**
+     * セグメントファイルの状態を復元して書き込みを開始
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = AuditSegment.list(directory);
+        if (!segments.isEmpty()) {
+            recover(segments);
+        }
+        openSegment();
+        reindex(AuditSegment.list(directory));
+        running = true;
+        writerThread.start();
+        log.info("監査ログを開始しました: segment={}, sequence={}", segment, sequence);
+    }
+
+    /**
+     * キューに残ったレコードを書き込んでから停止
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * ディレクトリのパス（検索・検証用）
+     */
+    Path directory() {
+        return directory;
+    }
+
+    /**
+     * 書き込みに失敗したレコード数（起動後の累計）
+     */
+    public long lostRecords() {
+        return lost.sum();
+    }
+
+    /**
+     * 待機時間内に永続化を確認できなかったレコード数（起動後の累計）
+     */
+    public long delayedRecords() {
+        return delayed.sum();
+    }
+
+    /**
+     * 変更内容を書き込み（書き込みを待たずに戻る）
+     * @param entry 変更内容
+     * @return 書き込み完了時に連番で完了するFuture
+     */
+    public CompletableFuture<Long> append(AuditEntry entry) {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        future.whenComplete((sequence, error) -> {
+            if (error != null) {
+                lost.increment();
+                log.error("監査ログを書き込めませんでした: {} {} {} {}", entry.entityType(), entry.entityId(),
+                        entry.action(), entry.occurredAt(), error);
+            }
+        });
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("監査ログは停止しています"));
+            return future;
+        }
+        try {
+            // キューが満杯の場合は空くまで待つ（書き込みが追いつかない場合の流量制御）
+            queue.put(new Pending(entry, future));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * コミット済みの変更内容を書き込み（コミット後の記録用）
+     *
+     * トランザクションの完了処理中の場合は、同じトランザクションの全レコードの永続化をまとめて
+     * 完了処理の最後に最大 commit-wait-ms 待機します（トランザクション外の場合はこのレコードのみ待機）。
+     * 待機時間を過ぎた場合は書き込みを待たずに戻ります（書き込みは継続）。
+     * @param entry 変更内容
+     */
+    public void appendCommitted(AuditEntry entry) {
+        CompletableFuture<Long> future = append(entry);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            await(List.of(future));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<CompletableFuture<Long>> futures =
+                (List<CompletableFuture<Long>>) TransactionSynchronizationManager.getResource(commitWaitKey);
+        if (futures == null) {
+            List<CompletableFuture<Long>> transactionFutures = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(commitWaitKey, transactionFutures);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(commitWaitKey);
+                    await(transactionFutures);
+                }
+            });
+            futures = transactionFutures;
+        }
+        futures.add(future);
+    }
+
+    /**
+     * レコードの永続化を最大 commit-wait-ms 待機
+     */
+    private void await(List<CompletableFuture<Long>> futures) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(commitWaitMillis);
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            long pending = futures.stream().filter(future -> !future.isDone()).count();
+            delayed.add(pending);
+            log.warn("監査ログの永続化を{}ms以内に確認できませんでした: {}件", commitWaitMillis, pending);
+        } catch (ExecutionException e) {
+            // 失敗はappendで記録済み
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 現在のトランザクションのコミット後に変更内容を書き込み（JDBCで一括変更した場合の記録用）
+     * @param entityType エンティティ種別
+     * @param entityId エンティティID
+     * @param action 操作種別
+     * @param changes 変更内容
+     */
+    public void appendAfterCommit(String entityType, String entityId, AuditAction action,
+                                  Map<String, Object> changes) {
+        AuditEntry entry = new AuditEntry(Instant.now(), AuditActor.current(), entityType, entityId, action, changes);
+        AfterCommit.run(() -> appendCommitted(entry));
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 後続の変更をまとめて1回のfsyncで書き込む
+                long deadline = System.nanoTime() + groupCommitNanos;
+                while (batch.size() < maxBatch) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("監査ログの書き込みに失敗しました: {}件", batch.size(), e);
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("監査ログのセグメントファイルを閉じられませんでした", e);
+        }
+    }
+
+    private void writeBatch(List<Pending> batch) throws IOException {
+        if (position >= segmentBytes) {
+            channel.close();
+            segment++;
+            openSegment();
+        }
+        long startSequence = sequence;
+        String startHash = lastHash;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(batch.size() * 512);
+        List<Object[]> indexRows = new ArrayList<>(batch.size());
+        List<Long> sequences = new ArrayList<>(batch.size());
+        try {
+            for (Pending pending : batch) {
+                AuditEntry entry = pending.entry();
+                long next = sequence + 1;
+                String payload = payload(next, entry);
+                String hash = AuditSegment.hash(digest, lastHash, payload);
+                byte[] line = AuditSegment.format(lastHash, hash, payload).getBytes(StandardCharsets.UTF_8);
+                indexRows.add(new Object[] {next, entry.entityType(), entry.entityId(), entry.action().name(),
+                        Timestamp.from(entry.occurredAt()), segment, position + buffer.size(), line.length});
+                buffer.write(line);
+                sequences.add(next);
+                sequence = next;
+                lastHash = hash;
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            // 書き込み途中の行を取り除き、ハッシュの連結を書き込み前の状態に戻す
+            channel.truncate(position);
+            sequence = startSequence;
+            lastHash = startHash;
+            throw e;
+        }
+        position += buffer.size();
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future().complete(sequences.get(i));
+        }
+        unindexed.addAll(indexRows);
+        try {
+            jdbcTemplate.batchUpdate(INSERT_INDEX_SQL, unindexed);
+            unindexed.clear();
+        } catch (RuntimeException e) {
+            // レコードは永続化済みのため、索引は次回の書き込み時に再登録する
+            log.warn("監査ログの索引を登録できませんでした: {}件", unindexed.size(), e);
+        }
+    }
+
+    private String payload(long sequence, AuditEntry entry) throws JsonProcessingException {
+        // 連番を先頭に置く（検証時に内容全体を解析せずに連番を取得するため）
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("sequence", sequence);
+        payload.put("occurredAt", entry.occurredAt().toString());
+        payload.put("actor", entry.actor());
+        payload.put("entityType", entry.entityType());
+        payload.put("entityId", entry.entityId());
+        payload.put("action", entry.action().name());
+        payload.put("changes", entry.changes());
+        return objectMapper.writeValueAsString(payload);
+    }
+
+    private void openSegment() throws IOException {
+        channel = FileChannel.open(directory.resolve(AuditSegment.fileName(segment)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        position = channel.size();
+        channel.position(position);
+    }
+
+    /**
+     * 最後に書き込まれたレコードの連番・ハッシュを復元
+     */
+    private void recover(List<Path> segments) throws IOException {
+        Path last = segments.get(segments.size() - 1);
+        segment = AuditSegment.segmentOf(last);
+        AuditSegment.ScanResult result = AuditSegment.scan(last, (offset, length, line) -> { });
+        if (result.invalidLine()) {
+            // 改ざん・破損の痕跡を残すため切り詰めずに次のセグメントから再開する（検証で検出される）
+            log.error("監査ログのセグメントに不正な行があります: {} (位置 {})", last, result.validEnd());
+            segment++;
+        } else if (result.validEnd() < Files.size(last)) {
+            log.warn("監査ログの書き込み途中の行を切り詰めます: {} ({}バイト)", last,
+                    Files.size(last) - result.validEnd());
+            try (FileChannel file = FileChannel.open(last, StandardOpenOption.WRITE)) {
+                file.truncate(result.validEnd());
+                file.force(true);
+            }
+        }
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            AuditSegment.Line[] lastLine = new AuditSegment.Line[1];
+            AuditSegment.scan(segments.get(i), (offset, length, line) -> lastLine[0] = line);
+            if (lastLine[0] != null) {
+                sequence = AuditSegment.sequenceOf(lastLine[0].payload());
+                lastHash = lastLine[0].hash();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 索引に無いレコードをセグメントファイルから登録
+     */
+    private void reindex(List<Path> segments) throws IOException {
+        Long maxIndexed = indexRepository.findMaxSequence();
+        long indexed = maxIndexed != null ? maxIndexed : 0;
+        if (indexed >= sequence) {
+            return;
+        }
+        // 未登録のレコードを含む最初のセグメントから読み込む
+        int first = segments.size() - 1;
+        while (first > 0 && AuditSegment.firstSequence(segments.get(first)) > indexed + 1) {
+            first--;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        long[] count = new long[1];
+        for (Path file : segments.subList(Math.max(first, 0), segments.size())) {
+            long fileSegment = AuditSegment.segmentOf(file);
+            AuditSegment.scan(file, (offset, length, line) -> {
+                long recordSequence = AuditSegment.sequenceOf(line.payload());
+                if (recordSequence <= indexed) {
+                    return;
+                }
+                Map<?, ?> payload = objectMapper.readValue(line.payload(), Map.class);
+                rows.add(new Object[] {recordSequence, payload.get("entityType"), payload.get("entityId"),
+                        payload.get("action"), Timestamp.from(Instant.parse((String) payload.get("occurredAt"))),
+                        fileSegment, offset, length});
+                if (rows.size() >= maxBatch) {
+                    flushIndex(rows);
+                }
+                count[0]++;
+            });
+        }
+        flushIndex(rows);
+        log.info("監査ログの索引を再構築しました: {}件", count[0]);
+    }
+
+    private void flushIndex(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_INDEX_SQL, rows);
+            rows.clear();
+        }
+    }
+
+    /**
+     * 書き込み待ちのレコード
+     */
+    private record Pending(AuditEntry entry, CompletableFuture<Long> future) {
+    }
+}
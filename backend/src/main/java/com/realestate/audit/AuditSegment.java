@@ -0,0 +1,202 @@
+package com.realestate.audit;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 監査ログのセグメントファイル形式
+ *
+ * 1レコード1行で、{@code 直前のレコードのハッシュ<TAB>このレコードのハッシュ<TAB>内容(JSON)} の形式です。
+ * ハッシュは「直前のレコードのハッシュ＋内容」のSHA-256で、最初のレコードの直前のハッシュは0を64桁並べた値です。
+ * ハッシュは書き込んだバイト列そのものから計算するため、検証時にJSONを再生成する必要はありません。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+final class AuditSegment {
+
+    /**
+     * 最初のレコードの直前のハッシュ
+     */
+    static final String GENESIS_HASH = "0".repeat(64);
+
+    private static final Pattern FILE_NAME = Pattern.compile("audit-(\\d{8})\\.log");
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final String SEQUENCE_PREFIX = "{\"sequence\":";
+
+    private AuditSegment() {
+    }
+
+    /**
+     * セグメント番号のファイル名
+     */
+    static String fileName(long segment) {
+        return String.format("audit-%08d.log", segment);
+    }
+
+    /**
+     * ファイル名からセグメント番号を取得（セグメントファイルでない場合は-1）
+     */
+    static long segmentOf(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
+    /**
+     * ディレクトリ内のセグメントファイル（番号順）
+     */
+    static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> segmentOf(file) >= 0)
+                    .sorted((a, b) -> Long.compare(segmentOf(a), segmentOf(b)))
+                    .toList();
+        }
+    }
+
+    /**
+     * SHA-256の計算用インスタンスを生成
+     */
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * レコードのハッシュを計算
+     */
+    static String hash(MessageDigest digest, String previousHash, String payload) {
+        digest.reset();
+        digest.update(previousHash.getBytes(StandardCharsets.US_ASCII));
+        digest.update(payload.getBytes(StandardCharsets.UTF_8));
+        return HEX.formatHex(digest.digest());
+    }
+
+    /**
+     * レコードを1行に整形（改行を含む）
+     */
+    static String format(String previousHash, String hash, String payload) {
+        return previousHash + '\t' + hash + '\t' + payload + '\n';
+    }
+
+    /**
+     * 1行をレコードに分解（形式が不正な場合はnull）
+     */
+    static Line parse(String line) {
+        if (line.length() < 130 || line.charAt(64) != '\t' || line.charAt(129) != '\t') {
+            return null;
+        }
+        return new Line(line.substring(0, 64), line.substring(65, 129), line.substring(130));
+    }
+
+    /**
+     * 内容（JSON）の先頭に書き込まれた連番を取得
+     */
+    static long sequenceOf(String payload) {
+        int start = SEQUENCE_PREFIX.length();
+        if (!payload.startsWith(SEQUENCE_PREFIX)) {
+            throw new IllegalArgumentException("連番がありません");
+        }
+        int end = start;
+        while (end < payload.length() && Character.isDigit(payload.charAt(end))) {
+            end++;
+        }
+        return Long.parseLong(payload.substring(start, end));
+    }
+
+    /**
+     * セグメントファイルの最初のレコードの連番（レコードが無い場合は {@link Long#MAX_VALUE}）
+     */
+    static long firstSequence(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String first = reader.readLine();
+            Line line = first != null ? parse(first) : null;
+            return line != null ? sequenceOf(line.payload()) : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * セグメントファイルを先頭から1行ずつ読み込み
+     * 改行で終わっていない末尾（書き込み途中で停止した行）と、形式が不正な行以降は読み込みません
+     *
+     * @param file セグメントファイル
+     * @param visitor 行ごとの処理
+     * @return 読み込み結果
+     */
+    static ScanResult scan(Path file, LineVisitor visitor) throws IOException {
+        long offset = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream(512);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024)) {
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                int length = line.size() + 1;
+                Line parsed = parse(line.toString(StandardCharsets.UTF_8));
+                if (parsed == null) {
+                    return new ScanResult(offset, true);
+                }
+                visitor.visit(offset, length, parsed);
+                offset += length;
+                line.reset();
+            }
+        }
+        return new ScanResult(offset, false);
+    }
+
+    /**
+     * 行ごとの処理
+     */
+    @FunctionalInterface
+    interface LineVisitor {
+
+        /**
+         * @param offset ファイル内の位置（バイト）
+         * @param length 長さ（バイト、改行を含む）
+         * @param line 行の内容
+         */
+        void visit(long offset, int length, Line line) throws IOException;
+    }
+
+    /**
+     * 読み込み結果
+     *
+     * @param validEnd 最後の正しい行の終わりの位置（バイト）
+     * @param invalidLine 形式が不正な行があったかどうか（falseの場合、validEnd以降は書き込み途中の行のみ）
+     */
+    record ScanResult(long validEnd, boolean invalidLine) {
+    }
+
+    /**
+     * セグメントファイルの1行
+     *
+     * @param previousHash 直前のレコードのハッシュ
+     * @param hash このレコードのハッシュ
+     * @param payload 内容（JSON）
+     */
+    record Line(String previousHash, String hash, String payload) {
+    }
+}
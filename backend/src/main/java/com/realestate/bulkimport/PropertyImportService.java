@@ -0,0 +1,551 @@
+package com.realestate.bulkimport;
+
+import com.realestate.dto.PropertyImportErrorDto;
+import com.realestate.dto.PropertyImportJobDto;
+import com.realestate.entity.Property;
+import com.realestate.entity.PropertyImportJob;
+import com.realestate.entity.PropertyImportJob.ImportFormat;
+import com.realestate.entity.PropertyImportJob.ImportStatus;
+import com.realestate.repository.PropertyImportErrorRepository;
+import com.realestate.repository.PropertyImportJobRepository;
+import com.realestate.search.AutocompleteIndex;
+import com.realestate.search.PropertyIndexRegistry;
+import com.realestate.service.TableVersionService;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.apache.commons.io.input.CountingInputStream;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 物件一括取り込みサービスクラス
+ *
+ * アップロードされたCSV / NDJSONファイルを次の段階で取り込みます。
+ * <ol>
+ *   <li>読み込み：ファイルを先頭から順に読み、レコード単位に分割（{@link ImportRecordReader}）</li>
+ *   <li>検証：チャンク（既定1000件）をワーカー数に分割し、解析・検証・座標設定を並列に実行</li>
+ *   <li>重複除外：既存物件とファイル内の物件名＋住所（正規化後）が一致するレコードをスキップ</li>
+ *   <li>登録：チャンク単位にJDBCバッチで挿入し、同じトランザクションでエラーと処理済み件数を記録</li>
+ * </ol>
+ * 処理済み件数はチャンクのコミットと同時に更新されるため、異常終了したジョブは起動時に
+ * 保存済みのファイルから続きを再開します（重複除外の対象はデータベースから再読み込み）。
+ *
+ * JDBCで直接挿入するため、ジョブ終了後にクエリキャッシュを破棄し、検索インデックスと
+ * 入力補完を再構築します。取り込んだ物件ごとのドメインイベントは記録しません。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+public class PropertyImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyImportService.class);
+
+    private static final String INSERT_PROPERTY_SQL = "INSERT INTO properties (name, address, description, type, "
+            + "status, price, area, rooms, bathrooms, parking_spaces, year_built, latitude, longitude, "
+            + "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_ERROR_SQL =
+            "INSERT INTO property_import_errors (job_id, record_number, message) VALUES (?, ?, ?)";
+
+    /**
+     * 1ジョブあたりに記録するエラーの上限（件数は上限を超えても数える）
+     */
+    private static final int MAX_STORED_ERRORS = 10_000;
+
+    /**
+     * エラー内容の最大文字数
+     */
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    /**
+     * エラー一覧の1ページあたりの件数の上限
+     */
+    private static final int MAX_ERROR_PAGE_SIZE = 1000;
+
+    private final PropertyImportJobRepository jobRepository;
+
+    private final PropertyImportErrorRepository errorRepository;
+
+    private final PropertyRecordConverter converter;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final PropertyIndexRegistry indexRegistry;
+
+    private final AutocompleteIndex autocompleteIndex;
+
+    private final TableVersionService tableVersionService;
+
+    /**
+     * アップロードファイルの保存先
+     */
+    private final Path directory;
+
+    /**
+     * チャンクサイズ（1トランザクションで登録するレコード数）
+     */
+    private final int chunkSize;
+
+    /**
+     * 検証ワーカー数
+     */
+    private final int workers;
+
+    /**
+     * ジョブ実行スレッド（ジョブは1件ずつ順に実行）
+     */
+    private final ExecutorService jobExecutor;
+
+    /**
+     * 検証ワーカー
+     */
+    private final ExecutorService validationPool;
+
+    /**
+     * 実行中ジョブの進捗（ジョブID → 進捗）
+     */
+    private final Map<Long, Progress> running = new ConcurrentHashMap<>();
+
+    public PropertyImportService(PropertyImportJobRepository jobRepository,
+                                 PropertyImportErrorRepository errorRepository,
+                                 PropertyRecordConverter converter,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 EntityManagerFactory entityManagerFactory,
+                                 PropertyIndexRegistry indexRegistry,
+                                 AutocompleteIndex autocompleteIndex,
+                                 TableVersionService tableVersionService,
+                                 @Value("${app.import.directory:./data/imports}") String directory,
+                                 @Value("${app.import.chunk-size:1000}") int chunkSize,
+                                 @Value("${app.import.workers:0}") int workers) {
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.converter = converter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.indexRegistry = indexRegistry;
+        this.autocompleteIndex = autocompleteIndex;
+        this.tableVersionService = tableVersionService;
+        this.directory = Paths.get(directory);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.workers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.jobExecutor = Executors.newSingleThreadExecutor(namedThreads("property-import"));
+        this.validationPool = Executors.newFixedThreadPool(this.workers, namedThreads("property-import-validate"));
+    }
+
+    /**
+     * 取り込みジョブを登録して実行を開始
+     * @param fileName ファイル名（拡張子 .csv / .ndjson / .jsonl で形式を判定）
+     * @param content ファイルの内容
+     * @return 登録されたジョブ
+     * @throws IllegalArgumentException ファイル形式が判定できない場合
+     * @throws IOException ファイルの保存に失敗した場合
+     */
+    public PropertyImportJobDto submit(String fileName, InputStream content) throws IOException {
+        ImportFormat format = formatOf(fileName);
+
+        PropertyImportJob job = new PropertyImportJob();
+        job.setFileName(fileName);
+        job.setFormat(format);
+        job.setStatus(ImportStatus.PENDING);
+        job.setStoredPath("");
+        job.setCreatedAt(LocalDateTime.now());
+        job = jobRepository.save(job);
+
+        Files.createDirectories(directory);
+        Path stored = directory.resolve(job.getId() + "." + format.name().toLowerCase(Locale.ROOT));
+        Files.copy(content, stored, StandardCopyOption.REPLACE_EXISTING);
+        job.setStoredPath(stored.toAbsolutePath().toString());
+        job = jobRepository.save(job);
+
+        Long jobId = job.getId();
+        jobExecutor.submit(() -> run(jobId));
+        log.info("物件取り込みジョブを登録しました: id={}, file={}", jobId, fileName);
+        return toDto(job);
+    }
+
+    /**
+     * ジョブの状況を取得
+     * @param id ジョブID
+     * @return ジョブの状況（存在しない場合は空）
+     */
+    public Optional<PropertyImportJobDto> getJob(Long id) {
+        return jobRepository.findById(id).map(this::toDto);
+    }
+
+    /**
+     * 直近のジョブ一覧を取得
+     * @return ジョブの状況（新しい順、最大50件）
+     */
+    public List<PropertyImportJobDto> getRecentJobs() {
+        return jobRepository.findTop50ByOrderByIdDesc().stream().map(this::toDto).toList();
+    }
+
+    /**
+     * ジョブのエラーを取得
+     * @param id ジョブID
+     * @param page ページ番号（0始まり）
+     * @param size 1ページあたりの件数
+     * @return エラー（レコード番号順）
+     * @throws IllegalArgumentException ページ指定が不正な場合
+     */
+    public List<PropertyImportErrorDto> getErrors(Long id, int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("ページ番号は0以上、件数は1以上を指定してください");
+        }
+        return errorRepository.findByJobIdOrderByRecordNumberAsc(id,
+                        PageRequest.of(page, Math.min(size, MAX_ERROR_PAGE_SIZE))).stream()
+                .map(error -> new PropertyImportErrorDto(error.getRecordNumber(), error.getMessage()))
+                .toList();
+    }
+
+    /**
+     * 起動時に未完了のジョブを再開
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        for (PropertyImportJob job : jobRepository.findByStatusInOrderByIdAsc(
+                EnumSet.of(ImportStatus.PENDING, ImportStatus.RUNNING))) {
+            log.info("未完了の物件取り込みジョブを再開します: id={}, 処理済み{}件", job.getId(), job.getProcessedRecords());
+            Long jobId = job.getId();
+            jobExecutor.submit(() -> run(jobId));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        validationPool.shutdownNow();
+    }
+
+    private void run(Long jobId) {
+        PropertyImportJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        long importedBefore = job.getImportedCount();
+        try {
+            process(job);
+            job.setStatus(ImportStatus.COMPLETED);
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            Files.deleteIfExists(Paths.get(job.getStoredPath()));
+            log.info("物件取り込みジョブが完了しました: id={}, 登録{}件, 重複{}件, エラー{}件",
+                    jobId, job.getImportedCount(), job.getDuplicateCount(), job.getErrorCount());
+        } catch (InterruptedException e) {
+            // 停止時は RUNNING のまま残し、次回起動時に再開する
+            Thread.currentThread().interrupt();
+            log.info("物件取り込みジョブを中断しました: id={}", jobId);
+        } catch (Exception e) {
+            log.error("物件取り込みジョブが失敗しました: id={}", jobId, e);
+            jobRepository.findById(jobId).ifPresent(failed -> {
+                failed.setStatus(ImportStatus.FAILED);
+                failed.setLastError(truncate(String.valueOf(e), 1000));
+                failed.setFinishedAt(LocalDateTime.now());
+                jobRepository.save(failed);
+            });
+        } finally {
+            running.remove(jobId);
+            if (job.getImportedCount() > importedBefore) {
+                refreshDerivedState();
+            }
+        }
+    }
+
+    private void process(PropertyImportJob job) throws IOException, InterruptedException, ExecutionException {
+        Path path = Paths.get(job.getStoredPath());
+        job.setStatus(ImportStatus.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        job.setFinishedAt(null);
+        jobRepository.save(job);
+
+        Set<String> keys = loadExistingKeys();
+        try (CountingInputStream counting = new CountingInputStream(
+                new BufferedInputStream(Files.newInputStream(path)));
+             ImportRecordReader reader = new ImportRecordReader(
+                     new InputStreamReader(counting, StandardCharsets.UTF_8), job.getFormat())) {
+            Progress progress = new Progress(job.getProcessedRecords(), Files.size(path), counting);
+            running.put(job.getId(), progress);
+
+            String[] header = null;
+            if (job.getFormat() == ImportFormat.CSV) {
+                String headerRecord = reader.next();
+                if (headerRecord == null) {
+                    return;
+                }
+                header = converter.parseHeader(headerRecord);
+            }
+            reader.skip(job.getProcessedRecords());
+
+            List<String> records = new ArrayList<>(chunkSize);
+            while (true) {
+                records.clear();
+                String record;
+                while (records.size() < chunkSize && (record = reader.next()) != null) {
+                    records.add(record);
+                }
+                if (records.isEmpty()) {
+                    return;
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                persistChunk(job, validate(records, job.getFormat(), header), keys);
+                progress.processed = job.getProcessedRecords();
+            }
+        }
+    }
+
+    /**
+     * チャンクを検証ワーカーに分割して解析・検証
+     * @return レコード順の結果（物件エンティティまたはエラー内容の文字列）
+     */
+    private List<Object> validate(List<String> records, ImportFormat format, String[] header)
+            throws InterruptedException, ExecutionException {
+        int sliceSize = (records.size() + workers - 1) / workers;
+        List<Future<List<Object>>> slices = new ArrayList<>(workers);
+        for (int from = 0; from < records.size(); from += sliceSize) {
+            List<String> slice = records.subList(from, Math.min(from + sliceSize, records.size()));
+            slices.add(validationPool.submit(() -> {
+                List<Object> results = new ArrayList<>(slice.size());
+                for (String record : slice) {
+                    try {
+                        results.add(converter.convert(record, format, header));
+                    } catch (IllegalArgumentException e) {
+                        results.add(e.getMessage());
+                    }
+                }
+                return results;
+            }));
+        }
+        List<Object> results = new ArrayList<>(records.size());
+        for (Future<List<Object>> slice : slices) {
+            results.addAll(slice.get());
+        }
+        return results;
+    }
+
+    /**
+     * 重複を除外してチャンクを登録（エラーと処理済み件数を同じトランザクションで記録）
+     */
+    private void persistChunk(PropertyImportJob job, List<Object> results, Set<String> keys) {
+        long firstRecordNumber = job.getProcessedRecords() + 1;
+        List<Property> inserts = new ArrayList<>(results.size());
+        List<Object[]> errors = new ArrayList<>();
+        List<String> addedKeys = new ArrayList<>();
+        long duplicates = 0;
+        for (int i = 0; i < results.size(); i++) {
+            Object result = results.get(i);
+            if (result instanceof Property property) {
+                String key = key(property.getName(), property.getAddress());
+                if (keys.add(key)) {
+                    inserts.add(property);
+                    addedKeys.add(key);
+                } else {
+                    duplicates++;
+                }
+            } else {
+                errors.add(new Object[]{job.getId(), firstRecordNumber + i,
+                        truncate(String.valueOf(result), MAX_MESSAGE_LENGTH)});
+            }
+        }
+
+        long storedErrors = Math.max(0, Math.min(errors.size(), MAX_STORED_ERRORS - job.getErrorCount()));
+        long chunkDuplicates = duplicates;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!inserts.isEmpty()) {
+                    insertProperties(inserts);
+                }
+                if (storedErrors > 0) {
+                    jdbcTemplate.batchUpdate(INSERT_ERROR_SQL, errors.subList(0, (int) storedErrors));
+                }
+                job.setProcessedRecords(job.getProcessedRecords() + results.size());
+                job.setImportedCount(job.getImportedCount() + inserts.size());
+                job.setDuplicateCount(job.getDuplicateCount() + chunkDuplicates);
+                job.setErrorCount(job.getErrorCount() + errors.size());
+                jobRepository.save(job);
+            });
+        } catch (RuntimeException e) {
+            // ロールバックされたチャンクの重複除外キーを戻す
+            keys.removeAll(addedKeys);
+            throw e;
+        }
+    }
+
+    private void insertProperties(List<Property> properties) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_PROPERTY_SQL, properties, properties.size(), (statement, property) -> {
+            statement.setString(1, property.getName());
+            statement.setString(2, property.getAddress());
+            statement.setString(3, property.getDescription());
+            statement.setString(4, property.getType().name());
+            statement.setString(5, property.getStatus().name());
+            statement.setBigDecimal(6, property.getPrice());
+            statement.setBigDecimal(7, property.getArea());
+            statement.setInt(8, property.getRooms());
+            statement.setInt(9, property.getBathrooms());
+            statement.setInt(10, property.getParkingSpaces());
+            statement.setInt(11, property.getYearBuilt());
+            statement.setObject(12, property.getLatitude(), Types.DOUBLE);
+            statement.setObject(13, property.getLongitude(), Types.DOUBLE);
+            statement.setTimestamp(14, now);
+            statement.setTimestamp(15, now);
+        });
+    }
+
+    /**
+     * 既存物件の重複判定キーを読み込み
+     */
+    private Set<String> loadExistingKeys() {
+        Set<String> keys = new HashSet<>();
+        jdbcTemplate.query("SELECT name, address FROM properties",
+                (RowCallbackHandler) resultSet -> keys.add(key(resultSet.getString(1), resultSet.getString(2))));
+        return keys;
+    }
+
+    /**
+     * JDBCで登録した物件をキャッシュ・インデックスへ反映
+     */
+    private void refreshDerivedState() {
+        try {
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+            indexRegistry.rebuildAll();
+            autocompleteIndex.rebuild();
+            tableVersionService.bump(TableVersionService.Table.PROPERTIES);
+        } catch (RuntimeException e) {
+            log.error("取り込み後の検索インデックスの再構築に失敗しました", e);
+        }
+    }
+
+    private PropertyImportJobDto toDto(PropertyImportJob job) {
+        Progress progress = running.get(job.getId());
+        Double percent = null;
+        Double rate = null;
+        if (progress != null) {
+            percent = progress.percent();
+            rate = progress.recordsPerSecond();
+        } else if (job.getStartedAt() != null && job.getFinishedAt() != null) {
+            long millis = Math.max(1, Duration.between(job.getStartedAt(), job.getFinishedAt()).toMillis());
+            rate = job.getProcessedRecords() * 1000.0 / millis;
+        }
+        return new PropertyImportJobDto(job.getId(), job.getFileName(), job.getFormat(), job.getStatus(),
+                job.getProcessedRecords(), job.getImportedCount(), job.getDuplicateCount(), job.getErrorCount(),
+                percent, rate, job.getLastError(), job.getCreatedAt(), job.getStartedAt(), job.getFinishedAt());
+    }
+
+    private static ImportFormat formatOf(String fileName) {
+        String lower = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return ImportFormat.CSV;
+        }
+        if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+            return ImportFormat.NDJSON;
+        }
+        throw new IllegalArgumentException("対応していないファイル形式です（.csv / .ndjson / .jsonl）: " + fileName);
+    }
+
+    /**
+     * 重複判定キー（物件名＋住所、全角半角・空白・大文字小文字の違いを無視）
+     */
+    private static String key(String name, String address) {
+        return normalize(name) + "\u0000" + normalize(address);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? ""
+                : Normalizer.normalize(value, Normalizer.Form.NFKC).replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(String message, int maxLength) {
+        return message.length() <= maxLength ? message : message.substring(0, maxLength);
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 実行中ジョブの進捗
+     */
+    private static final class Progress {
+
+        private final long startRecords;
+
+        private final long startNanos = System.nanoTime();
+
+        private final long totalBytes;
+
+        private final CountingInputStream counting;
+
+        private volatile long processed;
+
+        private Progress(long startRecords, long totalBytes, CountingInputStream counting) {
+            this.startRecords = startRecords;
+            this.processed = startRecords;
+            this.totalBytes = totalBytes;
+            this.counting = counting;
+        }
+
+        private double percent() {
+            return totalBytes == 0 ? 100.0 : Math.min(100.0, counting.getByteCount() * 100.0 / totalBytes);
+        }
+
+        private double recordsPerSecond() {
+            double seconds = Math.max(1e-3, (System.nanoTime() - startNanos) / 1e9);
+            return (processed - startRecords) / seconds;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.realestate.bulkimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestate.entity.Property;
+import com.realestate.entity.Property.PropertyStatus;
+import com.realestate.entity.Property.PropertyType;
+import com.realestate.entity.PropertyImportJob.ImportFormat;
+import com.realestate.service.GeocodingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 取り込みレコードの解析・検証コンポーネント
+ *
+ * 1レコードの文字列を物件エンティティへ変換し、必須項目と値の範囲を検証します。
+ * 座標が指定されていない場合は住所から設定します。
+ * 状態を持たないため、複数の検証ワーカーから同時に呼び出せます。
+ *
+ * 項目名は物件APIのJSONと同じ（name, address, description, type, status, price, area,
+ * rooms, bathrooms, parkingSpaces, yearBuilt, latitude, longitude）です。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyRecordConverter {
+
+    /**
+     * 物件名・住所の最大文字数（列定義に合わせる）
+     */
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    /**
+     * 説明の最大文字数
+     */
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    private final ObjectMapper objectMapper;
+
+    private final GeocodingService geocodingService;
+
+    /**
+     * CSVの見出し行を解析
+     * @param record 見出し行
+     * @return 項目名の配列
+     */
+    public String[] parseHeader(String record) {
+        List<String> names = splitCsv(record);
+        return names.stream().map(String::trim).toArray(String[]::new);
+    }
+
+    /**
+     * レコードを物件エンティティへ変換
+     * @param record レコードの文字列
+     * @param format ファイル形式
+     * @param header CSVの項目名（NDJSONの場合はnull）
+     * @return 物件エンティティ（未保存）
+     * @throws IllegalArgumentException 解析・検証に失敗した場合（メッセージにエラー内容）
+     */
+    public Property convert(String record, ImportFormat format, String[] header) {
+        Map<String, String> fields = format == ImportFormat.CSV ? csvFields(record, header) : jsonFields(record);
+
+        Property property = new Property();
+        property.setName(text(fields, "name", MAX_TEXT_LENGTH, true));
+        property.setAddress(text(fields, "address", MAX_TEXT_LENGTH, true));
+        property.setDescription(text(fields, "description", MAX_DESCRIPTION_LENGTH, false));
+        property.setType(enumValue(fields, "type", PropertyType.class));
+        property.setStatus(enumValue(fields, "status", PropertyStatus.class));
+        property.setPrice(decimal(fields, "price"));
+        property.setArea(decimal(fields, "area"));
+        property.setRooms(integer(fields, "rooms", 0, 1000));
+        property.setBathrooms(integer(fields, "bathrooms", 0, 1000));
+        property.setParkingSpaces(integer(fields, "parkingSpaces", 0, 10000));
+        property.setYearBuilt(integer(fields, "yearBuilt", 1800, 2200));
+        property.setLatitude(coordinate(fields, "latitude", 90));
+        property.setLongitude(coordinate(fields, "longitude", 180));
+        if ((property.getLatitude() == null) != (property.getLongitude() == null)) {
+            throw new IllegalArgumentException("latitude と longitude は両方指定してください");
+        }
+        geocodingService.applyCoordinates(property);
+        return property;
+    }
+
+    private Map<String, String> csvFields(String record, String[] header) {
+        List<String> values = splitCsv(record);
+        if (values.size() != header.length) {
+            throw new IllegalArgumentException("項目数が見出し行と一致しません: " + values.size() + "/" + header.length);
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            fields.put(header[i], values.get(i));
+        }
+        return fields;
+    }
+
+    private Map<String, String> jsonFields(String record) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSONの形式が不正です: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("JSONオブジェクトではありません");
+        }
+        Map<String, String> fields = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> iterator = node.fields();
+        while (iterator.hasNext()) {
+            Map.Entry<String, JsonNode> field = iterator.next();
+            if (!field.getValue().isNull()) {
+                fields.put(field.getKey(), field.getValue().asText());
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * CSVの1レコードを項目へ分割（RFC 4180、引用符内の区切り文字・改行・""に対応）
+     */
+    private static List<String> splitCsv(String record) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c != '\uFEFF' || i > 0) {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static String text(Map<String, String> fields, String name, int maxLength, boolean required) {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            if (required) {
+                throw new IllegalArgumentException(name + " は必須です");
+            }
+            return null;
+        }
+        value = value.trim();
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(name + " は" + maxLength + "文字以内で指定してください");
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Map<String, String> fields, String name, Class<E> type) {
+        String value = text(fields, name, MAX_TEXT_LENGTH, true);
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + " の値が不正です: " + value);
+        }
+    }
+
+    private static BigDecimal decimal(Map<String, String> fields, String name) {
+        String value = text(fields, name, MAX_TEXT_LENGTH, true);
+        BigDecimal number;
+        try {
+            number = new BigDecimal(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " は数値で指定してください: " + value);
+        }
+        if (number.signum() <= 0) {
+            throw new IllegalArgumentException(name + " は正の数で指定してください: " + value);
+        }
+        return number;
+    }
+
+    private static Integer integer(Map<String, String> fields, String name, int min, int max) {
+        String value = text(fields, name, MAX_TEXT_LENGTH, true);
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " は整数で指定してください: " + value);
+        }
+        if (number < min || number > max) {
+            throw new IllegalArgumentException(name + " は" + min + "〜" + max + "の範囲で指定してください: " + value);
+        }
+        return number;
+    }
+
+    private static Double coordinate(Map<String, String> fields, String name, double limit) {
+        String value = text(fields, name, MAX_TEXT_LENGTH, false);
+        if (value == null) {
+            return null;
+        }
+        double number;
+        try {
+            number = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " は数値で指定してください: " + value);
+        }
+        if (!(Math.abs(number) <= limit)) {
+            throw new IllegalArgumentException(name + " の値が範囲外です: " + value);
+        }
+        return number;
+    }
+}
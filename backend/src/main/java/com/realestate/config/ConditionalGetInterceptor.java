@@ -0,0 +1,107 @@
+package com.realestate.config;
+
+import com.realestate.service.TableVersionService;
+import com.realestate.service.TableVersionService.Table;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 条件付きGETインターセプター
+ *
+ * 物件・顧客・契約の参照APIに、テーブル更新バージョンから求めたETagを付与します。
+ * リクエストの If-None-Match が現在のETagと一致する場合は、コントローラーを呼び出さずに
+ * 304 Not Modified を返すため、リポジトリへのアクセスは発生しません。
+ *
+ * 契約のレスポンスには物件・顧客の情報が含まれるため、契約のETagは
+ * 契約・物件・顧客の3テーブルのバージョンから生成します。
+ * ETagはデータ取得前のバージョンから求めるため、取得中に更新があっても
+ * ETagがデータより新しくなることはありません（次回の条件付きGETで再取得されます）。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final TableVersionService tableVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        String etag = currentEtag(request.getServletPath());
+        if (etag == null) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        // ブラウザにも毎回再検証させる
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * リクエストパスに対応するETag（対象外のパスはnull）
+     */
+    private String currentEtag(String path) {
+        if (path.startsWith("/api/properties")) {
+            return weak("p" + tableVersionService.current(Table.PROPERTIES));
+        }
+        if (path.startsWith("/api/clients")) {
+            return weak("cl" + tableVersionService.current(Table.CLIENTS));
+        }
+        if (path.startsWith("/api/contracts/list")) {
+            // 契約一覧ビューはイベントから非同期に更新されるため、ビュー自体の更新バージョンを使用
+            return weak("cv" + tableVersionService.current(Table.CONTRACT_LIST_VIEW));
+        }
+        if (path.startsWith("/api/contracts")) {
+            return weak("c" + tableVersionService.current(Table.CONTRACTS)
+                    + "-" + tableVersionService.current(Table.PROPERTIES)
+                    + "-" + tableVersionService.current(Table.CLIENTS));
+        }
+        return null;
+    }
+
+    /**
+     * 弱いETag（W/"..."）を生成
+     *
+     * ETagはテーブルのバージョンから求めるため、レスポンスのバイト列ではなく内容の同一性を表します。
+     * 強いETagを付けるとTomcatはレスポンスを圧縮しないため（noCompressionStrongETag）、弱いETagにしています。
+     */
+    private static String weak(String version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * If-None-Match の判定（RFC 9110 の弱い比較：W/ 接頭辞の有無を問わず値が一致すれば一致）
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || opaqueTag(value).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -2,6 +2,7 @@ package com.realestate.config;
 
 import com.realestate.entity.*;
 import com.realestate.repository.*;
+import com.realestate.service.GeocodingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -45,6 +46,11 @@ public class DataInitializer implements CommandLineRunner {
          */
         private final TransactionRepository transactionRepository;
 
+        /**
+         * 住所座標変換サービス（サンプル物件の緯度経度設定用）
+         */
+        private final GeocodingService geocodingService;
+
         /**
          * アプリケーション起動時の実行メソッド
          * 
@@ -160,6 +166,7 @@ public class DataInitializer implements CommandLineRunner {
                                                 new BigDecimal("45.0"),
                                                 1, 1, 0, 2005));
 
+                properties.forEach(geocodingService::applyCoordinates);
                 properties.forEach(propertyRepository::save);
 
                 // サンプル顧客の作成
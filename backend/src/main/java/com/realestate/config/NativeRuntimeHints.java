@@ -0,0 +1,172 @@
+package com.realestate.config;
+
+import com.realestate.archive.ArchivedTransaction;
+import com.realestate.document.StoredDocument;
+import com.realestate.dto.AuditRecordDto;
+import com.realestate.dto.AuditVerificationDto;
+import com.realestate.dto.ClientDto;
+import com.realestate.dto.ContractDto;
+import com.realestate.dto.ContractListCriteria;
+import com.realestate.dto.ContractListPageDto;
+import com.realestate.dto.DigitalTimestampDto;
+import com.realestate.dto.PatchConflictDto;
+import com.realestate.dto.PatchRequestDto;
+import com.realestate.dto.PkiStatusDto;
+import com.realestate.dto.PropertyDto;
+import com.realestate.dto.PropertyFacetSearchDto;
+import com.realestate.dto.PropertyPageDto;
+import com.realestate.dto.PropertyGeoResultDto;
+import com.realestate.dto.PropertyImportErrorDto;
+import com.realestate.dto.PropertyImportJobDto;
+import com.realestate.dto.RentScheduleResultDto;
+import com.realestate.dto.SigningJobDto;
+import com.realestate.dto.SigningQueueStatsDto;
+import com.realestate.dto.TransactionArchivePartitionDto;
+import com.realestate.dto.TransactionDto;
+import com.realestate.entity.AuditLogIndexEntry;
+import com.realestate.entity.BiometricData;
+import com.realestate.entity.Client;
+import com.realestate.entity.Contract;
+import com.realestate.entity.ContractListView;
+import com.realestate.entity.DigitalSignature;
+import com.realestate.entity.DigitalTimestamp;
+import com.realestate.entity.OutboxEvent;
+import com.realestate.entity.Property;
+import com.realestate.entity.PropertyImportError;
+import com.realestate.entity.PropertyImportJob;
+import com.realestate.entity.Transaction;
+import com.realestate.entity.TransactionArchivePartition;
+import com.realestate.feed.ChangeEvent;
+import com.realestate.feed.ChangeReplay;
+import com.realestate.search.IndexedProperty;
+import com.realestate.search.PropertyCondition;
+import com.realestate.search.PropertyText;
+import com.realestate.search.Suggestion;
+import com.realestate.search.SuggestionSource;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * ネイティブイメージ用のリーチャビリティメタデータ登録クラス
+ *
+ * GraalVMネイティブイメージでは実行時のリフレクションが事前登録制となるため、
+ * JPAエンティティ（Lombok生成のアクセサを含む）、JSON変換対象のDTO、
+ * BouncyCastleプロバイダをここで登録します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * JPAエンティティ（Hibernateがフィールド・コンストラクタ・アクセサを利用）
+     */
+    private static final Class<?>[] ENTITY_TYPES = {
+            Property.class,
+            Contract.class,
+            Client.class,
+            Transaction.class,
+            DigitalSignature.class,
+            DigitalTimestamp.class,
+            BiometricData.class,
+            OutboxEvent.class,
+            ContractListView.class,
+            PropertyImportJob.class,
+            PropertyImportError.class,
+            TransactionArchivePartition.class,
+            AuditLogIndexEntry.class
+    };
+
+    /**
+     * JSON変換対象のDTO（Jacksonがアクセサを利用）
+     */
+    private static final Class<?>[] DTO_TYPES = {
+            PropertyDto.class,
+            ContractDto.class,
+            ClientDto.class,
+            TransactionDto.class,
+            DigitalTimestampDto.class,
+            PropertyGeoResultDto.class,
+            PropertyFacetSearchDto.class,
+            PropertyPageDto.class,
+            PropertyCondition.class,
+            Suggestion.class,
+            ChangeEvent.class,
+            ChangeReplay.class,
+            ContractListCriteria.class,
+            ContractListPageDto.class,
+            PropertyImportJobDto.class,
+            PropertyImportErrorDto.class,
+            PatchRequestDto.class,
+            PatchConflictDto.class,
+            RentScheduleResultDto.class,
+            TransactionArchivePartitionDto.class,
+            ArchivedTransaction.class,
+            AuditRecordDto.class,
+            AuditVerificationDto.class,
+            StoredDocument.class,
+            SigningJobDto.class,
+            SigningQueueStatsDto.class,
+            PkiStatusDto.class
+    };
+
+    /**
+     * JPQLコンストラクタ式の射影先（Hibernateがコンストラクタを利用）
+     */
+    private static final Class<?>[] PROJECTION_TYPES = {
+            IndexedProperty.class,
+            PropertyText.class,
+            SuggestionSource.class
+    };
+
+    /**
+     * BouncyCastleプロバイダのクラス名
+     */
+    private static final String BOUNCY_CASTLE_PROVIDER = "org.bouncycastle.jce.provider.BouncyCastleProvider";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> entityType : ENTITY_TYPES) {
+            registerWithNestedEnums(hints, entityType,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        for (Class<?> dtoType : DTO_TYPES) {
+            registerWithNestedEnums(hints, dtoType,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        for (Class<?> projectionType : PROJECTION_TYPES) {
+            hints.reflection().registerType(projectionType, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+
+        // オフライン住所座標テーブル
+        hints.resources().registerPattern("geocode/*.csv");
+
+        hints.reflection().registerType(TypeReference.of(BOUNCY_CASTLE_PROVIDER),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.resources().registerPattern("org/bouncycastle/**/*.properties");
+    }
+
+    /**
+     * 型と、その型に宣言された列挙型（タイプ・ステータス等）を登録
+     */
+    private void registerWithNestedEnums(RuntimeHints hints, Class<?> type, MemberCategory... categories) {
+        hints.reflection().registerType(type, categories);
+        for (Class<?> nested : type.getDeclaredClasses()) {
+            if (nested.isEnum()) {
+                hints.reflection().registerType(nested,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+    }
+}
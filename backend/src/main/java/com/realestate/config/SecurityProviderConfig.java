@@ -0,0 +1,26 @@
+package com.realestate.config;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.springframework.context.annotation.Configuration;
+
+import java.security.Security;
+
+/**
+ * セキュリティプロバイダ設定クラス
+ *
+ * 電子署名・暗号処理で利用するBouncyCastleプロバイダをJCAに登録します。
+ * ネイティブイメージではビルド時に登録されるため、既に登録済みの場合は何もしません。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Configuration
+public class SecurityProviderConfig {
+
+    static {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.realestate.config;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 起動時間計測コンポーネント
+ *
+ * JVM起動からアプリケーション準備完了までの時間と、
+ * 初回リクエスト処理完了までの時間（time-to-first-request）をログに出力します。
+ * CDSアーカイブ作成用のトレーニング実行では、準備完了後にアプリケーションを終了します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class StartupTimingRecorder implements Filter {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingRecorder.class);
+
+    /**
+     * 準備完了後に終了するかどうか（CDSトレーニング実行用）
+     */
+    @Value("${app.startup.exit-after-ready:false}")
+    private boolean exitAfterReady;
+
+    /**
+     * 遅延初期化が有効かどうか（ログ出力用）
+     */
+    @Value("${spring.main.lazy-initialization:false}")
+    private boolean lazyInitialization;
+
+    /**
+     * 初回リクエストの処理が完了したかどうか
+     */
+    private final AtomicBoolean firstRequestCompleted = new AtomicBoolean();
+
+    /**
+     * アプリケーション準備完了時の処理
+     *
+     * @param event アプリケーション準備完了イベント
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        log.info("アプリケーションの起動が完了しました: JVM起動から{}ms (lazy-initialization={})",
+                ManagementFactory.getRuntimeMXBean().getUptime(), lazyInitialization);
+
+        if (exitAfterReady) {
+            log.info("トレーニング実行のためアプリケーションを終了します");
+            System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 0));
+        }
+    }
+
+    /**
+     * リクエスト処理（初回リクエストの完了時刻のみ記録）
+     */
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (!firstRequestCompleted.get() && firstRequestCompleted.compareAndSet(false, true)) {
+                log.info("初回リクエストの処理が完了しました: JVM起動から{}ms",
+                        ManagementFactory.getRuntimeMXBean().getUptime());
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.realestate.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * WebSocket（STOMP）設定クラス
+ *
+ * 変更フィード（/topic/changes/**）を配信するための簡易ブローカーを構成します。
+ * 購読者ごとの送信バッファと送信時間に上限を設け、受信の遅いクライアントは切断して
+ * 他の購読者への配信が滞らないようにします（切断されたクライアントは再接続後に再送を要求します）。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    /**
+     * 購読者ごとの送信バッファ上限（バイト）
+     */
+    private static final int SEND_BUFFER_SIZE_LIMIT = 256 * 1024;
+
+    /**
+     * 1メッセージの送信にかけられる時間の上限（ミリ秒）
+     */
+    private static final int SEND_TIME_LIMIT_MILLIS = 10_000;
+
+    /**
+     * クライアントから受信するメッセージの上限（バイト、購読要求のみのため小さく設定）
+     */
+    private static final int MESSAGE_SIZE_LIMIT = 16 * 1024;
+
+    /**
+     * ハートビート間隔（ミリ秒、送信・受信）
+     */
+    private static final long[] HEARTBEAT_MILLIS = {10_000, 10_000};
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOriginPatterns("*");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(HEARTBEAT_MILLIS)
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        // 同一セッションへの配信順序を保証
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(SEND_BUFFER_SIZE_LIMIT)
+                .setSendTimeLimit(SEND_TIME_LIMIT_MILLIS)
+                .setMessageSizeLimit(MESSAGE_SIZE_LIMIT);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor().corePoolSize(4).maxPoolSize(8);
+    }
+}
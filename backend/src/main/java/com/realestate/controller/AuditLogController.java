@@ -0,0 +1,61 @@
+package com.realestate.controller;
+
+import com.realestate.audit.AuditLogService;
+import com.realestate.dto.AuditRecordDto;
+import com.realestate.dto.AuditVerificationDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 監査ログコントローラークラス
+ * 契約・取引・電子署名・生体認証データの変更履歴の検索・改ざん検証APIを提供します
+ */
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AuditLogController {
+
+    // 監査ログサービス
+    private final AuditLogService auditLogService;
+
+    /**
+     * 監査ログの検索API
+     * @param entityType エンティティ種別（Contract / Transaction / DigitalSignature / BiometricData、任意）
+     * @param entityId エンティティID（エンティティ種別を指定した場合は必須）
+     * @param from 発生日時の下限（任意）
+     * @param to 発生日時の上限（任意）
+     * @param limit 最大件数（既定・上限1000）
+     * @return 監査ログレコードDTOのリスト（連番順、条件が不正な場合は400エラー）
+     */
+    @GetMapping
+    public ResponseEntity<List<AuditRecordDto>> find(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            return ResponseEntity.ok(auditLogService.find(entityType, entityId,
+                    from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0),
+                    to != null ? to : LocalDateTime.of(9999, 1, 1, 0, 0),
+                    limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 監査ログの改ざん検証API（全セグメントを並列に検証）
+     * @return 検証結果
+     */
+    @PostMapping("/verify")
+    public ResponseEntity<AuditVerificationDto> verify() {
+        return ResponseEntity.ok(auditLogService.verify());
+    }
+}
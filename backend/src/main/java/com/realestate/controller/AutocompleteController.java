@@ -0,0 +1,54 @@
+package com.realestate.controller;
+
+import com.realestate.search.AutocompleteIndex;
+import com.realestate.search.Suggestion;
+import com.realestate.search.SuggestionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 入力補完コントローラークラス
+ * 物件名・顧客名・メールアドレス・契約番号の前方一致候補を提供します
+ */
+@RestController
+@RequestMapping("/api/autocomplete")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AutocompleteController {
+
+    /**
+     * 最大件数の既定値
+     */
+    private static final int DEFAULT_LIMIT = 10;
+
+    /**
+     * 最大件数の上限
+     */
+    private static final int MAX_LIMIT = 50;
+
+    // 入力補完インデックス
+    private final AutocompleteIndex autocompleteIndex;
+
+    /**
+     * 入力補完候補を取得するAPI
+     * @param q 入力中の文字列
+     * @param types 対象の種別（PROPERTY, CLIENT, CONTRACT、省略時は全種別）
+     * @param limit 最大件数（オプション、既定値10）
+     * @return 前方一致する候補の一覧
+     */
+    @GetMapping
+    public ResponseEntity<List<Suggestion>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) List<SuggestionType> types,
+            @RequestParam(required = false) Integer limit) {
+        Set<SuggestionType> typeSet = types == null || types.isEmpty()
+                ? EnumSet.allOf(SuggestionType.class) : EnumSet.copyOf(types);
+        int max = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return ResponseEntity.ok(autocompleteIndex.suggest(q, typeSet, max));
+    }
+}
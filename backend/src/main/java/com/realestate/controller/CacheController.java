@@ -0,0 +1,32 @@
+package com.realestate.controller;
+
+import com.realestate.dto.CacheStatisticsDto;
+import com.realestate.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * キャッシュ管理コントローラークラス
+ * 二次キャッシュ・クエリキャッシュの統計情報を提供します
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class CacheController {
+
+    // キャッシュ統計サービス
+    private final CacheStatisticsService cacheStatisticsService;
+
+    /**
+     * キャッシュ統計を取得するAPI
+     * @return リージョンごとのヒット数・ミス数・ヒット率
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<List<CacheStatisticsDto>> getStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+}
@@ -0,0 +1,34 @@
+package com.realestate.controller;
+
+import com.realestate.feed.ChangeFeedService;
+import com.realestate.feed.ChangeReplay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 変更フィードコントローラークラス
+ * WebSocket再接続時に、受信できなかった変更イベントを再送します
+ */
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ChangeFeedController {
+
+    // 変更フィード配信サービス
+    private final ChangeFeedService changeFeedService;
+
+    /**
+     * 指定シーケンス番号より後の変更イベントを取得するAPI
+     * @param since 受信済みの最終シーケンス番号（省略時は0）
+     * @return 再送結果（complete=false の場合は一覧の再取得が必要）
+     */
+    @GetMapping
+    public ResponseEntity<ChangeReplay> since(@RequestParam(defaultValue = "0") long since) {
+        if (since < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(changeFeedService.since(since));
+    }
+}
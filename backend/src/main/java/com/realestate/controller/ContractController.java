@@ -1,8 +1,12 @@
 package com.realestate.controller;
 
 import com.realestate.dto.ContractDto;
+import com.realestate.dto.PatchRequestDto;
+import com.realestate.dto.ContractListCriteria;
+import com.realestate.dto.ContractListPageDto;
 import com.realestate.entity.Contract.ContractType;
 import com.realestate.entity.Contract.ContractStatus;
+import com.realestate.service.ContractListViewService;
 import com.realestate.service.ContractService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +27,9 @@ public class ContractController {
     // 契約管理サービス（業務ロジック層）
     private final ContractService contractService;
 
+    // 契約一覧ビューサービス（一覧画面用の読み取りモデル）
+    private final ContractListViewService contractListViewService;
+
     /**
      * 全ての契約を取得するAPI
      * @return 契約DTOのリスト
@@ -64,6 +71,29 @@ public class ContractController {
         return ResponseEntity.ok(contractService.getContractsByStatus(status));
     }
 
+    /**
+     * 契約一覧画面用の検索API
+     * 非正規化された契約一覧ビューから、結合なしで絞り込み・並べ替え・ページングを行います
+     *
+     * @param criteria 絞り込み条件（契約番号・物件名・顧客名の部分一致、種別・ステータス、日付・金額の範囲など）
+     * @param sort 並べ替え項目（例: sort=-startDate,clientName、降順は先頭に"-"）
+     * @param page ページ番号（0始まり、既定値0）
+     * @param size 1ページあたりの件数（既定値50、最大500）
+     * @return 検索結果（並べ替え項目が不正な場合は400エラー）
+     */
+    @GetMapping("/list")
+    public ResponseEntity<ContractListPageDto> listContracts(
+            ContractListCriteria criteria,
+            @RequestParam(required = false) List<String> sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "0") int size) {
+        try {
+            return ResponseEntity.ok(contractListViewService.search(criteria, sort, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * キーワードによる契約の検索API
      * 
@@ -101,6 +131,26 @@ public class ContractController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * 契約情報の部分更新API（項目単位のマージ）
+     * 読み込み後に他の更新があっても、変更項目が重ならなければ自動的に適用します
+     * @param id 更新対象の契約ID
+     * @param patch 部分更新リクエスト（version・changes・original）
+     * @return 更新された契約DTO（存在しない場合は404、リクエスト不正時は400、競合時は409エラー）
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<ContractDto> patchContract(
+            @PathVariable Long id,
+            @RequestBody PatchRequestDto patch) {
+        try {
+            return contractService.patchContract(id, patch)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 契約の削除API
      * @param id 削除対象の契約ID
@@ -1,12 +1,26 @@
 package com.realestate.controller;
 
+import com.realestate.dto.PkiStatusDto;
+import com.realestate.dto.SigningJobDto;
+import com.realestate.dto.SigningQueueStatsDto;
 import com.realestate.entity.DigitalSignature;
 import com.realestate.service.DigitalSignatureService;
+import com.realestate.signature.CertificateVerifier;
+import com.realestate.signature.SignatureAlgorithm;
+import com.realestate.signature.SigningQueueFullException;
+import com.realestate.signature.SigningQueueService;
+import com.realestate.signature.SigningRequest;
+import com.realestate.signature.SigningTimeoutException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 電子署名コントローラークラス
@@ -25,29 +39,79 @@ public class DigitalSignatureController {
 
     private final DigitalSignatureService digitalSignatureService;
 
+    private final SigningQueueService signingQueueService;
+
+    private final CertificateVerifier certificateVerifier;
+
     /**
-     * 電子署名を作成
+     * 電子署名を作成（署名キューで処理し、完了までリクエスト処理スレッドを解放して待機）
      * 
      * @param request 署名作成リクエスト
-     * @return 作成された電子署名
+     * @return 作成された電子署名（処理待ちが上限に達している場合は429エラー、
+     *         待機時間内に完了しない場合は202 Accepted とジョブのURL）
      */
     @PostMapping
-    public ResponseEntity<DigitalSignature> createSignature(@RequestBody CreateSignatureRequest request) {
+    public CompletableFuture<ResponseEntity<DigitalSignature>> createSignature(
+            @RequestBody CreateSignatureRequest request) {
+        CompletableFuture<DigitalSignature> signature;
         try {
-            DigitalSignature signature = digitalSignatureService.createSignature(
-                request.getSignerId(),
-                request.getSignerName(),
-                request.getContractId(),
-                request.getDocumentType(),
-                request.getDocumentContent(),
-                request.getPrivateKeyBase64()
-            );
-            return ResponseEntity.ok(signature);
-        } catch (Exception e) {
+            signature = signingQueueService.signAsync(request.toSigningRequest());
+        } catch (SigningQueueFullException e) {
+            return CompletableFuture.completedFuture(tooManyRequests());
+        }
+        return signature.handle((created, error) -> {
+            if (error == null) {
+                return ResponseEntity.ok(created);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause instanceof SigningTimeoutException timeout) {
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/signatures/jobs/" + timeout.getJobId()))
+                        .build();
+            }
             return ResponseEntity.badRequest().build();
+        });
+    }
+
+    /**
+     * 電子署名の作成を受け付け（非同期）
+     * 
+     * @param request 署名作成リクエスト
+     * @return 受け付けたジョブ（202 Accepted、処理待ちが上限に達している場合は429エラー）
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<SigningJobDto> submitSignature(@RequestBody CreateSignatureRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(signingQueueService.submit(request.toSigningRequest()));
+        } catch (SigningQueueFullException e) {
+            return tooManyRequests();
         }
     }
 
+    /**
+     * 電子署名ジョブの状況を取得
+     * 
+     * @param jobId ジョブID
+     * @return ジョブの状況（存在しない場合は404エラー）
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<SigningJobDto> getSigningJob(@PathVariable String jobId) {
+        return signingQueueService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 電子署名キューの統計を取得
+     * 
+     * @return 処理待ち件数・処理件数・平均署名時間など
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<SigningQueueStatsDto> getQueueStats() {
+        return ResponseEntity.ok(signingQueueService.getStats());
+    }
+
     /**
      * 電子署名を検証
      * 
@@ -117,6 +181,31 @@ public class DigitalSignatureController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 証明書検証情報（トラストアンカー・CRL）の状況を取得
+     * 
+     * @return トラストアンカー・CRL・失効した証明書・キャッシュ済みの証明書パスの件数
+     */
+    @GetMapping("/pki")
+    public ResponseEntity<PkiStatusDto> getPkiStatus() {
+        return ResponseEntity.ok(certificateVerifier.getStatus());
+    }
+
+    /**
+     * トラストアンカー・CRLを再読み込み
+     * 
+     * @return 再読み込み後の状況
+     */
+    @PostMapping("/pki/reload")
+    public ResponseEntity<PkiStatusDto> reloadPki() {
+        certificateVerifier.reload();
+        return ResponseEntity.ok(certificateVerifier.getStatus());
+    }
+
+    private static <T> ResponseEntity<T> tooManyRequests() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
     // 内部クラス：リクエスト・レスポンス
 
     public static class CreateSignatureRequest {
@@ -125,7 +214,10 @@ public class DigitalSignatureController {
         private Long contractId;
         private DigitalSignature.DocumentType documentType;
         private String documentContent;
+        private String documentHash;
         private String privateKeyBase64;
+        private SignatureAlgorithm signatureAlgorithm;
+        private String certificateChain;
 
         // Getters and Setters
         public Long getSignerId() { return signerId; }
@@ -143,8 +235,22 @@ public class DigitalSignatureController {
         public String getDocumentContent() { return documentContent; }
         public void setDocumentContent(String documentContent) { this.documentContent = documentContent; }
 
+        public String getDocumentHash() { return documentHash; }
+        public void setDocumentHash(String documentHash) { this.documentHash = documentHash; }
+
         public String getPrivateKeyBase64() { return privateKeyBase64; }
         public void setPrivateKeyBase64(String privateKeyBase64) { this.privateKeyBase64 = privateKeyBase64; }
+
+        public SignatureAlgorithm getSignatureAlgorithm() { return signatureAlgorithm; }
+        public void setSignatureAlgorithm(SignatureAlgorithm signatureAlgorithm) { this.signatureAlgorithm = signatureAlgorithm; }
+
+        public String getCertificateChain() { return certificateChain; }
+        public void setCertificateChain(String certificateChain) { this.certificateChain = certificateChain; }
+
+        SigningRequest toSigningRequest() {
+            return new SigningRequest(signerId, signerName, contractId, documentType,
+                    documentContent, documentHash, privateKeyBase64, signatureAlgorithm, certificateChain);
+        }
     }
 
     public static class VerifySignatureRequest {
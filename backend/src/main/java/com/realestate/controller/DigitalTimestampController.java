@@ -2,6 +2,7 @@ package com.realestate.controller;
 
 import com.realestate.dto.DigitalTimestampDto;
 import com.realestate.entity.DigitalTimestamp;
+import com.realestate.mapper.DigitalTimestampMapper;
 import com.realestate.service.DigitalTimestampService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import java.util.stream.Collectors;
 public class DigitalTimestampController {
 
     private final DigitalTimestampService timestampService;
+    private final DigitalTimestampMapper timestampMapper;
 
     /**
      * 電子タイムスタンプを作成
@@ -25,7 +27,7 @@ public class DigitalTimestampController {
     public ResponseEntity<DigitalTimestampDto> createTimestamp(@RequestBody DigitalTimestampDto timestampDto) {
         try {
             DigitalTimestamp timestamp = timestampService.createTimestamp(timestampDto);
-            return ResponseEntity.ok(convertToDto(timestamp));
+            return ResponseEntity.ok(timestampMapper.toDto(timestamp));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
@@ -52,7 +54,7 @@ public class DigitalTimestampController {
         try {
             List<DigitalTimestamp> timestamps = timestampService.getTimestampsByDocument(documentId);
             List<DigitalTimestampDto> timestampDtos = timestamps.stream()
-                    .map(this::convertToDto)
+                    .map(timestampMapper::toDto)
                     .collect(Collectors.toList());
             return ResponseEntity.ok(timestampDtos);
         } catch (Exception e) {
@@ -68,7 +70,7 @@ public class DigitalTimestampController {
         try {
             DigitalTimestamp timestamp = timestampService.getTimestampById(timestampId);
             if (timestamp != null) {
-                return ResponseEntity.ok(convertToDto(timestamp));
+                return ResponseEntity.ok(timestampMapper.toDto(timestamp));
             } else {
                 return ResponseEntity.notFound().build();
             }
@@ -85,7 +87,7 @@ public class DigitalTimestampController {
         try {
             List<DigitalTimestamp> timestamps = timestampService.getAllTimestamps();
             List<DigitalTimestampDto> timestampDtos = timestamps.stream()
-                    .map(this::convertToDto)
+                    .map(timestampMapper::toDto)
                     .collect(Collectors.toList());
             return ResponseEntity.ok(timestampDtos);
         } catch (Exception e) {
@@ -105,19 +107,4 @@ public class DigitalTimestampController {
             return ResponseEntity.badRequest().build();
         }
     }
-
-    /**
-     * EntityをDtoに変換
-     */
-    private DigitalTimestampDto convertToDto(DigitalTimestamp timestamp) {
-        DigitalTimestampDto dto = new DigitalTimestampDto();
-        dto.setId(timestamp.getId());
-        dto.setDocumentId(timestamp.getDocumentId().toString());
-        dto.setDocumentType(timestamp.getDocumentType());
-        dto.setTimestampAt(timestamp.getTimestampAt());
-        dto.setTimestampCertificate(timestamp.getTimestampCertificate());
-        dto.setTimestampAuthority(timestamp.getTimestampAuthority());
-        dto.setStatus(timestamp.getStatus());
-        return dto;
-    }
 }
@@ -0,0 +1,119 @@
+package com.realestate.controller;
+
+import com.realestate.document.DocumentStore;
+import com.realestate.document.DocumentTooLargeException;
+import com.realestate.document.StoredDocument;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 文書ストアコントローラークラス
+ * 署名対象文書の保存・取得APIを提供します（文書はSHA-256で識別）
+ */
+@RestController
+@RequestMapping("/api/documents")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class DocumentController {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentController.class);
+
+    // 文書ストア
+    private final DocumentStore documentStore;
+
+    /**
+     * 文書を保存するAPI（multipart）
+     * @param file 文書ファイル
+     * @return 保存された文書のハッシュとサイズ（新規保存時は201 Created、保存済みの場合は200 OK）
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StoredDocument> uploadDocument(@RequestParam("file") MultipartFile file) {
+        try (InputStream content = file.getInputStream()) {
+            return store(content);
+        } catch (DocumentTooLargeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        } catch (IOException e) {
+            log.error("文書の保存に失敗しました", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 文書を保存するAPI（リクエストボディをそのまま保存）
+     * リクエストボディを一時ファイルへ展開せず、受信しながらハッシュを計算して保存します
+     * Content-Lengthが上限を超える場合は受信前に、Content-Lengthがない場合は上限に達した時点で中止します
+     * @param content 文書の内容
+     * @param contentLength リクエストボディのサイズ（chunked転送の場合はなし）
+     * @return 保存された文書のハッシュとサイズ（新規保存時は201 Created、保存済みの場合は200 OK、上限超過時は413エラー）
+     */
+    @PostMapping(consumes = {MediaType.APPLICATION_OCTET_STREAM_VALUE, MediaType.APPLICATION_PDF_VALUE})
+    public ResponseEntity<StoredDocument> uploadDocumentBody(
+            InputStream content,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength) {
+        if (contentLength != null && contentLength > documentStore.maxSize()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        try {
+            return store(content);
+        } catch (DocumentTooLargeException e) {
+            log.warn("文書のサイズが上限を超えたため保存を中止しました（上限: {}バイト）", e.getMaxSize());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        } catch (IOException e) {
+            log.error("文書の保存に失敗しました", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 文書を取得するAPI
+     * @param hash 文書のSHA-256（16進数）
+     * @return 文書の内容（存在しない場合は404エラー、ハッシュが不正な場合は400エラー）
+     */
+    @GetMapping("/{hash}")
+    public ResponseEntity<Resource> getDocument(@PathVariable String hash) {
+        try {
+            return documentStore.file(hash)
+                    .map(file -> ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                            .eTag("\"" + hash + "\"")
+                            .<Resource>body(new FileSystemResource(file)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 保存済みの文書を検証するAPI
+     * @param hash 文書のSHA-256（16進数）
+     * @return 文書の内容がハッシュと一致するかどうか（存在しない場合は404エラー）
+     */
+    @PostMapping("/{hash}/verify")
+    public ResponseEntity<Boolean> verifyDocument(@PathVariable String hash) {
+        try {
+            if (documentStore.find(hash).isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(documentStore.verify(hash));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private ResponseEntity<StoredDocument> store(InputStream content) throws IOException {
+        StoredDocument document = documentStore.put(content);
+        return ResponseEntity.status(document.deduplicated() ? HttpStatus.OK : HttpStatus.CREATED).body(document);
+    }
+}
@@ -0,0 +1,61 @@
+package com.realestate.controller;
+
+import com.realestate.export.ExportDataset;
+import com.realestate.export.ExportFormat;
+import com.realestate.export.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * エクスポートコントローラークラス
+ * 取引・契約・顧客をCSV／Excel形式でストリーミング出力するAPIを提供します
+ */
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    // エクスポートサービス
+    private final ExportService exportService;
+
+    /**
+     * エクスポートAPI
+     * @param dataset 対象データ（transactions, contracts, clients）
+     * @param format 出力形式（csv, xlsx、既定値csv）
+     * @param from 期間の開始日（オプション、取引は取引日時、契約は開始日、顧客は登録日時で絞り込み）
+     * @param to 期間の終了日（オプション、この日を含む）
+     * @return ファイルのダウンロード（対象・形式が不正な場合は400エラー）
+     */
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            ExportDataset exportDataset = ExportDataset.valueOf(dataset.toUpperCase(Locale.ROOT));
+            ExportFormat exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+            StreamingResponseBody body = exportService.export(exportDataset, exportFormat, from, to);
+            String fileName = exportDataset.fileName() + "-"
+                    + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + exportFormat.extension();
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(fileName).build().toString())
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
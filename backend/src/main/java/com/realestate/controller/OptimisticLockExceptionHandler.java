@@ -0,0 +1,46 @@
+package com.realestate.controller;
+
+import com.realestate.dto.PatchConflictDto;
+import com.realestate.service.PatchConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.List;
+
+/**
+ * 更新競合の例外ハンドラー
+ * 楽観的排他制御によるバージョン競合を409（Conflict）として返します
+ */
+@RestControllerAdvice
+public class OptimisticLockExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticLockExceptionHandler.class);
+
+    /**
+     * 項目単位の競合（競合した項目と現在のバージョンを返す）
+     * @param e 部分更新の競合例外
+     * @return 409エラー
+     */
+    @ExceptionHandler(PatchConflictException.class)
+    public ResponseEntity<PatchConflictDto> handlePatchConflict(PatchConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new PatchConflictDto(e.getFields(), e.getCurrentVersion()));
+    }
+
+    /**
+     * バージョン不一致による競合（全体更新・再試行上限到達時）
+     * @param e 楽観的排他制御の例外
+     * @return 409エラー
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<PatchConflictDto> handleOptimisticLock(OptimisticLockingFailureException e) {
+        log.debug("更新が他の更新と競合しました: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new PatchConflictDto(List.of(), null));
+    }
+}
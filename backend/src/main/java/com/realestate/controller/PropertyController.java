@@ -1,15 +1,28 @@
 package com.realestate.controller;
 
 import com.realestate.dto.PropertyDto;
+import com.realestate.dto.PatchRequestDto;
+import com.realestate.dto.PropertyFacetSearchDto;
+import com.realestate.dto.PropertyGeoResultDto;
+import com.realestate.dto.PropertyPageDto;
 import com.realestate.entity.Property.PropertyType;
 import com.realestate.entity.Property.PropertyStatus;
+import com.realestate.search.PropertyCondition;
+import com.realestate.search.PropertyFacet;
+import com.realestate.search.PropertyFilter;
+import com.realestate.service.PropertySearchService;
 import com.realestate.service.PropertyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 物件管理コントローラークラス
@@ -24,6 +37,9 @@ public class PropertyController {
     // 物件管理サービス（業務ロジック層）
     private final PropertyService propertyService;
 
+    // 物件検索サービス（検索インデックス）
+    private final PropertySearchService propertySearchService;
+
     /**
      * 全ての物件を取得するAPI
      * @return 物件DTOのリスト
@@ -66,13 +82,16 @@ public class PropertyController {
     }
 
     /**
-     * キーワードによる物件の検索API
+     * キーワードによる物件の検索API（物件名・住所・物件説明の全文検索、関連度の高い順）
      * @param query 検索キーワード
+     * @param limit 最大件数（オプション、既定値20）
      * @return 該当する物件DTOのリスト
      */
     @GetMapping("/search")
-    public ResponseEntity<List<PropertyDto>> searchProperties(@RequestParam String query) {
-        return ResponseEntity.ok(propertyService.searchProperties(query));
+    public ResponseEntity<List<PropertyDto>> searchProperties(
+            @RequestParam String query,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(propertySearchService.searchText(query, limit));
     }
 
     /**
@@ -97,6 +116,123 @@ public class PropertyController {
                 type, status, minPrice, maxPrice, minArea, maxArea));
     }
 
+    /**
+     * 周辺物件の検索API（中心点からの半径検索、近い順）
+     * @param lat 中心点の緯度（nearを指定しない場合は必須）
+     * @param lon 中心点の経度（nearを指定しない場合は必須）
+     * @param near 中心点の地名・住所（例: 表参道駅）
+     * @param radius 半径（メートル、既定値1000）
+     * @param type 物件タイプ（オプション）
+     * @param status 物件ステータス（オプション）
+     * @param minPrice 最低価格（オプション）
+     * @param maxPrice 最高価格（オプション）
+     * @param minArea 最小面積（オプション）
+     * @param maxArea 最大面積（オプション）
+     * @param limit 最大件数（オプション）
+     * @return 検索結果（中心点が特定できない場合は400エラー）
+     */
+    @GetMapping("/search/nearby")
+    public ResponseEntity<List<PropertyGeoResultDto>> searchNearby(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(required = false) String near,
+            @RequestParam(defaultValue = "1000") double radius,
+            @RequestParam(required = false) PropertyType type,
+            @RequestParam(required = false) PropertyStatus status,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) BigDecimal minArea,
+            @RequestParam(required = false) BigDecimal maxArea,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            PropertyFilter filter = new PropertyFilter(type, status, minPrice, maxPrice, minArea, maxArea);
+            return ResponseEntity.ok(propertySearchService.searchNearby(lat, lon, near, radius, filter, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 矩形範囲内の物件の検索API（地図表示範囲での検索）
+     * @param minLat 南端の緯度
+     * @param minLon 西端の経度
+     * @param maxLat 北端の緯度
+     * @param maxLon 東端の経度
+     * @param type 物件タイプ（オプション）
+     * @param status 物件ステータス（オプション）
+     * @param minPrice 最低価格（オプション）
+     * @param maxPrice 最高価格（オプション）
+     * @param minArea 最小面積（オプション）
+     * @param maxArea 最大面積（オプション）
+     * @param limit 最大件数（オプション）
+     * @return 検索結果（範囲指定が不正な場合は400エラー）
+     */
+    @GetMapping("/search/within")
+    public ResponseEntity<List<PropertyGeoResultDto>> searchWithinBox(
+            @RequestParam double minLat,
+            @RequestParam double minLon,
+            @RequestParam double maxLat,
+            @RequestParam double maxLon,
+            @RequestParam(required = false) PropertyType type,
+            @RequestParam(required = false) PropertyStatus status,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) BigDecimal minArea,
+            @RequestParam(required = false) BigDecimal maxArea,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            PropertyFilter filter = new PropertyFilter(type, status, minPrice, maxPrice, minArea, maxArea);
+            return ResponseEntity.ok(propertySearchService.searchWithinBox(
+                    minLat, minLon, maxLat, maxLon, filter, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * ファセット検索API（検索結果とファセット値ごとの件数を同時に取得）
+     * 例: ?type=APARTMENT&type=HOUSE&priceBand=50000000-100000000&rooms=3
+     * @param params ファセット名（type, status, priceBand, areaBand, rooms, yearBuiltDecade）と選択値
+     * @param limit 返却する物件の最大件数（オプション）
+     * @return 検索結果とファセット値ごとの件数
+     */
+    @GetMapping("/search/facets")
+    public ResponseEntity<PropertyFacetSearchDto> searchFacets(
+            @RequestParam MultiValueMap<String, String> params,
+            @RequestParam(required = false) Integer limit) {
+        Map<PropertyFacet, Set<String>> selections = new EnumMap<>(PropertyFacet.class);
+        params.forEach((name, values) -> {
+            PropertyFacet facet = PropertyFacet.fromParameterName(name);
+            if (facet != null) {
+                Set<String> selected = selections.computeIfAbsent(facet, key -> new LinkedHashSet<>());
+                for (String value : values) {
+                    selected.addAll(List.of(value.split(",")));
+                }
+            }
+        });
+        return ResponseEntity.ok(propertySearchService.searchFacets(selections, limit));
+    }
+
+    /**
+     * 条件式による物件検索API（AND・OR・NOTを組み合わせた条件、物件IDの昇順でページング）
+     * 例: {"all": [{"field": "rooms", "gte": 3}, {"field": "parkingSpaces", "gte": 1}]}
+     * @param condition 条件式（省略時は全物件）
+     * @param page ページ番号（0始まり、既定値0）
+     * @param size 1ページあたりの件数（既定値20）
+     * @return 一致件数と該当ページの物件（条件式が不正な場合は400エラー）
+     */
+    @PostMapping("/search/query")
+    public ResponseEntity<PropertyPageDto> searchByCondition(
+            @RequestBody(required = false) PropertyCondition condition,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(propertySearchService.searchByCondition(condition, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 新規物件の作成API
      * @param propertyDto 作成する物件情報DTO
@@ -123,6 +259,26 @@ public class PropertyController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * 物件情報の部分更新API（項目単位のマージ）
+     * 読み込み後に他の更新があっても、変更項目が重ならなければ自動的に適用します
+     * @param id 更新対象の物件ID
+     * @param patch 部分更新リクエスト（version・changes・original）
+     * @return 更新された物件DTO（存在しない場合は404、リクエスト不正時は400、競合時は409エラー）
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<PropertyDto> patchProperty(
+            @PathVariable Long id,
+            @RequestBody PatchRequestDto patch) {
+        try {
+            return propertyService.patchProperty(id, patch)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 物件の削除API
      * @param id 削除対象の物件ID
@@ -0,0 +1,91 @@
+package com.realestate.controller;
+
+import com.realestate.bulkimport.PropertyImportService;
+import com.realestate.dto.PropertyImportErrorDto;
+import com.realestate.dto.PropertyImportJobDto;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 物件一括取り込みコントローラークラス
+ * CSV / NDJSONファイルによる物件の一括登録と、取り込み状況の参照APIを提供します
+ */
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class PropertyImportController {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyImportController.class);
+
+    // 物件一括取り込みサービス
+    private final PropertyImportService propertyImportService;
+
+    /**
+     * 物件の一括取り込みを開始するAPI
+     * 取り込みはバックグラウンドで実行され、状況は返却されたジョブIDで参照します
+     * @param file 取り込みファイル（.csv / .ndjson / .jsonl）
+     * @return 登録されたジョブ（202 Accepted、形式が不正な場合は400エラー）
+     */
+    @PostMapping("/properties")
+    public ResponseEntity<PropertyImportJobDto> importProperties(@RequestParam("file") MultipartFile file) {
+        try (InputStream content = file.getInputStream()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(propertyImportService.submit(file.getOriginalFilename(), content));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IOException e) {
+            log.error("取り込みファイルの保存に失敗しました", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 直近の取り込みジョブ一覧を取得するAPI
+     * @return ジョブの状況（新しい順、最大50件）
+     */
+    @GetMapping
+    public ResponseEntity<List<PropertyImportJobDto>> getRecentJobs() {
+        return ResponseEntity.ok(propertyImportService.getRecentJobs());
+    }
+
+    /**
+     * 取り込みジョブの状況を取得するAPI
+     * @param id ジョブID
+     * @return 件数・進捗・処理速度（存在しない場合は404エラー）
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<PropertyImportJobDto> getJob(@PathVariable Long id) {
+        return propertyImportService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 取り込みエラーを取得するAPI
+     * @param id ジョブID
+     * @param page ページ番号（0始まり、既定値0）
+     * @param size 1ページあたりの件数（既定値100、最大1000）
+     * @return レコード番号とエラー内容の一覧
+     */
+    @GetMapping("/{id}/errors")
+    public ResponseEntity<List<PropertyImportErrorDto>> getErrors(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            return ResponseEntity.ok(propertyImportService.getErrors(id, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
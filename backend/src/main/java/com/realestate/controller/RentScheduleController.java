@@ -0,0 +1,58 @@
+package com.realestate.controller;
+
+import com.realestate.dto.RentScheduleResultDto;
+import com.realestate.dto.TransactionDto;
+import com.realestate.rent.RentScheduleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 賃料スケジュールコントローラークラス
+ * 賃貸・リース契約の毎月の支払予定（取引）の参照・再生成APIを提供します
+ */
+@RestController
+@RequestMapping("/api/rent-schedules")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class RentScheduleController {
+
+    // 賃料スケジュールサービス
+    private final RentScheduleService rentScheduleService;
+
+    /**
+     * 契約の支払予定取得API
+     * @param contractId 契約ID
+     * @return 期日順の支払予定（取引DTOのリスト）
+     */
+    @GetMapping("/{contractId}")
+    public ResponseEntity<List<TransactionDto>> getSchedule(@PathVariable Long contractId) {
+        return ResponseEntity.ok(rentScheduleService.getSchedule(contractId));
+    }
+
+    /**
+     * 契約の支払予定再生成API
+     * @param contractId 契約ID
+     * @return 生成結果（契約が存在しない場合は404エラー）
+     */
+    @PostMapping("/{contractId}/regenerate")
+    public ResponseEntity<RentScheduleResultDto> regenerate(@PathVariable Long contractId) {
+        return rentScheduleService.regenerate(contractId, true)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 全契約の繰り越し処理API（毎月のスケジュール実行を手動で実行）
+     * @return 生成結果（既に実行中の場合は409エラー）
+     */
+    @PostMapping("/roll-forward")
+    public ResponseEntity<RentScheduleResultDto> rollForward() {
+        return rentScheduleService.rollForward()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+}
@@ -1,11 +1,19 @@
 package com.realestate.controller;
 
+import com.realestate.archive.TransactionArchiveService;
+import com.realestate.dto.TransactionArchivePartitionDto;
 import com.realestate.dto.TransactionDto;
+import com.realestate.entity.Transaction.TransactionStatus;
+import com.realestate.entity.Transaction.TransactionType;
 import com.realestate.service.TransactionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -21,6 +29,9 @@ public class TransactionController {
     // 取引管理サービス（業務ロジック層）
     private final TransactionService transactionService;
 
+    // 取引アーカイブ（締め済みの月の取引）
+    private final TransactionArchiveService transactionArchiveService;
+
     /**
      * 全ての取引を取得するAPI
      * @return 取引DTOのリスト
@@ -30,6 +41,52 @@ public class TransactionController {
         return ResponseEntity.ok(transactionService.getAllTransactions());
     }
 
+    /**
+     * 期間と条件による取引の検索API（アーカイブ済みの取引を含む）
+     * @param from 取引日時の下限（この日時を含む）
+     * @param to 取引日時の上限（この日時を含まない）
+     * @param type 取引タイプ（任意）
+     * @param status 取引ステータス（任意）
+     * @param minAmount 金額の下限（任意）
+     * @param maxAmount 金額の上限（任意）
+     * @return 該当する取引DTOのリスト（期間が不正な場合は400エラー）
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<TransactionDto>> searchTransactions(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) TransactionStatus status,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount) {
+        try {
+            return ResponseEntity.ok(transactionService.searchTransactions(
+                    from, to, type, status, minAmount, maxAmount));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * アーカイブ済みの月の一覧取得API
+     * @return パーティションDTOのリスト（期間順）
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<List<TransactionArchivePartitionDto>> getArchivePartitions() {
+        return ResponseEntity.ok(transactionArchiveService.getPartitions());
+    }
+
+    /**
+     * 締め処理API（保持期間を過ぎた月の取引をアーカイブへ移動、毎月のスケジュール実行を手動で実行）
+     * @return 今回アーカイブした月の一覧（既に実行中の場合は409エラー）
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<List<TransactionArchivePartitionDto>> archiveClosedPeriods() {
+        return transactionArchiveService.archiveClosedPeriods()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
     /**
      * IDによる取引の取得API
      * @param id 取引ID
@@ -45,27 +102,37 @@ public class TransactionController {
     /**
      * 新規取引の作成API
      * @param transactionDto 作成する取引情報DTO
-     * @return 作成された取引DTO
+     * @return 作成された取引DTO（取引日時が締め済みの期間の場合は400エラー）
      */
     @PostMapping
     public ResponseEntity<TransactionDto> createTransaction(@RequestBody TransactionDto transactionDto) {
-        TransactionDto createdTransaction = transactionService.createTransaction(transactionDto);
-        return ResponseEntity.ok(createdTransaction);
+        try {
+            TransactionDto createdTransaction = transactionService.createTransaction(transactionDto);
+            return ResponseEntity.ok(createdTransaction);
+        } catch (IllegalArgumentException e) {
+            // 締め済みの期間の取引
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
      * 取引情報の更新API
      * @param id 更新対象の取引ID
      * @param transactionDto 更新する取引情報DTO
-     * @return 更新された取引DTO（存在しない場合は404エラー）
+     * @return 更新された取引DTO（存在しない場合は404、取引日時が締め済みの期間の場合は400エラー）
      */
     @PutMapping("/{id}")
     public ResponseEntity<TransactionDto> updateTransaction(
             @PathVariable Long id,
             @RequestBody TransactionDto transactionDto) {
-        return transactionService.updateTransaction(id, transactionDto)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return transactionService.updateTransaction(id, transactionDto)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            // 締め済みの期間の取引
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
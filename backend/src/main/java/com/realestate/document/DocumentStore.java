@@ -0,0 +1,226 @@
+package com.realestate.document;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 署名対象文書のストア
+ *
+ * 文書を内容のSHA-256をファイル名としてローカルディスクに保存します（内容アドレス方式）。
+ * 同じ内容の文書は1つのファイルのみ保存されます。
+ * 書き込みは小さなバッファ単位でハッシュを計算しながら一時ファイルへ行い、
+ * ディスクへの同期後に正式なファイル名へ移動するため、保存済みのファイルは変更されません。
+ * 読み込み（ハッシュ計算）はメモリマップで行い、文書全体をヒープに読み込みません。
+ * ストリームから保存する文書は受信しながらサイズを数え、上限を超えた時点で書き込みを中止します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class DocumentStore {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentStore.class);
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    /**
+     * 1回にメモリマップする最大サイズ（これを超える文書は範囲を分けてマップ）
+     */
+    private static final long MAP_WINDOW = 64L * 1024 * 1024;
+
+    private final Path directory;
+
+    private final Path tmpDirectory;
+
+    /**
+     * ストリームから保存する文書の最大サイズ（バイト）
+     */
+    private final long maxSize;
+
+    public DocumentStore(@Value("${app.documents.directory:./data/documents}") String directory,
+                         @Value("${app.documents.max-size-mb:512}") long maxSizeMb) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.tmpDirectory = this.directory.resolve("tmp");
+        this.maxSize = maxSizeMb * 1024 * 1024;
+    }
+
+    /**
+     * ストリームから保存する文書の最大サイズ
+     *
+     * @return 最大サイズ（バイト）
+     */
+    public long maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 文書を保存
+     *
+     * @param content 文書内容（呼び出し元でクローズ）
+     * @return 保存された文書（同じ内容が保存済みの場合は書き込みを省略）
+     * @throws IOException 読み込み・書き込みに失敗した場合
+     * @throws DocumentTooLargeException 文書が最大サイズを超えた場合
+     */
+    public StoredDocument put(InputStream content) throws IOException {
+        StreamingDigest.Source source = StreamingDigest.bytes(content);
+        long[] total = new long[1];
+        return put(buffer -> {
+            int read = source.read(buffer);
+            if (read > 0 && (total[0] += read) > maxSize) {
+                throw new DocumentTooLargeException(maxSize);
+            }
+            return read;
+        });
+    }
+
+    /**
+     * 文書を保存（UTF-8で符号化）
+     *
+     * @param content 文書内容
+     * @return 保存された文書（同じ内容が保存済みの場合は書き込みを省略）
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public StoredDocument put(CharSequence content) throws IOException {
+        return put(StreamingDigest.utf8(content));
+    }
+
+    private StoredDocument put(StreamingDigest.Source content) throws IOException {
+        Files.createDirectories(tmpDirectory);
+        Path tmp = Files.createTempFile(tmpDirectory, "upload-", ".tmp");
+        try {
+            byte[] digest;
+            long size;
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                digest = StreamingDigest.digest(HASH_ALGORITHM, content, channel);
+                size = channel.position();
+                channel.force(true);
+            }
+
+            String hash = HEX.formatHex(digest);
+            Path target = pathOf(hash);
+            if (Files.exists(target)) {
+                return new StoredDocument(hash, size, true);
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 同じ内容の文書が並行して保存された
+                return new StoredDocument(hash, size, true);
+            }
+            log.debug("文書を保存しました: {} ({}バイト)", hash, size);
+            return new StoredDocument(hash, size, false);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * 保存済みの文書を取得
+     *
+     * @param hash 文書のSHA-256（16進数）
+     * @return 保存された文書（存在しない場合は空）
+     */
+    public Optional<StoredDocument> find(String hash) {
+        Path file = pathOf(hash);
+        try {
+            return Optional.of(new StoredDocument(hash, Files.size(file), true));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 保存済みの文書のファイルを取得（ダウンロード用）
+     *
+     * @param hash 文書のSHA-256（16進数）
+     * @return 文書のファイル（存在しない場合は空）
+     */
+    public Optional<Path> file(String hash) {
+        Path file = pathOf(hash);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * 保存済みの文書のハッシュを計算
+     *
+     * 文書をメモリマップして計算するため、文書のサイズにかかわらずヒープを消費しません。
+     *
+     * @param hash 文書のSHA-256（16進数）
+     * @param algorithm ハッシュアルゴリズム
+     * @return ハッシュ値
+     * @throws IllegalArgumentException 文書が保存されていない場合
+     */
+    public byte[] digest(String hash, String algorithm) {
+        MessageDigest digest = newDigest(algorithm);
+        try (FileChannel channel = FileChannel.open(pathOf(hash), StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += MAP_WINDOW) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(MAP_WINDOW, size - position));
+                digest.update(mapped);
+            }
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("文書が保存されていません: " + hash);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * 保存済みの文書が改ざん・破損していないかを検証
+     *
+     * @param hash 文書のSHA-256（16進数）
+     * @return 文書の内容のハッシュが識別子と一致する場合true
+     * @throws IllegalArgumentException 文書が保存されていない場合
+     */
+    public boolean verify(String hash) {
+        return HEX.formatHex(digest(hash, HASH_ALGORITHM)).equals(hash);
+    }
+
+    /**
+     * 文書のファイルパス（先頭2桁・次の2桁でディレクトリを分割）
+     */
+    private Path pathOf(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalArgumentException("文書のハッシュが不正です: " + hash);
+        }
+        return directory.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("ハッシュアルゴリズムが利用できません: " + algorithm, e);
+        }
+    }
+}
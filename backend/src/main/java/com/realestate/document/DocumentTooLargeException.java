@@ -0,0 +1,23 @@
+package com.realestate.document;
+
+/**
+ * 文書サイズ超過例外
+ * 保存しようとした文書が上限サイズを超えた場合に発生します（書き込み途中の一時ファイルは削除されます）
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public class DocumentTooLargeException extends RuntimeException {
+
+    private final long maxSize;
+
+    public DocumentTooLargeException(long maxSize) {
+        super("文書のサイズが上限（" + maxSize + "バイト）を超えています");
+        this.maxSize = maxSize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+}
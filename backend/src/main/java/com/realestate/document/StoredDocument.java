@@ -0,0 +1,14 @@
+package com.realestate.document;
+
+/**
+ * 文書ストアに保存された文書
+ *
+ * @param hash 文書内容のSHA-256（16進数小文字64桁、文書の識別子）
+ * @param size 文書のサイズ（バイト）
+ * @param deduplicated 同じ内容の文書が保存済みだったため書き込みを省略した場合true
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record StoredDocument(String hash, long size, boolean deduplicated) {
+}
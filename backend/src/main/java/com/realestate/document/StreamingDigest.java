@@ -0,0 +1,164 @@
+package com.realestate.document;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * ストリーミングによるハッシュ計算
+ *
+ * 文書をスレッドごとに再利用するダイレクトバッファ（8KB）へ少しずつ読み込みながらハッシュを計算するため、
+ * 文書のサイズにかかわらず文書全体のコピーを作成しません。
+ * 文字列はUTF-8、ストリームはバイト列そのもののハッシュを計算します（JVMの既定の文字コードには依存しません）。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public final class StreamingDigest {
+
+    public static final String SHA_256 = "SHA-256";
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    private StreamingDigest() {
+    }
+
+    /**
+     * ハッシュ計算の入力
+     */
+    @FunctionalInterface
+    public interface Source {
+
+        /**
+         * バッファの空き領域に次のデータを書き込む
+         *
+         * @param buffer 書き込み先
+         * @return 書き込んだバイト数（終端の場合は-1）
+         * @throws IOException 読み込みに失敗した場合
+         */
+        int read(ByteBuffer buffer) throws IOException;
+    }
+
+    /**
+     * 文字列のSHA-256を計算（UTF-8）
+     *
+     * @param content 文字列
+     * @return ハッシュ値
+     */
+    public static byte[] sha256(CharSequence content) {
+        try {
+            return digest(SHA_256, utf8(content), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * ストリームのSHA-256を計算
+     *
+     * @param content 入力ストリーム（呼び出し元でクローズ）
+     * @return ハッシュ値
+     * @throws IOException 読み込みに失敗した場合
+     */
+    public static byte[] sha256(InputStream content) throws IOException {
+        return digest(SHA_256, bytes(content), null);
+    }
+
+    /**
+     * 入力を読み込みながらハッシュを計算
+     *
+     * @param algorithm ハッシュアルゴリズム
+     * @param source 入力
+     * @param sink 読み込んだデータの書き込み先（不要な場合はnull）
+     * @return ハッシュ値
+     * @throws IOException 読み込み・書き込みに失敗した場合
+     */
+    public static byte[] digest(String algorithm, Source source, WritableByteChannel sink) throws IOException {
+        MessageDigest digest = newDigest(algorithm);
+        ByteBuffer buffer = BUFFER.get();
+        while (true) {
+            buffer.clear();
+            if (source.read(buffer) < 0) {
+                break;
+            }
+            buffer.flip();
+            if (sink != null) {
+                while (buffer.hasRemaining()) {
+                    sink.write(buffer);
+                }
+                buffer.rewind();
+            }
+            digest.update(buffer);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * バイト列の入力ストリームを入力とする
+     *
+     * @param content 入力ストリーム（呼び出し元でクローズ）
+     * @return 入力
+     */
+    public static Source bytes(InputStream content) {
+        ReadableByteChannel channel = Channels.newChannel(content);
+        return channel::read;
+    }
+
+    /**
+     * 文字列をUTF-8で少しずつ符号化して入力とする
+     *
+     * @param content 文字列
+     * @return 入力
+     */
+    public static Source utf8(CharSequence content) {
+        CharBuffer chars = CharBuffer.wrap(content);
+        // 不正なサロゲートはString.getBytesと同じく置換文字にする
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return new Source() {
+            private boolean flushed;
+
+            @Override
+            public int read(ByteBuffer buffer) throws CharacterCodingException {
+                if (flushed) {
+                    return -1;
+                }
+                int start = buffer.position();
+                CoderResult result = encoder.encode(chars, buffer, true);
+                if (result.isUnderflow()) {
+                    result = encoder.flush(buffer);
+                    flushed = result.isUnderflow();
+                }
+                if (result.isError()) {
+                    result.throwException();
+                }
+                return buffer.position() - start;
+            }
+        };
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("ハッシュアルゴリズムが利用できません: " + algorithm, e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 監査ログレコードDTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRecordDto {
+
+    /**
+     * 連番
+     */
+    private long sequence;
+
+    /**
+     * 発生日時
+     */
+    private Instant occurredAt;
+
+    /**
+     * 操作者
+     */
+    private String actor;
+
+    /**
+     * エンティティ種別
+     */
+    private String entityType;
+
+    /**
+     * エンティティID
+     */
+    private String entityId;
+
+    /**
+     * 操作種別（CREATE / UPDATE / DELETE / BULK）
+     */
+    private String action;
+
+    /**
+     * 変更内容（更新時は項目名→{old, new}）
+     */
+    private Map<String, Object> changes;
+
+    /**
+     * 直前のレコードのハッシュ
+     */
+    private String previousHash;
+
+    /**
+     * このレコードのハッシュ
+     */
+    private String hash;
+}
@@ -0,0 +1,55 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 監査ログ検証結果DTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditVerificationDto {
+
+    /**
+     * 改ざん・欠落が無いかどうか
+     */
+    private boolean valid;
+
+    /**
+     * 検証したセグメント数
+     */
+    private int segments;
+
+    /**
+     * 検証したレコード数
+     */
+    private long records;
+
+    /**
+     * 最後のレコードのハッシュ（外部に控えておくと、ファイル全体の差し替えを検出できます）
+     */
+    private String lastHash;
+
+    /**
+     * 起動後に書き込みに失敗したレコード数（ファイルには現れない欠落）
+     */
+    private long lostRecords;
+
+    /**
+     * 検出した問題（セグメント名・位置・内容）
+     */
+    private List<String> problems;
+
+    /**
+     * 処理時間（ミリ秒）
+     */
+    private long elapsedMillis;
+}
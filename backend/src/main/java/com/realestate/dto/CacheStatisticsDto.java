@@ -0,0 +1,50 @@
+package com.realestate.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * キャッシュ統計データ転送オブジェクト（DTO）
+ *
+ * 二次キャッシュ・クエリキャッシュのリージョンごとのヒット数、ミス数、ヒット率を保持します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatisticsDto {
+
+    /**
+     * キャッシュリージョン名
+     */
+    private String region;
+
+    /**
+     * ヒット数
+     */
+    private long hitCount;
+
+    /**
+     * ミス数
+     */
+    private long missCount;
+
+    /**
+     * 格納数
+     */
+    private long putCount;
+
+    /**
+     * メモリ上のエントリ数（取得できない場合は-1）
+     */
+    private long elementCount;
+
+    /**
+     * ヒット率（0.0〜1.0）
+     */
+    private double hitRatio;
+}
@@ -1,7 +1,11 @@
 package com.realestate.dto;
 
+import com.realestate.entity.Client.ClientStatus;
+import com.realestate.entity.Client.ClientType;
 import com.realestate.entity.Contract.ContractType;
 import com.realestate.entity.Contract.ContractStatus;
+import com.realestate.entity.Property.PropertyStatus;
+import com.realestate.entity.Property.PropertyType;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -28,4 +32,58 @@ public class ContractDto {
     private String terms;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+
+    /**
+     * JPQLコンストラクタ式による射影用コンストラクタ
+     * 契約・物件・顧客を結合した1行から、ネストした物件DTO・顧客DTOを含む契約DTOを組み立てます
+     * （ContractRepository.CONTRACT_DTO_SELECT で使用）
+     * エンティティを読み込まない一覧用の経路のため ContractMapper.toDto を経由しません。
+     * 組み立て結果は ContractMapper.toDto と同じ内容になるよう保ってください（顧客名は clientName で共通化）
+     */
+    public ContractDto(Long id, String contractNumber,
+                       Long propertyId, String propertyName, String propertyAddress, String propertyDescription,
+                       PropertyType propertyType, PropertyStatus propertyStatus,
+                       BigDecimal propertyPrice, BigDecimal propertyArea,
+                       Integer propertyRooms, Integer propertyBathrooms, Integer propertyParkingSpaces,
+                       Integer propertyYearBuilt, Double propertyLatitude, Double propertyLongitude,
+                       LocalDateTime propertyCreatedAt, LocalDateTime propertyUpdatedAt, Long propertyVersion,
+                       Long clientId, String clientFirstName, String clientLastName, String clientEmail,
+                       String clientPhone, String clientAddress, ClientType clientType, ClientStatus clientStatus,
+                       LocalDateTime clientCreatedAt, LocalDateTime clientUpdatedAt,
+                       ContractType type, ContractStatus status, BigDecimal amount, BigDecimal monthlyRent,
+                       LocalDateTime startDate, LocalDateTime endDate, String terms,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.contractNumber = contractNumber;
+        this.property = new PropertyDto(propertyId, propertyName, propertyAddress, propertyDescription,
+                propertyType, propertyStatus, propertyPrice, propertyArea,
+                propertyRooms, propertyBathrooms, propertyParkingSpaces, propertyYearBuilt,
+                propertyLatitude, propertyLongitude, propertyCreatedAt, propertyUpdatedAt, propertyVersion);
+        this.client = new ClientDto(clientId, clientFirstName, clientLastName, clientEmail,
+                clientPhone, clientAddress, clientType, clientStatus, clientCreatedAt, clientUpdatedAt);
+        this.propertyName = propertyName;
+        this.clientName = clientName(clientFirstName, clientLastName);
+        this.type = type;
+        this.status = status;
+        this.amount = amount;
+        this.monthlyRent = monthlyRent;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.terms = terms;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    /**
+     * 顧客の表示名（姓 名）を生成
+     * ContractMapper と射影用コンストラクタで共通の表示形式を使うための関数です
+     * @param firstName 顧客の姓
+     * @param lastName 顧客の名
+     * @return 顧客名
+     */
+    public static String clientName(String firstName, String lastName) {
+        return firstName + " " + lastName;
+    }
 }
@@ -0,0 +1,77 @@
+package com.realestate.dto;
+
+import com.realestate.entity.Client.ClientStatus;
+import com.realestate.entity.Contract.ContractStatus;
+import com.realestate.entity.Contract.ContractType;
+import com.realestate.entity.Transaction.TransactionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 契約一覧の絞り込み条件DTO
+ * 指定された項目のみAND条件で絞り込みます（文字列項目は部分一致、大文字小文字を区別しない）
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractListCriteria {
+
+    private String contractNumber;
+
+    private String propertyName;
+
+    private String clientName;
+
+    private ContractType type;
+
+    private ContractStatus status;
+
+    private ClientStatus clientStatus;
+
+    private TransactionStatus latestTransactionStatus;
+
+    private Long propertyId;
+
+    private Long clientId;
+
+    /**
+     * 契約開始日（この日以降）
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startFrom;
+
+    /**
+     * 契約開始日（この日以前）
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startTo;
+
+    /**
+     * 契約終了日（この日以降）
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endFrom;
+
+    /**
+     * 契約終了日（この日以前）
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endTo;
+
+    private BigDecimal minRent;
+
+    private BigDecimal maxRent;
+
+    private BigDecimal minAmount;
+
+    private BigDecimal maxAmount;
+}
@@ -0,0 +1,41 @@
+package com.realestate.dto;
+
+import com.realestate.entity.ContractListView;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 契約一覧のページ単位の検索結果DTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractListPageDto {
+
+    /**
+     * 条件に一致した契約数
+     */
+    private long totalHits;
+
+    /**
+     * ページ番号（0始まり）
+     */
+    private int page;
+
+    /**
+     * 1ページあたりの件数
+     */
+    private int size;
+
+    /**
+     * 該当ページの契約一覧行
+     */
+    private List<ContractListView> contracts;
+}
@@ -10,6 +10,7 @@ public class DigitalTimestampDto {
     private Long id;
     private String documentId;
     private DigitalTimestamp.DocumentType documentType;
+    private String documentHash;
     private LocalDateTime timestampAt;
     private String timestampCertificate;
     private String timestampAuthority;
@@ -0,0 +1,31 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 更新競合レスポンスDTO
+ * 他の更新と競合した項目と現在のバージョンを返します
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatchConflictDto {
+
+    /**
+     * 競合した項目名（項目を特定できない場合は空）
+     */
+    private List<String> fields;
+
+    /**
+     * 現在のバージョン（不明な場合はnull）
+     */
+    private Long currentVersion;
+}
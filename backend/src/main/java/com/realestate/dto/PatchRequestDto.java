@@ -0,0 +1,38 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 項目単位の部分更新リクエストDTO
+ * 変更する項目のみを指定します。読み込み後に他の更新があった場合でも、
+ * 変更項目が他の更新と重ならなければ自動的にマージして適用します
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatchRequestDto {
+
+    /**
+     * 読み込み時のバージョン（必須）
+     */
+    private Long version;
+
+    /**
+     * 変更内容（項目名→新しい値）
+     */
+    private Map<String, Object> changes;
+
+    /**
+     * 読み込み時の値（項目名→値、省略可）
+     * 指定された項目は、現在値が読み込み時から変わっていなければ他の更新と競合しないものとして扱います
+     */
+    private Map<String, Object> original;
+}
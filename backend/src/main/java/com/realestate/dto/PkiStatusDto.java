@@ -0,0 +1,51 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 証明書検証情報の状況DTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PkiStatusDto {
+
+    private int trustAnchors;
+
+    private int crls;
+
+    /**
+     * CRLに含まれる失効した証明書の件数
+     */
+    private int revokedCertificates;
+
+    /**
+     * 次回更新日時を過ぎたCRLの件数（発行者の証明書は失効状況を判定できない）
+     */
+    private int staleCrls;
+
+    /**
+     * 失効判定用ブルームフィルタのビット数
+     */
+    private int filterBits;
+
+    /**
+     * キャッシュ済みの証明書パスの件数
+     */
+    private int cachedPaths;
+
+    private Instant loadedAt;
+
+    /**
+     * CRLの次回更新日時（最も早いもの）
+     */
+    private Instant nextUpdate;
+}
@@ -84,6 +84,16 @@ public class PropertyDto {
      */
     private Integer yearBuilt;
     
+    /**
+     * 緯度
+     */
+    private Double latitude;
+    
+    /**
+     * 経度
+     */
+    private Double longitude;
+    
     /**
      * 作成日時
      */
@@ -93,4 +103,9 @@ public class PropertyDto {
      * 更新日時
      */
     private LocalDateTime updatedAt;
+    
+    /**
+     * バージョン（更新時に読み込み時の値を指定すると、他の更新との競合を検出します）
+     */
+    private Long version;
 }
@@ -0,0 +1,38 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 物件のファセット検索結果DTO
+ *
+ * 検索結果の物件と、検索結果に含まれる物件のファセット値ごとの件数を返します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyFacetSearchDto {
+
+    /**
+     * 条件に一致した物件数
+     */
+    private int totalHits;
+
+    /**
+     * ファセット名（type, status, priceBand, areaBand, rooms, yearBuiltDecade）→（ファセット値 → 件数）
+     */
+    private Map<String, Map<String, Integer>> facets;
+
+    /**
+     * 検索結果の物件（最大limit件）
+     */
+    private List<PropertyDto> properties;
+}
@@ -0,0 +1,30 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 物件の位置検索結果DTO
+ *
+ * 周辺検索・範囲検索の結果として、物件情報と検索中心点からの距離を返します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyGeoResultDto {
+
+    /**
+     * 物件情報
+     */
+    private PropertyDto property;
+
+    /**
+     * 検索中心点からの距離（メートル）
+     */
+    private double distanceMeters;
+}
@@ -0,0 +1,28 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 物件一括取り込みのエラーDTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyImportErrorDto {
+
+    /**
+     * レコード番号（1始まり、CSVの見出し行は含まない）
+     */
+    private long recordNumber;
+
+    /**
+     * エラー内容
+     */
+    private String message;
+}
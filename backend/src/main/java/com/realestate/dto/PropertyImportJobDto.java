@@ -0,0 +1,59 @@
+package com.realestate.dto;
+
+import com.realestate.entity.PropertyImportJob.ImportFormat;
+import com.realestate.entity.PropertyImportJob.ImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 物件一括取り込みジョブの状況DTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyImportJobDto {
+
+    private Long id;
+
+    private String fileName;
+
+    private ImportFormat format;
+
+    private ImportStatus status;
+
+    /**
+     * 処理済みレコード数（コミット済み）
+     */
+    private long processedRecords;
+
+    private long importedCount;
+
+    private long duplicateCount;
+
+    private long errorCount;
+
+    /**
+     * ファイルの読み込み進捗（0〜100、実行中のみ）
+     */
+    private Double progressPercent;
+
+    /**
+     * 処理速度（レコード/秒、実行中は今回の開始から、終了後は開始から終了まで）
+     */
+    private Double recordsPerSecond;
+
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,40 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 物件のページ単位の検索結果DTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyPageDto {
+
+    /**
+     * 条件に一致した物件数
+     */
+    private int totalHits;
+
+    /**
+     * ページ番号（0始まり）
+     */
+    private int page;
+
+    /**
+     * 1ページあたりの件数
+     */
+    private int size;
+
+    /**
+     * 該当ページの物件（物件IDの昇順）
+     */
+    private List<PropertyDto> properties;
+}
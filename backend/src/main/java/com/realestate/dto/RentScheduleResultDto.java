@@ -0,0 +1,48 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 賃料スケジュール生成結果DTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentScheduleResultDto {
+
+    /**
+     * 処理した契約数
+     */
+    private int contracts;
+
+    /**
+     * 追加した支払予定の件数
+     */
+    private int inserted;
+
+    /**
+     * 賃料を更新した支払予定の件数
+     */
+    private int updated;
+
+    /**
+     * 削除した支払予定の件数（期間の変更・契約の終了により不要になった未処理の取引）
+     */
+    private int deleted;
+
+    /**
+     * 失敗したチャンク数（失敗したチャンクは次回の実行で再処理されます）
+     */
+    private int failedChunks;
+
+    /**
+     * 処理時間（ミリ秒）
+     */
+    private long elapsedMillis;
+}
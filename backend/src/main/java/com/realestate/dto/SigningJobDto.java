@@ -0,0 +1,39 @@
+package com.realestate.dto;
+
+import com.realestate.signature.SigningStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 電子署名ジョブの状況DTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningJobDto {
+
+    private String jobId;
+
+    private SigningStatus status;
+
+    /**
+     * 作成された電子署名のID（完了時のみ）
+     */
+    private Long signatureId;
+
+    /**
+     * 失敗の理由（失敗時のみ）
+     */
+    private String error;
+
+    private LocalDateTime submittedAt;
+
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,53 @@
+package com.realestate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 電子署名キューの統計DTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningQueueStatsDto {
+
+    /**
+     * 処理待ちの件数
+     */
+    private int queueDepth;
+
+    private int queueCapacity;
+
+    private int workers;
+
+    /**
+     * 処理中のワーカー数
+     */
+    private int busyWorkers;
+
+    private long submitted;
+
+    private long completed;
+
+    private long failed;
+
+    /**
+     * キューが満杯のため受け付けなかった件数
+     */
+    private long rejected;
+
+    /**
+     * 1回の保存でまとめた平均件数
+     */
+    private double averageBatchSize;
+
+    /**
+     * 1件あたりの平均署名時間（ミリ秒）
+     */
+    private double averageSigningMillis;
+}
@@ -0,0 +1,70 @@
+package com.realestate.dto;
+
+import com.realestate.entity.Transaction.TransactionStatus;
+import com.realestate.entity.Transaction.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 取引アーカイブパーティションDTO
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionArchivePartitionDto {
+
+    /**
+     * 対象月（月の初日）
+     */
+    private LocalDate period;
+
+    /**
+     * 取引件数
+     */
+    private long rowCount;
+
+    /**
+     * 圧縮後のファイルサイズ（バイト）
+     */
+    private long compressedBytes;
+
+    /**
+     * 金額の最小値
+     */
+    private BigDecimal minAmount;
+
+    /**
+     * 金額の最大値
+     */
+    private BigDecimal maxAmount;
+
+    /**
+     * 含まれる取引タイプ
+     */
+    private Set<TransactionType> types;
+
+    /**
+     * 含まれる取引ステータス
+     */
+    private Set<TransactionStatus> statuses;
+
+    /**
+     * 契約数
+     */
+    private int contractCount;
+
+    /**
+     * アーカイブ日時
+     */
+    private LocalDateTime archivedAt;
+}
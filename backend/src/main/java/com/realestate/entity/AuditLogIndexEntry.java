@@ -0,0 +1,77 @@
+package com.realestate.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 監査ログ索引エンティティクラス
+ *
+ * 監査ログ（セグメントファイル）のレコードを、エンティティIDと発生日時で検索するための索引です。
+ * レコードの内容はセグメントファイルにのみ保存され、この索引はファイル上の位置を保持します。
+ * 索引はセグメントファイルから再構築できるため、起動時に不足分を補います。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Entity
+@Table(name = "audit_log_index", indexes = {
+        @Index(name = "idx_audit_log_index_entity", columnList = "entity_type, entity_id, occurred_at"),
+        @Index(name = "idx_audit_log_index_occurred_at", columnList = "occurred_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogIndexEntry {
+
+    /**
+     * 連番（主キー、監査ログ全体で一意）
+     */
+    @Id
+    private Long sequence;
+
+    /**
+     * エンティティ種別
+     */
+    @Column(name = "entity_type", nullable = false, length = 100)
+    private String entityType;
+
+    /**
+     * エンティティID
+     */
+    @Column(name = "entity_id", nullable = false, length = 100)
+    private String entityId;
+
+    /**
+     * 操作種別
+     */
+    @Column(nullable = false, length = 20)
+    private String action;
+
+    /**
+     * 発生日時
+     */
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    /**
+     * セグメント番号
+     */
+    @Column(nullable = false)
+    private long segment;
+
+    /**
+     * セグメントファイル内の位置（バイト）
+     */
+    @Column(name = "file_offset", nullable = false)
+    private long fileOffset;
+
+    /**
+     * レコードの長さ（バイト、改行を含む）
+     */
+    @Column(nullable = false)
+    private int length;
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
@@ -11,6 +13,7 @@ import java.time.LocalDateTime;
  * 
  * 不動産取引に関わる顧客の基本情報を管理するエンティティです。
  * 顧客の氏名、メールアドレス、電話番号、住所、顧客タイプなどの情報を保持します。
+ * 更新頻度が低く契約一覧から頻繁に参照されるため、二次キャッシュ（READ_WRITE）を有効にしています。
  * 
  * @author システム開発チーム
  * @version 1.0.0
@@ -18,6 +21,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "clients")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
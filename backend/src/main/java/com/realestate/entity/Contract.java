@@ -120,6 +120,14 @@ public class Contract {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * バージョン
+     * 楽観的排他制御用。更新のたびに加算され、読み込み後に他の更新があった場合は更新を拒否します
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * エンティティ保存前の処理
      * 作成日時と更新日時を現在時刻に設定
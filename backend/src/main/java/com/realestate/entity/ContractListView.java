@@ -0,0 +1,154 @@
+package com.realestate.entity;
+
+import com.realestate.entity.Client.ClientStatus;
+import com.realestate.entity.Contract.ContractStatus;
+import com.realestate.entity.Contract.ContractType;
+import com.realestate.entity.Transaction.TransactionStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 契約一覧ビューエンティティクラス
+ *
+ * 契約一覧画面用の非正規化された読み取りモデルです。
+ * 契約・物件・顧客・最新取引の表示項目を1行に保持し、結合なしで絞り込み・並べ替えができます。
+ * 行の内容は契約・物件・顧客・取引の変更イベントから更新されるため、直接書き込まないでください。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Entity
+@Table(name = "contract_list_view", indexes = {
+        @Index(name = "idx_contract_list_view_contract_number", columnList = "contract_number"),
+        @Index(name = "idx_contract_list_view_status", columnList = "status"),
+        @Index(name = "idx_contract_list_view_type", columnList = "type"),
+        @Index(name = "idx_contract_list_view_start_date", columnList = "start_date"),
+        @Index(name = "idx_contract_list_view_end_date", columnList = "end_date"),
+        @Index(name = "idx_contract_list_view_monthly_rent", columnList = "monthly_rent"),
+        @Index(name = "idx_contract_list_view_property_id", columnList = "property_id"),
+        @Index(name = "idx_contract_list_view_property_name", columnList = "property_name"),
+        @Index(name = "idx_contract_list_view_client_id", columnList = "client_id"),
+        @Index(name = "idx_contract_list_view_client_name", columnList = "client_name"),
+        @Index(name = "idx_contract_list_view_latest_transaction_id", columnList = "latest_transaction_id"),
+        @Index(name = "idx_contract_list_view_latest_transaction_status", columnList = "latest_transaction_status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractListView {
+
+    /**
+     * 契約ID（主キー、契約テーブルのIDと同一）
+     */
+    @Id
+    private Long contractId;
+
+    /**
+     * 契約番号
+     */
+    @Column(name = "contract_number", nullable = false)
+    private String contractNumber;
+
+    /**
+     * 契約タイプ
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ContractType type;
+
+    /**
+     * 契約ステータス
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ContractStatus status;
+
+    /**
+     * 契約金額
+     */
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    /**
+     * 月額賃料
+     */
+    @Column(name = "monthly_rent")
+    private BigDecimal monthlyRent;
+
+    /**
+     * 契約開始日
+     */
+    @Column(name = "start_date", nullable = false)
+    private LocalDateTime startDate;
+
+    /**
+     * 契約終了日
+     */
+    @Column(name = "end_date", nullable = false)
+    private LocalDateTime endDate;
+
+    /**
+     * 物件ID
+     */
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
+    /**
+     * 物件名
+     */
+    @Column(name = "property_name", nullable = false)
+    private String propertyName;
+
+    /**
+     * 物件住所
+     */
+    @Column(nullable = false)
+    private String propertyAddress;
+
+    /**
+     * 顧客ID
+     */
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    /**
+     * 顧客名（名 姓）
+     */
+    @Column(name = "client_name", nullable = false)
+    private String clientName;
+
+    /**
+     * 顧客ステータス
+     */
+    @Enumerated(EnumType.STRING)
+    private ClientStatus clientStatus;
+
+    /**
+     * 最新取引ID（取引がない場合はnull）
+     */
+    @Column(name = "latest_transaction_id")
+    private Long latestTransactionId;
+
+    /**
+     * 最新取引ステータス
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "latest_transaction_status")
+    private TransactionStatus latestTransactionStatus;
+
+    /**
+     * 最新取引日時
+     */
+    private LocalDateTime latestTransactionDate;
+
+    /**
+     * 契約の更新日時
+     */
+    @Column(nullable = false)
+    private LocalDateTime contractUpdatedAt;
+}
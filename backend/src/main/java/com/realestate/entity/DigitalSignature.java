@@ -1,5 +1,6 @@
 package com.realestate.entity;
 
+import com.realestate.signature.SignatureAlgorithm;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -55,12 +56,31 @@ public class DigitalSignature {
     @Column(nullable = false)
     private DocumentType documentType;
 
+    /**
+     * 署名対象文書のSHA-256（文書ストアに保存された文書の識別子）
+     */
+    @Column(length = 64)
+    private String documentHash;
+
     /**
      * 署名データ（暗号化された署名）
      */
     @Column(columnDefinition = "TEXT", nullable = false)
     private String signatureData;
 
+    /**
+     * 署名アルゴリズム
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.RSA_SHA256;
+
+    /**
+     * 署名者の証明書チェーン（PEM、署名者の証明書が先頭）
+     */
+    @Column(columnDefinition = "TEXT")
+    private String signerCertificate;
+
     /**
      * 署名ハッシュ
      */
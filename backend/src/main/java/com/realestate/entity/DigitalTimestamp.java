@@ -43,6 +43,12 @@ public class DigitalTimestamp {
     @Column(nullable = false)
     private DocumentType documentType;
 
+    /**
+     * 対象文書のSHA-256（文書ストアに保存された文書の識別子）
+     */
+    @Column(length = 64)
+    private String documentHash;
+
     /**
      * タイムスタンプ時刻
      */
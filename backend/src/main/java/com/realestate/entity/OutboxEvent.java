@@ -0,0 +1,108 @@
+package com.realestate.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * アウトボックスイベントエンティティクラス
+ *
+ * 物件・顧客・契約・取引の変更を、変更と同じトランザクションで記録するエンティティです。
+ * 記録されたイベントは非同期の配信処理によりアプリケーション内の購読者へ配信されます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Entity
+@Table(name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_events_pending", columnList = "dispatched_at, id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    /**
+     * イベントID（主キー）
+     * 採番順が配信順となります
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 集約種別
+     * 変更されたエンティティの種類
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AggregateType aggregateType;
+
+    /**
+     * 集約ID
+     * 変更されたエンティティのID
+     */
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    /**
+     * イベント種別
+     * 作成・更新・削除の別
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventType eventType;
+
+    /**
+     * 発生日時
+     */
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    /**
+     * 配信日時
+     * 未配信の場合はnull
+     */
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    /**
+     * 配信失敗回数
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 最後の配信失敗理由
+     */
+    @Column(length = 500)
+    private String lastError;
+
+    /**
+     * 集約種別の列挙型
+     */
+    public enum AggregateType {
+        /** 物件 */
+        PROPERTY,
+        /** 顧客 */
+        CLIENT,
+        /** 契約 */
+        CONTRACT,
+        /** 取引 */
+        TRANSACTION
+    }
+
+    /**
+     * イベント種別の列挙型
+     */
+    public enum EventType {
+        /** 作成 */
+        CREATED,
+        /** 更新 */
+        UPDATED,
+        /** 削除 */
+        DELETED
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -12,6 +14,7 @@ import java.time.LocalDateTime;
  * 
  * 不動産物件の基本情報を管理するエンティティです。
  * 物件の名前、住所、説明、タイプ、ステータス、価格、面積、部屋数などの情報を保持します。
+ * 契約の参照時に繰り返し読み込まれるため、二次キャッシュ（READ_WRITE）の対象としています。
  * 
  * @author システム開発チーム
  * @version 1.0.0
@@ -19,6 +22,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "properties")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -111,6 +116,20 @@ public class Property {
     @Column(nullable = false)
     private Integer yearBuilt;
 
+    /**
+     * 緯度（世界測地系）
+     * 住所からオフラインの住所座標テーブルで設定（未登録の住所の場合はnull）
+     */
+    @Column
+    private Double latitude;
+
+    /**
+     * 経度（世界測地系）
+     * 住所からオフラインの住所座標テーブルで設定（未登録の住所の場合はnull）
+     */
+    @Column
+    private Double longitude;
+
     /**
      * 作成日時
      * レコードが作成された日時
@@ -125,6 +144,14 @@ public class Property {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * バージョン
+     * 楽観的排他制御用。更新のたびに加算され、読み込み後に他の更新があった場合は更新を拒否します
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * エンティティ保存前の処理
      * 作成日時と更新日時を現在時刻に設定
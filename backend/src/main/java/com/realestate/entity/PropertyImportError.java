@@ -0,0 +1,48 @@
+package com.realestate.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * 物件一括取り込みエラーエンティティクラス
+ * 取り込めなかったレコードの番号と理由を記録します
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Entity
+@Table(name = "property_import_errors",
+        indexes = @Index(name = "idx_property_import_errors_job", columnList = "job_id, record_number"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyImportError {
+
+    /**
+     * エラーID（主キー）
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ジョブID
+     */
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    /**
+     * レコード番号（1始まり、CSVの見出し行は含まない）
+     */
+    @Column(name = "record_number", nullable = false)
+    private long recordNumber;
+
+    /**
+     * エラー内容
+     */
+    @Column(nullable = false, length = 500)
+    private String message;
+}
@@ -0,0 +1,129 @@
+package com.realestate.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 物件一括取り込みジョブエンティティクラス
+ *
+ * アップロードされたCSV / NDJSONファイルの取り込み状況を管理するエンティティです。
+ * 処理済みレコード数はチャンクの登録と同じトランザクションで更新されるため、
+ * 異常終了後はこの件数の続きから取り込みを再開できます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Entity
+@Table(name = "property_import_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyImportJob {
+
+    /**
+     * ジョブID（主キー）
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * アップロードされたファイル名
+     */
+    @Column(nullable = false)
+    private String fileName;
+
+    /**
+     * ファイル形式
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImportFormat format;
+
+    /**
+     * 保存先のファイルパス（再開時に使用）
+     */
+    @Column(nullable = false, length = 1000)
+    private String storedPath;
+
+    /**
+     * ジョブステータス
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportStatus status;
+
+    /**
+     * 処理済みレコード数（登録・重複・エラーの合計、コミット済みの件数）
+     */
+    @Column(nullable = false)
+    private long processedRecords;
+
+    /**
+     * 登録件数
+     */
+    @Column(nullable = false)
+    private long importedCount;
+
+    /**
+     * 重複によりスキップした件数（既存物件またはファイル内で物件名・住所が一致）
+     */
+    @Column(nullable = false)
+    private long duplicateCount;
+
+    /**
+     * エラー件数
+     */
+    @Column(nullable = false)
+    private long errorCount;
+
+    /**
+     * 最後に発生したジョブ全体のエラー
+     */
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * 作成日時
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 開始日時（再開時は再開日時）
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * 終了日時
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * ファイル形式の列挙型
+     */
+    public enum ImportFormat {
+        /** CSV（1行目は見出し） */
+        CSV,
+        /** 1行1オブジェクトのJSON */
+        NDJSON
+    }
+
+    /**
+     * ジョブステータスの列挙型
+     */
+    public enum ImportStatus {
+        /** 待機中 */
+        PENDING,
+        /** 実行中 */
+        RUNNING,
+        /** 完了 */
+        COMPLETED,
+        /** 失敗 */
+        FAILED
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -18,7 +19,11 @@ import java.time.LocalDateTime;
  * @since 2025-08-11
  */
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_transactions_rent_period", columnNames = {"contract_id", "rent_period"})
+}, indexes = {
+        @Index(name = "idx_transactions_transaction_date", columnList = "transaction_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -59,7 +64,7 @@ public class Transaction {
      * 取引日時
      * 取引が発生した日時
      */
-    @Column(nullable = false)
+    @Column(name = "transaction_date", nullable = false)
     private LocalDateTime transactionDate;
 
     /**
@@ -69,6 +74,13 @@ public class Transaction {
     @Column(length = 500)
     private String description;
 
+    /**
+     * 賃料の対象期間（賃料スケジュールで生成された取引のみ）
+     * 契約開始日から1か月ごとの支払期日。手動で登録した取引はnull
+     */
+    @Column(name = "rent_period")
+    private LocalDate rentPeriod;
+
     /**
      * 取引ステータス
      * 取引の現在の状態（保留、完了、失敗、キャンセルなど）
@@ -0,0 +1,108 @@
+package com.realestate.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 取引アーカイブパーティションエンティティクラス
+ *
+ * 締め済みの月（取引日の月）ごとに、取引テーブルから移動した取引を保存した
+ * 圧縮ファイル（gzip圧縮のNDJSON）の情報を管理します。
+ * 各項目の範囲・値の集合を保持し、検索時に条件と重ならないパーティションの読み込みを省略します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Entity
+@Table(name = "transaction_archive_partitions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionArchivePartition {
+
+    /**
+     * パーティションID（主キー）
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 対象月（月の初日）
+     */
+    @Column(nullable = false, unique = true)
+    private LocalDate period;
+
+    /**
+     * アーカイブファイル名（アーカイブディレクトリからの相対パス）
+     */
+    @Column(nullable = false)
+    private String fileName;
+
+    /**
+     * 取引件数
+     */
+    @Column(nullable = false)
+    private long rowCount;
+
+    /**
+     * 圧縮後のファイルサイズ（バイト）
+     */
+    @Column(nullable = false)
+    private long compressedBytes;
+
+    /**
+     * 取引IDの最小値
+     */
+    @Column(nullable = false)
+    private Long minId;
+
+    /**
+     * 取引IDの最大値
+     */
+    @Column(nullable = false)
+    private Long maxId;
+
+    /**
+     * 金額の最小値
+     */
+    @Column(nullable = false)
+    private BigDecimal minAmount;
+
+    /**
+     * 金額の最大値
+     */
+    @Column(nullable = false)
+    private BigDecimal maxAmount;
+
+    /**
+     * 含まれる取引タイプ（カンマ区切り）
+     */
+    @Column(nullable = false)
+    private String types;
+
+    /**
+     * 含まれる取引ステータス（カンマ区切り）
+     */
+    @Column(nullable = false)
+    private String statuses;
+
+    /**
+     * 含まれる契約IDの集合（RoaringBitmapのシリアライズ形式）
+     */
+    @Lob
+    @Column(nullable = false)
+    private byte[] contractIds;
+
+    /**
+     * アーカイブ日時
+     */
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
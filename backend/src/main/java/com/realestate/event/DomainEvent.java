@@ -0,0 +1,33 @@
+package com.realestate.event;
+
+import com.realestate.entity.OutboxEvent;
+import com.realestate.entity.OutboxEvent.AggregateType;
+import com.realestate.entity.OutboxEvent.EventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * ドメインイベント（購読者へ配信されるアウトボックスイベントの内容）
+ *
+ * @param id イベントID（同一集約内では発生順に増加）
+ * @param aggregateType 集約種別
+ * @param aggregateId 集約ID
+ * @param eventType イベント種別
+ * @param occurredAt 発生日時
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record DomainEvent(long id, AggregateType aggregateType, Long aggregateId, EventType eventType,
+                          LocalDateTime occurredAt) {
+
+    /**
+     * アウトボックスイベントから生成
+     * @param event アウトボックスイベント
+     * @return ドメインイベント
+     */
+    public static DomainEvent of(OutboxEvent event) {
+        return new DomainEvent(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getOccurredAt());
+    }
+}
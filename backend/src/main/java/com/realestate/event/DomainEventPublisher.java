@@ -0,0 +1,50 @@
+package com.realestate.event;
+
+import com.realestate.entity.OutboxEvent;
+import com.realestate.entity.OutboxEvent.AggregateType;
+import com.realestate.entity.OutboxEvent.EventType;
+import com.realestate.repository.OutboxEventRepository;
+import com.realestate.search.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * ドメインイベント記録サービスクラス
+ *
+ * エンティティの変更と同じトランザクションでアウトボックスへイベントを記録します。
+ * 書き込み処理では1行の挿入のみを行い、購読者への配信は {@link OutboxDispatcher} が非同期に行います。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    /**
+     * イベントを記録（呼び出し元のトランザクション内で実行する必要があります）
+     * @param aggregateType 集約種別
+     * @param aggregateId 集約ID
+     * @param eventType イベント種別
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(AggregateType aggregateType, Long aggregateId, EventType eventType) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        event.setOccurredAt(LocalDateTime.now());
+        outboxEventRepository.save(event);
+        // コミット後すぐに配信されるよう通知（通知が失われても定期確認で配信される）
+        AfterCommit.run(outboxDispatcher::signal);
+    }
+}
@@ -0,0 +1,24 @@
+package com.realestate.event;
+
+import java.util.List;
+
+/**
+ * ドメインイベント購読者インターフェース
+ *
+ * Springコンテナに登録された実装へ、コミット済みの変更がバッチ単位で配信されます。
+ * 配信は少なくとも1回（at-least-once）であり、例外を送出したバッチは再配信されるため、
+ * 実装は同じイベントを複数回受け取っても問題ないように作成してください。
+ * 同じ集約のイベントは発生順に配信されます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public interface DomainEventSubscriber {
+
+    /**
+     * イベントを受信
+     * @param events イベント（発生順）
+     */
+    void onEvents(List<DomainEvent> events);
+}
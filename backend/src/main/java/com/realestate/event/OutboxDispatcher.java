@@ -0,0 +1,178 @@
+package com.realestate.event;
+
+import com.realestate.entity.OutboxEvent;
+import com.realestate.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * アウトボックス配信コンポーネント
+ *
+ * 未配信のアウトボックスイベントを採番順にバッチで読み込み、全ての購読者へ配信します。
+ * 配信は単一スレッドで行うため、同じ集約のイベントは発生順に届きます。
+ *
+ * <ul>
+ *   <li>書き込みのコミット後に通知を受けた場合と、一定間隔の定期確認時にのみデータベースを参照します</li>
+ *   <li>購読者が例外を送出した場合はイベントを1件ずつ配信し直して原因のイベントを特定し、
+ *       それより前のイベントのみ配信済みとします（以降は次回の定期確認で再配信）</li>
+ *   <li>最大試行回数を超えたイベントはエラーログを出力して配信済みとし、後続の配信を止めません</li>
+ * </ul>
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    /**
+     * 失敗理由として記録する最大文字数
+     */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final List<DomainEventSubscriber> subscribers;
+
+    /**
+     * 1回に読み込むイベント数
+     */
+    private final int batchSize;
+
+    /**
+     * 1イベントあたりの最大試行回数
+     */
+    private final int maxAttempts;
+
+    /**
+     * 定期確認の間隔（ミリ秒）
+     */
+    private final long sweepIntervalMillis;
+
+    /**
+     * 保持期間（配信済みイベントの削除までの時間、時間単位）
+     */
+    private final long retentionHours;
+
+    /**
+     * コミット済みの未配信イベントがある可能性を示すフラグ
+     */
+    private final AtomicBoolean signalled = new AtomicBoolean(true);
+
+    /**
+     * 次回の定期確認時刻（System.nanoTime基準）
+     */
+    private long nextSweepNanos;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<DomainEventSubscriber> subscribers,
+                            @Value("${app.outbox.batch-size:200}") int batchSize,
+                            @Value("${app.outbox.max-attempts:5}") int maxAttempts,
+                            @Value("${app.outbox.sweep-interval-ms:5000}") long sweepIntervalMillis,
+                            @Value("${app.outbox.retention-hours:24}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = List.copyOf(subscribers);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        this.retentionHours = retentionHours;
+        this.nextSweepNanos = System.nanoTime();
+    }
+
+    /**
+     * 未配信イベントの存在を通知（コミット後に呼び出される）
+     */
+    public void signal() {
+        signalled.set(true);
+    }
+
+    /**
+     * 未配信イベントを配信（通知があった場合と定期確認時のみ実行）
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:100}")
+    public void dispatchPending() {
+        long now = System.nanoTime();
+        boolean sweep = now - nextSweepNanos >= 0;
+        if (!signalled.getAndSet(false) && !sweep) {
+            return;
+        }
+        if (sweep) {
+            nextSweepNanos = now + sweepIntervalMillis * 1_000_000L;
+        }
+
+        while (true) {
+            List<OutboxEvent> batch = outboxEventRepository.findPending(PageRequest.of(0, batchSize));
+            if (batch.isEmpty() || !deliver(batch) || batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * バッチを配信
+     * @return 全件を配信済みにできた場合true
+     */
+    private boolean deliver(List<OutboxEvent> batch) {
+        List<DomainEvent> events = batch.stream().map(DomainEvent::of).toList();
+        try {
+            notifySubscribers(events);
+            markDispatched(batch);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("ドメインイベントのバッチ配信に失敗したため1件ずつ再配信します: {}件", batch.size(), e);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            try {
+                notifySubscribers(List.of(events.get(i)));
+                markDispatched(List.of(event));
+            } catch (RuntimeException e) {
+                outboxEventRepository.recordFailure(event.getId(), truncate(String.valueOf(e)));
+                if (event.getAttempts() + 1 < maxAttempts) {
+                    log.warn("ドメインイベントの配信に失敗しました（次回再試行）: id={}", event.getId(), e);
+                    return false;
+                }
+                log.error("ドメインイベントの配信を中止しました（試行回数超過）: id={}, {} {}",
+                        event.getId(), event.getAggregateType(), event.getAggregateId(), e);
+                markDispatched(List.of(event));
+            }
+        }
+        return true;
+    }
+
+    private void notifySubscribers(List<DomainEvent> events) {
+        for (DomainEventSubscriber subscriber : subscribers) {
+            subscriber.onEvents(events);
+        }
+    }
+
+    private void markDispatched(List<OutboxEvent> events) {
+        outboxEventRepository.markDispatched(events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+    }
+
+    /**
+     * 保持期間を過ぎた配信済みイベントを削除
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval-ms:3600000}")
+    public void purgeDispatched() {
+        int deleted = outboxEventRepository.deleteDispatchedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.debug("配信済みのドメインイベントを削除しました: {}件", deleted);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,80 @@
+package com.realestate.export;
+
+/**
+ * エクスポート対象データ列挙型
+ *
+ * 各データの出力列と、読み込みに使用するSQLを定義します。
+ * 期間指定時は {@code dateColumn} に対して「開始日以上・終了日の翌日未満」で絞り込みます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public enum ExportDataset {
+
+    /** 取引 */
+    TRANSACTIONS("transactions",
+            new String[]{"取引ID", "契約ID", "契約番号", "取引タイプ", "金額", "取引日時", "説明", "ステータス", "作成日時"},
+            "SELECT t.id, t.contract_id, c.contract_number, t.type, t.amount, t.transaction_date, "
+                    + "t.description, t.status, t.created_at "
+                    + "FROM transactions t JOIN contracts c ON c.id = t.contract_id",
+            "t.transaction_date", "t.id"),
+
+    /** 契約 */
+    CONTRACTS("contracts",
+            new String[]{"契約ID", "契約番号", "物件ID", "物件名", "顧客ID", "顧客名", "契約タイプ", "ステータス",
+                    "契約金額", "月額賃料", "開始日", "終了日", "作成日時"},
+            "SELECT c.id, c.contract_number, p.id, p.name, cl.id, CONCAT(cl.first_name, ' ', cl.last_name), "
+                    + "c.type, c.status, c.amount, c.monthly_rent, c.start_date, c.end_date, c.created_at "
+                    + "FROM contracts c JOIN properties p ON p.id = c.property_id JOIN clients cl ON cl.id = c.client_id",
+            "c.start_date", "c.id"),
+
+    /** 顧客 */
+    CLIENTS("clients",
+            new String[]{"顧客ID", "名", "姓", "メールアドレス", "電話番号", "住所", "顧客タイプ", "ステータス", "作成日時"},
+            "SELECT cl.id, cl.first_name, cl.last_name, cl.email, cl.phone, cl.address, cl.type, cl.status, "
+                    + "cl.created_at FROM clients cl",
+            "cl.created_at", "cl.id");
+
+    private final String fileName;
+
+    private final String[] headers;
+
+    private final String select;
+
+    private final String dateColumn;
+
+    private final String orderColumn;
+
+    ExportDataset(String fileName, String[] headers, String select, String dateColumn, String orderColumn) {
+        this.fileName = fileName;
+        this.headers = headers;
+        this.select = select;
+        this.dateColumn = dateColumn;
+        this.orderColumn = orderColumn;
+    }
+
+    /**
+     * ファイル名（拡張子なし）
+     */
+    public String fileName() {
+        return fileName;
+    }
+
+    /**
+     * 見出し行
+     */
+    public String[] headers() {
+        return headers.clone();
+    }
+
+    /**
+     * 読み込みSQL
+     * @param dateRange 期間で絞り込む場合true（パラメータは開始日時・終了日時の2つ）
+     * @return SQL
+     */
+    public String sql(boolean dateRange) {
+        String where = dateRange ? " WHERE " + dateColumn + " >= ? AND " + dateColumn + " < ?" : "";
+        return select + where + " ORDER BY " + orderColumn;
+    }
+}
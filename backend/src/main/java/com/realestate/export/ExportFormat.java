@@ -0,0 +1,32 @@
+package com.realestate.export;
+
+/**
+ * エクスポート形式列挙型
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public enum ExportFormat {
+    /** CSV（UTF-8、BOM付き） */
+    CSV("text/csv; charset=UTF-8", "csv"),
+    /** Excel（xlsx） */
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
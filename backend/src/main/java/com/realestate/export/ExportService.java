@@ -0,0 +1,180 @@
+package com.realestate.export;
+
+import com.realestate.archive.TransactionArchiveQuery;
+import com.realestate.archive.TransactionArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * エクスポートサービスクラス
+ *
+ * 取引・契約・顧客をCSVまたはExcel形式でレスポンスへ直接書き出します。
+ * 前方専用・読み取り専用のJDBCカーソルを固定のフェッチサイズで読み進め、
+ * 1行ずつ書き込むため、件数にかかわらずメモリ使用量は一定です。
+ * H2では結果セット全体を事前に構築しないよう、読み込み中のみ遅延クエリ実行を有効にします。
+ * 取引は、期間と重なる締め済みの月のアーカイブを先に（月の古い順に）読み込み、続けて取引テーブルを出力します
+ * （契約番号は契約ID→契約番号の表を1回だけ読み込んで補います）。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    /**
+     * JDBCのフェッチサイズ
+     */
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String CONTRACT_NUMBERS_SQL = "SELECT id, contract_number FROM contracts";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionArchiveService transactionArchiveService;
+
+    public ExportService(JdbcTemplate jdbcTemplate, TransactionArchiveService transactionArchiveService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionArchiveService = transactionArchiveService;
+    }
+
+    /**
+     * エクスポート処理を生成
+     * @param dataset 対象データ
+     * @param format 出力形式
+     * @param from 期間の開始日（オプション、toと同時に指定）
+     * @param to 期間の終了日（オプション、この日を含む）
+     * @return レスポンスへ書き出す処理
+     * @throws IllegalArgumentException 期間指定が不正な場合
+     */
+    public StreamingResponseBody export(ExportDataset dataset, ExportFormat format, LocalDate from, LocalDate to) {
+        if ((from == null) != (to == null)) {
+            throw new IllegalArgumentException("期間は開始日と終了日を両方指定してください");
+        }
+        if (from != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("開始日は終了日以前を指定してください");
+        }
+        return out -> write(dataset, format, from, to, out);
+    }
+
+    private void write(ExportDataset dataset, ExportFormat format, LocalDate from, LocalDate to, OutputStream out)
+            throws IOException {
+        long start = System.nanoTime();
+        try (RowWriter writer = format == ExportFormat.XLSX
+                ? new XlsxRowWriter(out, dataset.fileName(), dataset.headers())
+                : new CsvRowWriter(out, dataset.headers())) {
+            long rows;
+            try {
+                rows = dataset == ExportDataset.TRANSACTIONS ? streamArchived(from, to, writer) : 0;
+                rows += jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                        stream(connection, dataset, from, to, writer));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish();
+            log.info("エクスポートが完了しました: {} {} {}件 {}ms", dataset, format, rows,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * 締め済みの月のアーカイブから取引を出力（期間と重ならない月は読み込まない）
+     */
+    private long streamArchived(LocalDate from, LocalDate to, RowWriter writer) {
+        LocalDateTime start = from != null ? from.atStartOfDay() : null;
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : null;
+        if (transactionArchiveService.closedBefore()
+                .filter(closed -> start == null || start.isBefore(closed)).isEmpty()) {
+            return 0;
+        }
+        Map<Long, String> contractNumbers = new HashMap<>();
+        jdbcTemplate.query(CONTRACT_NUMBERS_SQL,
+                (RowCallbackHandler) resultSet -> contractNumbers.put(resultSet.getLong(1), resultSet.getString(2)));
+
+        Object[] values = new Object[ExportDataset.TRANSACTIONS.headers().length];
+        long[] rows = {0};
+        transactionArchiveService.forEach(new TransactionArchiveQuery(null, null, start, end, null, null, null, null),
+                row -> {
+                    values[0] = row.id();
+                    values[1] = row.contractId();
+                    values[2] = contractNumbers.get(row.contractId());
+                    values[3] = row.type().name();
+                    values[4] = row.amount();
+                    values[5] = row.transactionDate();
+                    values[6] = row.description();
+                    values[7] = row.status().name();
+                    values[8] = row.createdAt();
+                    try {
+                        writer.writeRow(values);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                });
+        return rows[0];
+    }
+
+    private long stream(Connection connection, ExportDataset dataset, LocalDate from, LocalDate to, RowWriter writer)
+            throws SQLException {
+        boolean h2 = "H2".equals(connection.getMetaData().getDatabaseProductName());
+        if (h2) {
+            setLazyQueryExecution(connection, true);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(dataset.sql(from != null),
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(FETCH_SIZE);
+            if (from != null) {
+                statement.setObject(1, from.atStartOfDay());
+                statement.setObject(2, to.plusDays(1).atStartOfDay());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                Object[] values = new Object[resultSet.getMetaData().getColumnCount()];
+                long rows = 0;
+                while (resultSet.next()) {
+                    for (int i = 0; i < values.length; i++) {
+                        Object value = resultSet.getObject(i + 1);
+                        values[i] = value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value;
+                    }
+                    try {
+                        writer.writeRow(values);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows++;
+                }
+                return rows;
+            }
+        } finally {
+            if (h2) {
+                setLazyQueryExecution(connection, false);
+            }
+        }
+    }
+
+    private static void setLazyQueryExecution(Connection connection, boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + (enabled ? "TRUE" : "FALSE"));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.realestate.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * エクスポートの行書き込みインターフェース
+ * 行は到着順に書き込まれ、書き込み済みの行を保持しない実装とします
+ * 出力の成否にかかわらず、最後に {@link #close()} で一時リソースを解放します
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public interface RowWriter extends Closeable {
+
+    /**
+     * 1行を書き込み
+     * @param values 列の値（null、文字列、数値、日時）
+     * @throws IOException 出力に失敗した場合
+     */
+    void writeRow(Object[] values) throws IOException;
+
+    /**
+     * 出力を完了（出力ストリームは閉じない）
+     * @throws IOException 出力に失敗した場合
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,106 @@
+package com.realestate.export;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Excel（xlsx）行書き込みクラス
+ *
+ * SXSSFによるストリーミング書き込みを行い、メモリ上には直近の {@link #WINDOW_SIZE} 行のみを保持します。
+ * それより前の行は圧縮された一時ファイルへ書き出され、{@link #finish()} でまとめて出力されます。
+ * 1シートの行数上限を超えた場合は次のシートへ続けて書き込みます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public class XlsxRowWriter implements RowWriter {
+
+    /**
+     * メモリ上に保持する行数
+     */
+    private static final int WINDOW_SIZE = 100;
+
+    /**
+     * 1シートあたりの最大行数（xlsxの上限）
+     */
+    private static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    private final OutputStream out;
+
+    private final SXSSFWorkbook workbook;
+
+    private final CellStyle dateTimeStyle;
+
+    private final String sheetName;
+
+    private final String[] headers;
+
+    private Sheet sheet;
+
+    private int rowIndex;
+
+    private int sheetCount;
+
+    public XlsxRowWriter(OutputStream out, String sheetName, String[] headers) throws IOException {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(WINDOW_SIZE);
+        this.workbook.setCompressTempFiles(true);
+        this.dateTimeStyle = workbook.createCellStyle();
+        this.dateTimeStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+        this.sheetName = sheetName;
+        this.headers = headers;
+        newSheet();
+    }
+
+    private void newSheet() throws IOException {
+        sheetCount++;
+        sheet = workbook.createSheet(sheetCount == 1 ? sheetName : sheetName + " (" + sheetCount + ")");
+        rowIndex = 0;
+        writeRow(headers);
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        if (rowIndex == MAX_ROWS_PER_SHEET) {
+            newSheet();
+        }
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else if (value instanceof LocalDateTime dateTime) {
+                cell.setCellValue(dateTime);
+                cell.setCellStyle(dateTimeStyle);
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        workbook.write(out);
+        out.flush();
+    }
+
+    /**
+     * 一時ファイルを削除
+     */
+    @Override
+    public void close() throws IOException {
+        workbook.close();
+    }
+}
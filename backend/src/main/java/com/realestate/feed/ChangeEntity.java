@@ -0,0 +1,48 @@
+package com.realestate.feed;
+
+import com.realestate.entity.OutboxEvent.AggregateType;
+
+/**
+ * 変更通知対象のエンティティ列挙型
+ * 通知は /topic/changes/{トピック名} に配信されます
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public enum ChangeEntity {
+    /** 物件 */
+    PROPERTY("properties"),
+    /** 契約 */
+    CONTRACT("contracts"),
+    /** 取引 */
+    TRANSACTION("transactions");
+
+    private final String topic;
+
+    ChangeEntity(String topic) {
+        this.topic = topic;
+    }
+
+    /**
+     * 配信先のSTOMPデスティネーション
+     * @return デスティネーション
+     */
+    public String destination() {
+        return "/topic/changes/" + topic;
+    }
+
+    /**
+     * 集約種別に対応する通知対象を取得
+     * @param aggregateType 集約種別
+     * @return 通知対象（通知しない集約の場合はnull）
+     */
+    public static ChangeEntity of(AggregateType aggregateType) {
+        return switch (aggregateType) {
+            case PROPERTY -> PROPERTY;
+            case CONTRACT -> CONTRACT;
+            case TRANSACTION -> TRANSACTION;
+            case CLIENT -> null;
+        };
+    }
+}
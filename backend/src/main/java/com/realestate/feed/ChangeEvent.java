@@ -0,0 +1,23 @@
+package com.realestate.feed;
+
+import com.realestate.entity.OutboxEvent.EventType;
+
+import java.time.Instant;
+
+/**
+ * 変更イベント
+ *
+ * シーケンス番号はフィード全体で単調増加し、再接続時の再送要求（since）に使用します。
+ * 通知にはIDのみを含め、最新の内容は各参照APIから取得します（条件付きGETが有効）。
+ *
+ * @param sequence シーケンス番号
+ * @param entity エンティティ種別
+ * @param type 変更種別
+ * @param id エンティティID
+ * @param occurredAt 配信時刻
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record ChangeEvent(long sequence, ChangeEntity entity, EventType type, Long id, Instant occurredAt) {
+}
@@ -0,0 +1,162 @@
+package com.realestate.feed;
+
+import com.realestate.entity.OutboxEvent.EventType;
+import com.realestate.event.DomainEvent;
+import com.realestate.event.DomainEventSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 変更フィード配信サービスクラス
+ *
+ * アウトボックスから配信されたドメインイベントを一定間隔でまとめ、
+ * エンティティごとのSTOMPトピックへ一括配信します。
+ *
+ * <ul>
+ *   <li>同じ行への連続した変更は配信前に1件へ集約します（作成後の削除は配信しません）</li>
+ *   <li>配信済みイベントは固定長のリングバッファに保持し、再接続時に {@link #since(long)} で再送します</li>
+ *   <li>購読者ごとの送信バッファ上限は WebSocket 設定で制御し、超過した低速クライアントは切断されます
+ *       （再接続後に再送を要求します）</li>
+ * </ul>
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+public class ChangeFeedService implements DomainEventSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 配信待ちの変更（エンティティ種別・ID → 集約後の変更種別、到着順）
+     */
+    private final Map<Key, EventType> pending = new LinkedHashMap<>();
+
+    /**
+     * 配信済みイベントのリングバッファ
+     */
+    private final ChangeEvent[] replayBuffer;
+
+    /**
+     * 起動時のシーケンス番号（起動時刻のミリ秒×1000。再起動後の番号は再起動前の番号より必ず大きい）
+     */
+    private final long bootSequence = System.currentTimeMillis() * 1000;
+
+    /**
+     * 最後に割り当てたシーケンス番号
+     */
+    private long latestSequence = bootSequence;
+
+    public ChangeFeedService(SimpMessagingTemplate messagingTemplate,
+                             @Value("${app.change-feed.replay-capacity:1024}") int replayCapacity) {
+        if (replayCapacity <= 0) {
+            throw new IllegalArgumentException("再送バッファの容量は1以上を指定してください");
+        }
+        this.messagingTemplate = messagingTemplate;
+        this.replayBuffer = new ChangeEvent[replayCapacity];
+    }
+
+    /**
+     * ドメインイベントを配信待ちへ追加（配信待ちの間に再配信された重複は1件に集約されます）
+     * @param events ドメインイベント
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            ChangeEntity entity = ChangeEntity.of(event.aggregateType());
+            if (entity != null) {
+                enqueue(new Key(entity, event.aggregateId()), event.eventType());
+            }
+        }
+    }
+
+    private void enqueue(Key key, EventType type) {
+        synchronized (pending) {
+            EventType previous = pending.get(key);
+            if (previous == EventType.CREATED) {
+                if (type == EventType.DELETED) {
+                    // 配信前に作成・削除された行は通知不要
+                    pending.remove(key);
+                }
+                // 作成後の更新は作成のまま
+                return;
+            }
+            pending.put(key, type);
+        }
+    }
+
+    /**
+     * 配信待ちの変更をトピックごとに一括配信
+     */
+    @Scheduled(fixedDelayString = "${app.change-feed.flush-interval-ms:250}")
+    public void flush() {
+        List<Map.Entry<Key, EventType>> changes;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            changes = new ArrayList<>(pending.entrySet());
+            pending.clear();
+        }
+
+        Instant now = Instant.now();
+        Map<ChangeEntity, List<ChangeEvent>> batches = new EnumMap<>(ChangeEntity.class);
+        synchronized (replayBuffer) {
+            for (Map.Entry<Key, EventType> change : changes) {
+                Key key = change.getKey();
+                ChangeEvent event = new ChangeEvent(++latestSequence, key.entity(), change.getValue(), key.id(), now);
+                replayBuffer[(int) (event.sequence() % replayBuffer.length)] = event;
+                batches.computeIfAbsent(key.entity(), entity -> new ArrayList<>()).add(event);
+            }
+        }
+
+        batches.forEach((entity, events) -> {
+            try {
+                messagingTemplate.convertAndSend(entity.destination(), events);
+            } catch (RuntimeException e) {
+                // 配信に失敗してもイベントは再送バッファから取得可能
+                log.warn("変更フィードの配信に失敗しました: {}", entity, e);
+            }
+        });
+    }
+
+    /**
+     * 指定シーケンス番号より後のイベントを取得
+     * @param sequence 受信済みの最終シーケンス番号
+     * @return 再送結果（バッファから溢れたイベントがある場合、再起動前に受信した番号の場合、
+     *         最新より大きい番号の場合は complete=false）
+     */
+    public ChangeReplay since(long sequence) {
+        synchronized (replayBuffer) {
+            if (sequence > latestSequence) {
+                // このプロセスが割り当てていない番号からは差分を求められない
+                return new ChangeReplay(List.of(), false, latestSequence);
+            }
+            // 再起動前の番号（起動時のシーケンス番号より前）はバッファに無いため complete=false となる
+            long oldest = Math.max(bootSequence + 1, latestSequence - replayBuffer.length + 1);
+            long from = Math.max(sequence + 1, oldest);
+            List<ChangeEvent> events = new ArrayList<>();
+            for (long s = from; s <= latestSequence; s++) {
+                events.add(replayBuffer[(int) (s % replayBuffer.length)]);
+            }
+            return new ChangeReplay(events, sequence + 1 >= oldest, latestSequence);
+        }
+    }
+
+    private record Key(ChangeEntity entity, Long id) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.realestate.feed;
+
+import java.util.List;
+
+/**
+ * 変更イベントの再送結果
+ *
+ * @param events 指定シーケンス以降のイベント（古い順）
+ * @param complete 欠落なく再送できた場合true（falseの場合は一覧を再取得する必要あり）
+ * @param latestSequence 現在の最新シーケンス番号
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record ChangeReplay(List<ChangeEvent> events, boolean complete, long latestSequence) {
+}
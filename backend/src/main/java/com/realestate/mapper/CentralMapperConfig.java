@@ -0,0 +1,24 @@
+package com.realestate.mapper;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * マッパー共通設定
+ *
+ * MapStructがコンパイル時にエンティティ・DTO変換クラスを生成します（実行時リフレクションなし）。
+ * 生成クラスはSpring Beanとして登録され、依存するマッパーはコンストラクタで注入されます。
+ * 変換漏れを防ぐため、未マッピングの変換先プロパティはコンパイルエラーとします。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface CentralMapperConfig {
+}
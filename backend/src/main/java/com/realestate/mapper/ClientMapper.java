@@ -0,0 +1,32 @@
+package com.realestate.mapper;
+
+import com.realestate.dto.ClientDto;
+import com.realestate.entity.Client;
+import org.mapstruct.Mapper;
+
+/**
+ * 顧客エンティティ・DTO変換マッパー
+ *
+ * 契約DTO内の顧客情報もこのマッパーを経由して変換されます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Mapper(config = CentralMapperConfig.class)
+public interface ClientMapper {
+
+    /**
+     * 顧客エンティティをDTOに変換
+     * @param client 顧客エンティティ
+     * @return 顧客DTO
+     */
+    ClientDto toDto(Client client);
+
+    /**
+     * 顧客DTOをエンティティに変換
+     * @param dto 顧客DTO
+     * @return 顧客エンティティ
+     */
+    Client toEntity(ClientDto dto);
+}
@@ -0,0 +1,55 @@
+package com.realestate.mapper;
+
+import com.realestate.dto.ContractDto;
+import com.realestate.entity.Client;
+import com.realestate.entity.Contract;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * 契約エンティティ・DTO変換マッパー
+ *
+ * ネストした物件・顧客の変換は PropertyMapper / ClientMapper に委譲し、
+ * 変換処理を一箇所にまとめています。
+ * 一覧取得はエンティティを読み込まない射影（ContractRepository.CONTRACT_DTO_SELECT）で行うため、
+ * 項目を変更した場合は射影側も合わせて更新してください。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Mapper(config = CentralMapperConfig.class, uses = {PropertyMapper.class, ClientMapper.class})
+public interface ContractMapper {
+
+    /**
+     * 契約エンティティをDTOに変換
+     * @param contract 契約エンティティ
+     * @return 契約DTO（物件名・顧客名を含む）
+     */
+    @Mapping(target = "propertyName", source = "property.name")
+    @Mapping(target = "clientName", expression = "java(toClientName(contract.getClient()))")
+    ContractDto toDto(Contract contract);
+
+    /**
+     * 契約DTOをエンティティに変換
+     * 物件・顧客はIDからの取得が必要なため、呼び出し側で設定します
+     * @param dto 契約DTO
+     * @return 契約エンティティ
+     */
+    @Mapping(target = "property", ignore = true)
+    @Mapping(target = "client", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Contract toEntity(ContractDto dto);
+
+    /**
+     * 顧客の表示名（姓 名）を生成
+     * @param client 顧客エンティティ
+     * @return 顧客名（顧客がない場合はnull）
+     */
+    default String toClientName(Client client) {
+        if (client == null) {
+            return null;
+        }
+        return ContractDto.clientName(client.getFirstName(), client.getLastName());
+    }
+}
@@ -0,0 +1,23 @@
+package com.realestate.mapper;
+
+import com.realestate.dto.DigitalTimestampDto;
+import com.realestate.entity.DigitalTimestamp;
+import org.mapstruct.Mapper;
+
+/**
+ * 電子タイムスタンプエンティティ・DTO変換マッパー
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Mapper(config = CentralMapperConfig.class)
+public interface DigitalTimestampMapper {
+
+    /**
+     * 電子タイムスタンプエンティティをDTOに変換（文書IDは文字列に変換）
+     * @param timestamp 電子タイムスタンプエンティティ
+     * @return 電子タイムスタンプDTO
+     */
+    DigitalTimestampDto toDto(DigitalTimestamp timestamp);
+}
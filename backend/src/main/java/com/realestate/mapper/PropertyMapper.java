@@ -0,0 +1,52 @@
+package com.realestate.mapper;
+
+import com.realestate.dto.PropertyDto;
+import com.realestate.entity.Property;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+/**
+ * 物件エンティティ・DTO変換マッパー
+ *
+ * 契約DTO内の物件情報もこのマッパーを経由して変換されます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Mapper(config = CentralMapperConfig.class)
+public interface PropertyMapper {
+
+    /**
+     * 物件エンティティをDTOに変換
+     * @param property 物件エンティティ
+     * @return 物件DTO
+     */
+    PropertyDto toDto(Property property);
+
+    /**
+     * 物件DTOを新規作成用のエンティティに変換（ID・日時・バージョンは保存時に設定）
+     * @param dto 物件DTO
+     * @return 物件エンティティ
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Property toEntity(PropertyDto dto);
+
+    /**
+     * 物件DTOの値で既存エンティティを更新（nullの項目は更新しない）
+     * @param dto 更新する物件情報DTO
+     * @param property 既存の物件エンティティ
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(PropertyDto dto, @MappingTarget Property property);
+}
@@ -0,0 +1,35 @@
+package com.realestate.mapper;
+
+import com.realestate.dto.TransactionDto;
+import com.realestate.entity.Transaction;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * 取引エンティティ・DTO変換マッパー
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Mapper(config = CentralMapperConfig.class)
+public interface TransactionMapper {
+
+    /**
+     * 取引エンティティをDTOに変換（契約IDのみ保持）
+     * @param transaction 取引エンティティ
+     * @return 取引DTO
+     */
+    @Mapping(target = "contractId", source = "contract.id")
+    TransactionDto toDto(Transaction transaction);
+
+    /**
+     * 取引DTOをエンティティに変換
+     * 契約はIDからの取得が必要なため、呼び出し側で設定します
+     * @param dto 取引DTO
+     * @return 取引エンティティ
+     */
+    @Mapping(target = "contract", ignore = true)
+    @Mapping(target = "rentPeriod", ignore = true)
+    Transaction toEntity(TransactionDto dto);
+}
@@ -0,0 +1,16 @@
+package com.realestate.rent;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 賃料の支払予定（1か月分）
+ *
+ * @param period 対象期間（支払期日）
+ * @param amount 賃料
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record RentInstallment(LocalDate period, BigDecimal amount) {
+}
@@ -0,0 +1,48 @@
+package com.realestate.rent;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 賃料スケジュールの計算
+ *
+ * 契約開始日から1か月ごとの応当日を支払期日とし、契約終了日より前の期日ごとに
+ * 月額賃料の支払予定を作成します。応当日が存在しない月（31日開始の2月など）は月末日とします。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public final class RentSchedulePlanner {
+
+    /**
+     * 1契約あたりの支払予定の上限（100年分）
+     */
+    static final int MAX_INSTALLMENTS = 1200;
+
+    private RentSchedulePlanner() {
+    }
+
+    /**
+     * 契約期間の支払予定を作成
+     *
+     * @param startDate 契約開始日
+     * @param endDate 契約終了日（この日以降の期日は含めない）
+     * @param monthlyRent 月額賃料
+     * @return 期日順の支払予定
+     */
+    public static List<RentInstallment> plan(LocalDate startDate, LocalDate endDate, BigDecimal monthlyRent) {
+        List<RentInstallment> installments = new ArrayList<>();
+        for (int month = 0; month < MAX_INSTALLMENTS; month++) {
+            // 開始日から加算する（前月の期日から加算すると月末で日付がずれるため）
+            LocalDate period = startDate.plusMonths(month);
+            if (!period.isBefore(endDate)) {
+                break;
+            }
+            installments.add(new RentInstallment(period, monthlyRent));
+        }
+        return installments;
+    }
+}
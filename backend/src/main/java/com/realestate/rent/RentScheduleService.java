@@ -0,0 +1,452 @@
+package com.realestate.rent;
+
+import com.realestate.archive.TransactionArchiveService;
+import com.realestate.audit.AuditAction;
+import com.realestate.audit.AuditLogWriter;
+import com.realestate.dto.RentScheduleResultDto;
+import com.realestate.dto.TransactionDto;
+import com.realestate.entity.Contract.ContractStatus;
+import com.realestate.entity.Contract.ContractType;
+import com.realestate.entity.OutboxEvent.AggregateType;
+import com.realestate.entity.OutboxEvent.EventType;
+import com.realestate.entity.Transaction.TransactionStatus;
+import com.realestate.entity.Transaction.TransactionType;
+import com.realestate.event.DomainEventPublisher;
+import com.realestate.repository.TransactionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 賃料スケジュールサービスクラス
+ *
+ * 賃貸・リース契約の月額賃料から、契約期間の毎月の支払予定を取引（支払・未処理）として生成します。
+ * 生成した取引は {@code rent_period}（支払期日）で契約ごとに一意となり、再生成時は差分のみを反映します。
+ * <ul>
+ *   <li>有効な賃貸・リース契約：不足している期日の取引を追加し、期日が契約期間外となった未処理の取引を削除。
+ *       賃料が変更された場合は、今日以降の未処理の取引の金額を更新</li>
+ *   <li>それ以外の契約（下書き・期限切れ・終了など）：今日より後の未処理の取引を削除</li>
+ * </ul>
+ * 処理済み（完了・失敗・取消）の取引と、締め済み（アーカイブ済み）の期間の支払予定は変更しません。
+ * 当月より前の期日の支払予定は新たに生成しません（開始日を過去にした契約でも過去の月の未処理の取引は作らない）。
+ * 未処理の取引が残る月は締め処理（{@link TransactionArchiveService}）の対象にならず、以降の月の締めも止まるため、
+ * 過去の月の賃料は支払予定ではなく個別の取引として登録します。
+ *
+ * 契約の作成・更新時は同じトランザクションで該当契約のみを再生成します。
+ * 毎月の繰り越し処理では、対象の全契約をチャンクに分割して並列に処理し、
+ * チャンクごとにJDBCバッチで挿入・更新・削除してコミットします。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+public class RentScheduleService {
+
+    private static final Logger log = LoggerFactory.getLogger(RentScheduleService.class);
+
+    private static final String SELECT_CONTRACTS_SQL = "SELECT id, type, status, monthly_rent, start_date, end_date "
+            + "FROM contracts WHERE id IN (:ids)";
+
+    private static final String SELECT_SCHEDULE_SQL = "SELECT id, contract_id, rent_period, amount, status "
+            + "FROM transactions WHERE contract_id IN (:ids) AND rent_period IS NOT NULL";
+
+    /**
+     * 繰り越し対象の契約（有効な賃貸・リース契約と、今日より後の未処理の支払予定が残っている契約）
+     */
+    private static final String SELECT_ROLL_FORWARD_IDS_SQL = "SELECT c.id FROM contracts c "
+            + "WHERE (c.status = :active AND c.type IN (:types) AND c.monthly_rent > 0) "
+            + "OR EXISTS (SELECT 1 FROM transactions t WHERE t.contract_id = c.id "
+            + "AND t.rent_period > :today AND t.status = :pending) ORDER BY c.id";
+
+    private static final String INSERT_SQL = "INSERT INTO transactions (contract_id, type, amount, transaction_date, "
+            + "description, status, rent_period, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_AMOUNT_SQL =
+            "UPDATE transactions SET amount = ?, updated_at = ? WHERE id = ? AND status = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM transactions WHERE id = ? AND status = ?";
+
+    private static final String DELETE_PENDING_BY_CONTRACT_SQL = "DELETE FROM transactions "
+            + "WHERE contract_id = :contractId AND rent_period IS NOT NULL AND status = :pending";
+
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyy年M月d日");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TransactionRepository transactionRepository;
+
+    private final DomainEventPublisher domainEventPublisher;
+
+    private final TransactionArchiveService transactionArchiveService;
+
+    private final AuditLogWriter auditLogWriter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 1回の繰り越しで1チャンクとして処理する契約数
+     */
+    private final int chunkSize;
+
+    /**
+     * JDBCバッチの件数
+     */
+    private final int batchSize;
+
+    /**
+     * 繰り越し処理のワーカー
+     */
+    private final ExecutorService workerPool;
+
+    /**
+     * 繰り越し処理の多重実行防止
+     */
+    private final ReentrantLock rollForwardLock = new ReentrantLock();
+
+    public RentScheduleService(NamedParameterJdbcTemplate jdbcTemplate,
+                               TransactionRepository transactionRepository,
+                               DomainEventPublisher domainEventPublisher,
+                               TransactionArchiveService transactionArchiveService,
+                               AuditLogWriter auditLogWriter,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.rent.chunk-size:500}") int chunkSize,
+                               @Value("${app.rent.batch-size:500}") int batchSize,
+                               @Value("${app.rent.workers:0}") int workers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionRepository = transactionRepository;
+        this.domainEventPublisher = domainEventPublisher;
+        this.transactionArchiveService = transactionArchiveService;
+        this.auditLogWriter = auditLogWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.batchSize = Math.max(1, batchSize);
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.workerPool = Executors.newFixedThreadPool(threads, namedThreads("rent-schedule"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+
+    /**
+     * 契約の支払予定を取得
+     *
+     * @param contractId 契約ID
+     * @return 期日順の支払予定
+     */
+    @Transactional(readOnly = true)
+    public List<TransactionDto> getSchedule(Long contractId) {
+        return transactionRepository.findRentScheduleDtosByContractId(contractId);
+    }
+
+    /**
+     * 契約の支払予定を再生成（呼び出し元のトランザクションに参加）
+     * 契約の変更はこの呼び出しより前にデータベースへ反映されている必要があります
+     *
+     * @param contractId 契約ID
+     * @param recordEvent 支払予定が変わった場合に契約の更新イベントを記録するかどうか
+     *                    （契約の更新と同時に呼び出す場合は、呼び出し元が記録するため不要）
+     * @return 生成結果（契約が存在しない場合は空）
+     */
+    @Transactional
+    public Optional<RentScheduleResultDto> regenerate(Long contractId, boolean recordEvent) {
+        long started = System.nanoTime();
+        Counts counts = applyChunk(List.of(contractId), LocalDate.now(), recordEvent);
+        if (counts.contracts == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(counts.toDto(0, started));
+    }
+
+    /**
+     * 契約の未処理の支払予定を削除（契約削除時、呼び出し元のトランザクションに参加）
+     *
+     * @param contractId 契約ID
+     * @return 削除した件数
+     */
+    @Transactional
+    public int removePending(Long contractId) {
+        return jdbcTemplate.update(DELETE_PENDING_BY_CONTRACT_SQL, new MapSqlParameterSource()
+                .addValue("contractId", contractId)
+                .addValue("pending", TransactionStatus.PENDING.name()));
+    }
+
+    /**
+     * 毎月の繰り越し処理（スケジュール実行）
+     */
+    @Scheduled(cron = "${app.rent.roll-forward-cron:0 0 3 1 * *}")
+    public void scheduledRollForward() {
+        if (rollForward().isEmpty()) {
+            log.warn("賃料スケジュールの繰り越し処理が実行中のため、今回の実行をスキップしました");
+        }
+    }
+
+    /**
+     * 全対象契約の支払予定を再生成（チャンク単位で並列に実行）
+     * 支払予定を変更した契約ごとに契約の更新イベントを記録します
+     *
+     * @return 生成結果（既に実行中の場合は空）
+     */
+    public Optional<RentScheduleResultDto> rollForward() {
+        if (!rollForwardLock.tryLock()) {
+            return Optional.empty();
+        }
+        try {
+            long started = System.nanoTime();
+            LocalDate today = LocalDate.now();
+            List<Long> contractIds = jdbcTemplate.queryForList(SELECT_ROLL_FORWARD_IDS_SQL,
+                    new MapSqlParameterSource()
+                            .addValue("active", ContractStatus.ACTIVE.name())
+                            .addValue("types", List.of(ContractType.RENTAL.name(), ContractType.LEASE.name()))
+                            .addValue("today", Date.valueOf(today))
+                            .addValue("pending", TransactionStatus.PENDING.name()),
+                    Long.class);
+
+            List<Future<Counts>> chunks = new ArrayList<>();
+            for (int from = 0; from < contractIds.size(); from += chunkSize) {
+                List<Long> chunk = contractIds.subList(from, Math.min(from + chunkSize, contractIds.size()));
+                chunks.add(workerPool.submit(
+                        () -> transactionTemplate.execute(status -> applyChunk(chunk, today, true))));
+            }
+
+            Counts total = new Counts();
+            int failedChunks = 0;
+            for (Future<Counts> chunk : chunks) {
+                try {
+                    total.add(chunk.get());
+                } catch (ExecutionException e) {
+                    failedChunks++;
+                    log.warn("賃料スケジュールのチャンク処理に失敗しました", e.getCause());
+                }
+            }
+            RentScheduleResultDto result = total.toDto(failedChunks, started);
+            log.info("賃料スケジュールを繰り越しました: 契約{}件, 追加{}件, 更新{}件, 削除{}件, 失敗チャンク{}件, {}ms",
+                    result.getContracts(), result.getInserted(), result.getUpdated(), result.getDeleted(),
+                    failedChunks, result.getElapsedMillis());
+            return Optional.of(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("賃料スケジュールの繰り越し処理が中断されました", e);
+        } finally {
+            rollForwardLock.unlock();
+        }
+    }
+
+    /**
+     * 契約（チャンク）の支払予定と現在の取引を比較し、差分をバッチで反映
+     */
+    private Counts applyChunk(List<Long> contractIds, LocalDate today, boolean recordEvents) {
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", contractIds);
+        List<ContractTerms> contracts = jdbcTemplate.query(SELECT_CONTRACTS_SQL, ids, (rs, rowNum) -> new ContractTerms(
+                rs.getLong("id"),
+                rs.getString("type"),
+                rs.getString("status"),
+                rs.getBigDecimal("monthly_rent"),
+                toLocalDate(rs.getTimestamp("start_date")),
+                toLocalDate(rs.getTimestamp("end_date"))));
+
+        Map<Long, List<ScheduledRent>> existingByContract = new HashMap<>();
+        jdbcTemplate.query(SELECT_SCHEDULE_SQL, ids, (RowCallbackHandler) rs -> {
+            ScheduledRent rent = new ScheduledRent(rs.getLong("id"), rs.getDate("rent_period").toLocalDate(),
+                    rs.getBigDecimal("amount"), rs.getString("status"));
+            existingByContract.computeIfAbsent(rs.getLong("contract_id"), id -> new ArrayList<>()).add(rent);
+        });
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<Long> changedContracts = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String pending = TransactionStatus.PENDING.name();
+        LocalDate currentMonth = today.withDayOfMonth(1);
+        LocalDate closedBefore = transactionArchiveService.closedBefore()
+                .map(LocalDateTime::toLocalDate)
+                .orElse(LocalDate.MIN);
+
+        for (ContractTerms contract : contracts) {
+            int insertsBefore = inserts.size();
+            int updatesBefore = updates.size();
+            int deletesBefore = deletes.size();
+            List<ScheduledRent> existing = existingByContract.getOrDefault(contract.id(), List.of());
+
+            if (!contract.isScheduled()) {
+                for (ScheduledRent rent : existing) {
+                    if (rent.isPending() && rent.period().isAfter(today)) {
+                        deletes.add(new Object[] {rent.id(), pending});
+                    }
+                }
+            } else {
+                Map<LocalDate, RentInstallment> planned = new LinkedHashMap<>();
+                for (RentInstallment installment : RentSchedulePlanner.plan(
+                        contract.startDate(), contract.endDate(), contract.monthlyRent())) {
+                    // 締め済みの期間はアーカイブ済みのため生成しない
+                    if (!installment.period().isBefore(closedBefore)) {
+                        planned.put(installment.period(), installment);
+                    }
+                }
+                for (ScheduledRent rent : existing) {
+                    RentInstallment installment = planned.remove(rent.period());
+                    if (!rent.isPending()) {
+                        continue;
+                    }
+                    if (installment == null) {
+                        deletes.add(new Object[] {rent.id(), pending});
+                    } else if (!rent.period().isBefore(today)
+                            && rent.amount().compareTo(installment.amount()) != 0) {
+                        updates.add(new Object[] {installment.amount(), now, rent.id(), pending});
+                    }
+                }
+                for (RentInstallment installment : planned.values()) {
+                    // 過去の月の未処理の取引は締め処理を止めるため生成しない
+                    if (installment.period().isBefore(currentMonth)) {
+                        continue;
+                    }
+                    inserts.add(new Object[] {
+                            contract.id(),
+                            TransactionType.PAYMENT.name(),
+                            installment.amount(),
+                            Timestamp.valueOf(installment.period().atStartOfDay()),
+                            "賃料（" + PERIOD_FORMAT.format(installment.period()) + "期日分）",
+                            pending,
+                            Date.valueOf(installment.period()),
+                            now,
+                            now});
+                }
+            }
+            int inserted = inserts.size() - insertsBefore;
+            int updated = updates.size() - updatesBefore;
+            int deleted = deletes.size() - deletesBefore;
+            if (inserted + updated + deleted > 0) {
+                changedContracts.add(contract.id());
+                // JDBCで一括変更するため、契約ごとに件数を監査ログへ記録
+                auditLogWriter.appendAfterCommit("Contract", String.valueOf(contract.id()), AuditAction.BULK,
+                        Map.of("rentSchedule", Map.of("inserted", inserted, "updated", updated, "deleted", deleted)));
+            }
+        }
+
+        Counts counts = new Counts();
+        counts.contracts = contracts.size();
+        counts.deleted = batch(DELETE_SQL, deletes);
+        counts.updated = batch(UPDATE_AMOUNT_SQL, updates);
+        counts.inserted = batch(INSERT_SQL, inserts);
+        if (recordEvents) {
+            // 一覧ビュー・変更フィードへ反映するため、支払予定が変わった契約ごとに1件記録
+            for (Long contractId : changedContracts) {
+                domainEventPublisher.record(AggregateType.CONTRACT, contractId, EventType.UPDATED);
+            }
+        }
+        return counts;
+    }
+
+    private int batch(String sql, List<Object[]> rows) {
+        int affected = 0;
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            for (int count : jdbcTemplate.getJdbcTemplate().batchUpdate(sql,
+                    rows.subList(from, Math.min(from + batchSize, rows.size())))) {
+                // ドライバーが件数を返さない場合（SUCCESS_NO_INFO）は1件として数える
+                affected += count < 0 ? 1 : count;
+            }
+        }
+        return affected;
+    }
+
+    private static LocalDate toLocalDate(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toLocalDate() : null;
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 支払予定の計算に必要な契約項目
+     */
+    private record ContractTerms(long id, String type, String status, BigDecimal monthlyRent,
+                                 LocalDate startDate, LocalDate endDate) {
+
+        /**
+         * 支払予定を生成する契約かどうか（有効な賃貸・リース契約で、賃料と期間が設定済み）
+         */
+        boolean isScheduled() {
+            return ContractStatus.ACTIVE.name().equals(status)
+                    && (ContractType.RENTAL.name().equals(type) || ContractType.LEASE.name().equals(type))
+                    && monthlyRent != null && monthlyRent.signum() > 0
+                    && startDate != null && endDate != null;
+        }
+    }
+
+    /**
+     * 生成済みの支払予定
+     */
+    private record ScheduledRent(long id, LocalDate period, BigDecimal amount, String status) {
+
+        boolean isPending() {
+            return TransactionStatus.PENDING.name().equals(status);
+        }
+    }
+
+    /**
+     * 処理件数の集計
+     */
+    private static final class Counts {
+
+        private int contracts;
+
+        private int inserted;
+
+        private int updated;
+
+        private int deleted;
+
+        void add(Counts other) {
+            if (other == null) {
+                return;
+            }
+            contracts += other.contracts;
+            inserted += other.inserted;
+            updated += other.updated;
+            deleted += other.deleted;
+        }
+
+        RentScheduleResultDto toDto(int failedChunks, long startedNanos) {
+            return new RentScheduleResultDto(contracts, inserted, updated, deleted, failedChunks,
+                    (System.nanoTime() - startedNanos) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.realestate.repository;
+
+import com.realestate.entity.AuditLogIndexEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AuditLogIndexRepository extends JpaRepository<AuditLogIndexEntry, Long> {
+
+        List<AuditLogIndexEntry> findByEntityTypeAndEntityIdAndOccurredAtGreaterThanEqualAndOccurredAtLessThanOrderBySequenceAsc(
+                        String entityType, String entityId, LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+        List<AuditLogIndexEntry> findByOccurredAtGreaterThanEqualAndOccurredAtLessThanOrderBySequenceAsc(
+                        LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+        @Query("SELECT MAX(e.sequence) FROM AuditLogIndexEntry e")
+        Long findMaxSequence();
+}
@@ -2,7 +2,12 @@ package com.realestate.repository;
 
 import com.realestate.entity.Client;
 import com.realestate.entity.Client.ClientType;
+import com.realestate.search.SuggestionSource;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,6 +16,7 @@ import java.util.Optional;
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Client> findByType(ClientType type);
     
     Optional<Client> findByEmail(String email);
@@ -19,4 +25,11 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
         String firstName, String lastName);
     
     List<Client> findByPhoneContaining(String phone);
+
+    /**
+     * 入力補完インデックス構築用に、顧客名（名 姓）とメールアドレスを全件取得
+     */
+    @Query("SELECT new com.realestate.search.SuggestionSource(" +
+            "cl.id, CONCAT(cl.firstName, ' ', cl.lastName), cl.email) FROM Client cl")
+    List<SuggestionSource> findAllSuggestionSources();
 }
@@ -0,0 +1,74 @@
+package com.realestate.repository;
+
+import com.realestate.entity.ContractListView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ContractListViewRepository extends JpaRepository<ContractListView, Long>,
+        JpaSpecificationExecutor<ContractListView> {
+
+        /**
+         * 契約・物件・顧客・最新取引から一覧ビューの行を生成するINSERT ... SELECT
+         * 最新取引は取引日時が最も新しいもの（同時刻の場合はIDが大きいもの）
+         */
+        String INSERT_FROM_SOURCE = "INSERT INTO ContractListView (" +
+                        "contractId, contractNumber, type, status, amount, monthlyRent, startDate, endDate, " +
+                        "propertyId, propertyName, propertyAddress, clientId, clientName, clientStatus, " +
+                        "latestTransactionId, latestTransactionStatus, latestTransactionDate, contractUpdatedAt) " +
+                        "SELECT c.id, c.contractNumber, c.type, c.status, c.amount, c.monthlyRent, c.startDate, c.endDate, " +
+                        "p.id, p.name, p.address, cl.id, concat(cl.firstName, ' ', cl.lastName), cl.status, " +
+                        "t.id, t.status, t.transactionDate, c.updatedAt " +
+                        "FROM Contract c JOIN c.property p JOIN c.client cl " +
+                        "LEFT JOIN Transaction t ON t.contract = c AND NOT EXISTS (" +
+                        "SELECT 1 FROM Transaction t2 WHERE t2.contract = c AND " +
+                        "(t2.transactionDate > t.transactionDate OR " +
+                        "(t2.transactionDate = t.transactionDate AND t2.id > t.id)))";
+
+        /**
+         * 全契約の行を生成
+         */
+        @Modifying
+        @Query(INSERT_FROM_SOURCE)
+        int insertAll();
+
+        /**
+         * 指定した契約の行を生成（契約が存在しない場合は生成されない）
+         */
+        @Modifying
+        @Query(INSERT_FROM_SOURCE + " WHERE c.id IN :contractIds")
+        int insertByContractIds(@Param("contractIds") Collection<Long> contractIds);
+
+        /**
+         * 全行を削除
+         */
+        @Modifying
+        @Query("DELETE FROM ContractListView v")
+        int deleteAllRows();
+
+        /**
+         * 指定した契約の行を削除
+         */
+        @Modifying
+        @Query("DELETE FROM ContractListView v WHERE v.contractId IN :contractIds")
+        int deleteByContractIds(@Param("contractIds") Collection<Long> contractIds);
+
+        @Query("SELECT v.contractId FROM ContractListView v WHERE v.propertyId IN :propertyIds")
+        List<Long> findContractIdsByPropertyIds(@Param("propertyIds") Collection<Long> propertyIds);
+
+        @Query("SELECT v.contractId FROM ContractListView v WHERE v.clientId IN :clientIds")
+        List<Long> findContractIdsByClientIds(@Param("clientIds") Collection<Long> clientIds);
+
+        @Query("SELECT v.contractId FROM ContractListView v WHERE v.latestTransactionId IN :transactionIds")
+        List<Long> findContractIdsByLatestTransactionIds(@Param("transactionIds") Collection<Long> transactionIds);
+
+        @Query("SELECT t.contract.id FROM Transaction t WHERE t.id IN :transactionIds")
+        List<Long> findContractIdsByTransactionIds(@Param("transactionIds") Collection<Long> transactionIds);
+}
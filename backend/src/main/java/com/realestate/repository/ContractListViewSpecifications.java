@@ -0,0 +1,90 @@
+package com.realestate.repository;
+
+import com.realestate.dto.ContractListCriteria;
+import com.realestate.entity.ContractListView;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 契約一覧ビューの検索条件
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public final class ContractListViewSpecifications {
+
+    private ContractListViewSpecifications() {
+    }
+
+    /**
+     * 絞り込み条件から検索条件を生成
+     * @param criteria 絞り込み条件
+     * @return 検索条件（全項目が未指定の場合は全件）
+     */
+    public static Specification<ContractListView> matching(ContractListCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addContains(predicates, cb, root.get("contractNumber"), criteria.getContractNumber());
+            addContains(predicates, cb, root.get("propertyName"), criteria.getPropertyName());
+            addContains(predicates, cb, root.get("clientName"), criteria.getClientName());
+            if (criteria.getType() != null) {
+                predicates.add(cb.equal(root.get("type"), criteria.getType()));
+            }
+            if (criteria.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), criteria.getStatus()));
+            }
+            if (criteria.getClientStatus() != null) {
+                predicates.add(cb.equal(root.get("clientStatus"), criteria.getClientStatus()));
+            }
+            if (criteria.getLatestTransactionStatus() != null) {
+                predicates.add(cb.equal(root.get("latestTransactionStatus"), criteria.getLatestTransactionStatus()));
+            }
+            if (criteria.getPropertyId() != null) {
+                predicates.add(cb.equal(root.get("propertyId"), criteria.getPropertyId()));
+            }
+            if (criteria.getClientId() != null) {
+                predicates.add(cb.equal(root.get("clientId"), criteria.getClientId()));
+            }
+            if (criteria.getStartFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("startDate"), criteria.getStartFrom().atStartOfDay()));
+            }
+            if (criteria.getStartTo() != null) {
+                predicates.add(cb.lessThan(root.get("startDate"), criteria.getStartTo().plusDays(1).atStartOfDay()));
+            }
+            if (criteria.getEndFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("endDate"), criteria.getEndFrom().atStartOfDay()));
+            }
+            if (criteria.getEndTo() != null) {
+                predicates.add(cb.lessThan(root.get("endDate"), criteria.getEndTo().plusDays(1).atStartOfDay()));
+            }
+            if (criteria.getMinRent() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("monthlyRent"), criteria.getMinRent()));
+            }
+            if (criteria.getMaxRent() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("monthlyRent"), criteria.getMaxRent()));
+            }
+            if (criteria.getMinAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amount"), criteria.getMinAmount()));
+            }
+            if (criteria.getMaxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amount"), criteria.getMaxAmount()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static void addContains(List<Predicate> predicates, CriteriaBuilder cb, Path<String> path, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        String pattern = "%" + value.trim().toLowerCase()
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        predicates.add(cb.like(cb.lower(path), pattern, '\\'));
+    }
+}
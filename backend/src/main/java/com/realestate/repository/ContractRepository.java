@@ -1,8 +1,10 @@
 package com.realestate.repository;
 
+import com.realestate.dto.ContractDto;
 import com.realestate.entity.Contract;
 import com.realestate.entity.Contract.ContractType;
 import com.realestate.entity.Contract.ContractStatus;
+import com.realestate.search.SuggestionSource;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +16,25 @@ import java.util.List;
 @Repository
 public interface ContractRepository extends JpaRepository<Contract, Long> {
 
+    /**
+     * 契約DTOへ直接射影するSELECT句（物件・顧客を結合して1クエリで取得する一覧用）
+     *
+     * 一覧ではエンティティを永続化コンテキストに読み込まず（変更検知用のスナップショットを作らず）に
+     * DTOを組み立てるため、エンティティを入力とする ContractMapper.toDto とは別の経路を残しています。
+     * 契約DTO・物件DTO・顧客DTOに項目を追加した場合は、ContractMapper（PropertyMapper・ClientMapper）と
+     * このSELECT句・ContractDtoの射影用コンストラクタの両方を更新してください。
+     */
+    String CONTRACT_DTO_SELECT = "SELECT new com.realestate.dto.ContractDto(" +
+            "c.id, c.contractNumber, " +
+            "p.id, p.name, p.address, p.description, p.type, p.status, p.price, p.area, " +
+            "p.rooms, p.bathrooms, p.parkingSpaces, p.yearBuilt, p.latitude, p.longitude, " +
+            "p.createdAt, p.updatedAt, p.version, " +
+            "cl.id, cl.firstName, cl.lastName, cl.email, cl.phone, cl.address, cl.type, cl.status, " +
+            "cl.createdAt, cl.updatedAt, " +
+            "c.type, c.status, c.amount, c.monthlyRent, c.startDate, c.endDate, c.terms, " +
+            "c.createdAt, c.updatedAt, c.version) " +
+            "FROM Contract c JOIN c.property p JOIN c.client cl";
+
     List<Contract> findByType(ContractType type);
 
     List<Contract> findByStatus(ContractStatus status);
@@ -29,4 +50,19 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
     List<Contract> findContractsByDateRange(
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
+
+    @Query(CONTRACT_DTO_SELECT)
+    List<ContractDto> findAllDtos();
+
+    @Query(CONTRACT_DTO_SELECT + " WHERE c.type = :type")
+    List<ContractDto> findDtosByType(@Param("type") ContractType type);
+
+    @Query(CONTRACT_DTO_SELECT + " WHERE c.status = :status")
+    List<ContractDto> findDtosByStatus(@Param("status") ContractStatus status);
+
+    /**
+     * 入力補完インデックス構築用に、契約番号を全件取得
+     */
+    @Query("SELECT new com.realestate.search.SuggestionSource(c.id, c.contractNumber) FROM Contract c")
+    List<SuggestionSource> findAllSuggestionSources();
 }
@@ -0,0 +1,48 @@
+package com.realestate.repository;
+
+import com.realestate.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+        /**
+         * 未配信のイベントを採番順に取得
+         */
+        @Query("SELECT e FROM OutboxEvent e WHERE e.dispatchedAt IS NULL ORDER BY e.id")
+        List<OutboxEvent> findPending(Pageable pageable);
+
+        /**
+         * 配信済みとして記録
+         */
+        @Transactional
+        @Modifying
+        @Query("UPDATE OutboxEvent e SET e.dispatchedAt = :dispatchedAt WHERE e.id IN :ids")
+        int markDispatched(@Param("ids") Collection<Long> ids, @Param("dispatchedAt") LocalDateTime dispatchedAt);
+
+        /**
+         * 配信失敗を記録
+         */
+        @Transactional
+        @Modifying
+        @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id = :id")
+        int recordFailure(@Param("id") Long id, @Param("error") String error);
+
+        /**
+         * 保持期間を過ぎた配信済みイベントを削除
+         */
+        @Transactional
+        @Modifying
+        @Query("DELETE FROM OutboxEvent e WHERE e.dispatchedAt < :before")
+        int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
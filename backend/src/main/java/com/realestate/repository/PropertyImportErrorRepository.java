@@ -0,0 +1,14 @@
+package com.realestate.repository;
+
+import com.realestate.entity.PropertyImportError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PropertyImportErrorRepository extends JpaRepository<PropertyImportError, Long> {
+
+        List<PropertyImportError> findByJobIdOrderByRecordNumberAsc(Long jobId, Pageable pageable);
+}
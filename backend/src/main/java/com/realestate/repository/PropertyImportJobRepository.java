@@ -0,0 +1,17 @@
+package com.realestate.repository;
+
+import com.realestate.entity.PropertyImportJob;
+import com.realestate.entity.PropertyImportJob.ImportStatus;
+import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PropertyImportJobRepository extends JpaRepository<PropertyImportJob, Long> {
+
+        List<PropertyImportJob> findByStatusInOrderByIdAsc(Collection<ImportStatus> statuses);
+
+        List<PropertyImportJob> findTop50ByOrderByIdDesc();
+}
@@ -1,21 +1,41 @@
 package com.realestate.repository;
 
+import com.realestate.dto.PropertyDto;
 import com.realestate.entity.Property;
 import com.realestate.entity.Property.PropertyType;
 import com.realestate.entity.Property.PropertyStatus;
+import com.realestate.search.IndexedProperty;
+import com.realestate.search.PropertyText;
+import com.realestate.search.SuggestionSource;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PropertyRepository extends JpaRepository<Property, Long> {
 
+    /**
+     * 物件DTOへ直接射影するSELECT句（エンティティを永続化コンテキストに載せない一覧取得用）
+     */
+    String PROPERTY_DTO_SELECT = "SELECT new com.realestate.dto.PropertyDto(" +
+            "p.id, p.name, p.address, p.description, p.type, p.status, p.price, p.area, " +
+            "p.rooms, p.bathrooms, p.parkingSpaces, p.yearBuilt, p.latitude, p.longitude, " +
+            "p.createdAt, p.updatedAt, p.version) " +
+            "FROM Property p";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Property> findByType(PropertyType type);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Property> findByStatus(PropertyStatus status);
 
     List<Property> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice);
@@ -42,4 +62,55 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
             @Param("maxPrice") BigDecimal maxPrice,
             @Param("minArea") BigDecimal minArea,
             @Param("maxArea") BigDecimal maxArea);
+
+    @Query(PROPERTY_DTO_SELECT)
+    List<PropertyDto> findAllDtos();
+
+    @Query(PROPERTY_DTO_SELECT + " WHERE p.type = :type")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<PropertyDto> findDtosByType(@Param("type") PropertyType type);
+
+    @Query(PROPERTY_DTO_SELECT + " WHERE p.status = :status")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<PropertyDto> findDtosByStatus(@Param("status") PropertyStatus status);
+
+    @Query(PROPERTY_DTO_SELECT + " WHERE " +
+            "(:type IS NULL OR p.type = :type) AND " +
+            "(:status IS NULL OR p.status = :status) AND " +
+            "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
+            "(:maxPrice IS NULL OR p.price <= :maxPrice) AND " +
+            "(:minArea IS NULL OR p.area >= :minArea) AND " +
+            "(:maxArea IS NULL OR p.area <= :maxArea)")
+    List<PropertyDto> findDtosByCriteria(
+            @Param("type") PropertyType type,
+            @Param("status") PropertyStatus status,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("minArea") BigDecimal minArea,
+            @Param("maxArea") BigDecimal maxArea);
+
+    @Query(PROPERTY_DTO_SELECT + " WHERE p.id IN :ids")
+    List<PropertyDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 検索インデックス構築用に、絞り込み項目のみを全件取得
+     */
+    @Query("SELECT new com.realestate.search.IndexedProperty(" +
+            "p.id, p.latitude, p.longitude, p.type, p.status, p.price, p.area, " +
+            "p.rooms, p.bathrooms, p.parkingSpaces, p.yearBuilt) " +
+            "FROM Property p")
+    List<IndexedProperty> findAllIndexEntries();
+
+    /**
+     * 全文検索インデックス構築用に、物件名・住所・物件説明を逐次取得（トランザクション内で使用）
+     */
+    @Query("SELECT new com.realestate.search.PropertyText(p.id, p.name, p.address, p.description) FROM Property p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<PropertyText> streamAllTextEntries();
+
+    /**
+     * 入力補完インデックス構築用に、物件名を全件取得
+     */
+    @Query("SELECT new com.realestate.search.SuggestionSource(p.id, p.name) FROM Property p")
+    List<SuggestionSource> findAllSuggestionSources();
 }
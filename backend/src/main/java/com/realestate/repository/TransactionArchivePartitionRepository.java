@@ -0,0 +1,16 @@
+package com.realestate.repository;
+
+import com.realestate.entity.TransactionArchivePartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransactionArchivePartitionRepository extends JpaRepository<TransactionArchivePartition, Long> {
+
+        List<TransactionArchivePartition> findAllByOrderByPeriodAsc();
+
+        Optional<TransactionArchivePartition> findTopByOrderByPeriodDesc();
+}
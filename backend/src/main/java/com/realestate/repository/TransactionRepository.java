@@ -1,5 +1,6 @@
 package com.realestate.repository;
 
+import com.realestate.dto.TransactionDto;
 import com.realestate.entity.Transaction;
 import com.realestate.entity.Transaction.TransactionType;
 import com.realestate.entity.Transaction.TransactionStatus;
@@ -15,6 +16,14 @@ import java.util.List;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+        /**
+         * 取引DTOへ直接射影するSELECT句（契約IDは外部キー列から取得し、契約を読み込まない）
+         */
+        String TRANSACTION_DTO_SELECT = "SELECT new com.realestate.dto.TransactionDto(" +
+                        "t.id, t.contract.id, t.type, t.amount, t.transactionDate, t.description, " +
+                        "t.status, t.createdAt, t.updatedAt) " +
+                        "FROM Transaction t";
+
         List<Transaction> findByType(TransactionType type);
 
         List<Transaction> findByStatus(TransactionStatus status);
@@ -35,4 +44,34 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
                         @Param("status") TransactionStatus status,
                         @Param("minAmount") BigDecimal minAmount,
                         @Param("maxAmount") BigDecimal maxAmount);
+
+        @Query(TRANSACTION_DTO_SELECT)
+        List<TransactionDto> findAllDtos();
+
+        @Query(TRANSACTION_DTO_SELECT + " WHERE t.transactionDate >= :from AND t.transactionDate < :to AND " +
+                        "(:type IS NULL OR t.type = :type) AND " +
+                        "(:status IS NULL OR t.status = :status) AND " +
+                        "(:minAmount IS NULL OR t.amount >= :minAmount) AND " +
+                        "(:maxAmount IS NULL OR t.amount <= :maxAmount) " +
+                        "ORDER BY t.transactionDate, t.id")
+        List<TransactionDto> findDtosByPeriod(
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to,
+                        @Param("type") TransactionType type,
+                        @Param("status") TransactionStatus status,
+                        @Param("minAmount") BigDecimal minAmount,
+                        @Param("maxAmount") BigDecimal maxAmount);
+
+        @Query(TRANSACTION_DTO_SELECT + " WHERE t.contract.id = :contractId")
+        List<TransactionDto> findDtosByContractId(@Param("contractId") Long contractId);
+
+        @Query(TRANSACTION_DTO_SELECT + " WHERE t.contract.id = :contractId AND t.rentPeriod IS NOT NULL " +
+                        "ORDER BY t.rentPeriod")
+        List<TransactionDto> findRentScheduleDtosByContractId(@Param("contractId") Long contractId);
+
+        @Query(TRANSACTION_DTO_SELECT + " WHERE t.type = :type")
+        List<TransactionDto> findDtosByType(@Param("type") TransactionType type);
+
+        @Query(TRANSACTION_DTO_SELECT + " WHERE t.status = :status")
+        List<TransactionDto> findDtosByStatus(@Param("status") TransactionStatus status);
 }
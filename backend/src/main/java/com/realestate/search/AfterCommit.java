@@ -0,0 +1,37 @@
+package com.realestate.search;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * コミット後処理の登録ユーティリティ
+ *
+ * メモリ上のインデックスへの反映を、データベースのコミット後に行うために使用します。
+ * ロールバックされた変更がインデックスに残ることを防ぎます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 現在のトランザクションのコミット後に実行（トランザクション外の場合は即時実行）
+     * @param action 実行する処理
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,193 @@
+package com.realestate.search;
+
+import com.realestate.entity.Client;
+import com.realestate.entity.Contract;
+import com.realestate.entity.Property;
+import com.realestate.repository.ClientRepository;
+import com.realestate.repository.ContractRepository;
+import com.realestate.repository.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 入力補完インデックス（物件名・顧客名・メールアドレス・契約番号）
+ *
+ * 正規化した文字列をキーとする並行ソート済みマップに候補を保持し、
+ * 前方一致は「入力文字列以上・入力文字列+U+FFFF未満」の範囲走査で求めます。
+ * 結果はキーの辞書順（短い一致が先）で、必要件数に達した時点で走査を打ち切ります。
+ * 読み取りはロックを取らず、書き込みは対象ごとに旧キーの削除と新キーの登録を行います。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AutocompleteIndex.class);
+
+    /**
+     * キーの正規化文字列と対象識別子の区切り（正規化文字列より前に並ぶ文字）
+     */
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final PropertyRepository propertyRepository;
+    private final ClientRepository clientRepository;
+    private final ContractRepository contractRepository;
+
+    /**
+     * 正規化文字列 + 区切り + 対象識別子 → 候補
+     */
+    private final ConcurrentSkipListMap<String, Suggestion> entries = new ConcurrentSkipListMap<>();
+
+    /**
+     * 対象識別子（種別:ID） → 登録済みのキー（更新・削除用）
+     */
+    private final Map<String, List<String>> keysByTarget = new ConcurrentHashMap<>();
+
+    /**
+     * データベースから全候補を再構築
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        entries.clear();
+        keysByTarget.clear();
+        propertyRepository.findAllSuggestionSources().forEach(source -> put(SuggestionType.PROPERTY, source));
+        clientRepository.findAllSuggestionSources().forEach(source -> put(SuggestionType.CLIENT, source));
+        contractRepository.findAllSuggestionSources().forEach(source -> put(SuggestionType.CONTRACT, source));
+        log.info("入力補完インデックスを構築しました: {}件, {}キー, {}ms",
+                keysByTarget.size(), entries.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 前方一致する候補を取得
+     * @param prefix 入力中の文字列
+     * @param types 対象の種別（nullまたは空の場合は全種別）
+     * @param limit 最大件数
+     * @return 候補の一覧（正規化文字列の辞書順、同一対象の重複なし）
+     */
+    public List<Suggestion> suggest(String prefix, Set<SuggestionType> types, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<Suggestion> results = new LinkedHashSet<>();
+        for (Suggestion suggestion : entries.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            if (types == null || types.isEmpty() || types.contains(suggestion.type())) {
+                results.add(suggestion);
+                if (results.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(results);
+    }
+
+    /**
+     * 物件の作成・更新をコミット後に反映
+     * @param property 保存済みの物件エンティティ
+     */
+    public void propertySaved(Property property) {
+        SuggestionSource source = new SuggestionSource(property.getId(), property.getName(), null);
+        AfterCommit.run(() -> put(SuggestionType.PROPERTY, source));
+    }
+
+    /**
+     * 顧客の作成・更新をコミット後に反映
+     * @param client 保存済みの顧客エンティティ
+     */
+    public void clientSaved(Client client) {
+        SuggestionSource source = new SuggestionSource(client.getId(),
+                client.getFirstName() + " " + client.getLastName(), client.getEmail());
+        AfterCommit.run(() -> put(SuggestionType.CLIENT, source));
+    }
+
+    /**
+     * 契約の作成・更新をコミット後に反映
+     * @param contract 保存済みの契約エンティティ
+     */
+    public void contractSaved(Contract contract) {
+        SuggestionSource source = new SuggestionSource(contract.getId(), contract.getContractNumber(), null);
+        AfterCommit.run(() -> put(SuggestionType.CONTRACT, source));
+    }
+
+    /**
+     * 削除をコミット後に反映
+     * @param type 種別
+     * @param id 削除されたID
+     */
+    public void deleted(SuggestionType type, Long id) {
+        AfterCommit.run(() -> keysByTarget.computeIfPresent(targetOf(type, id), (target, keys) -> {
+            keys.forEach(entries::remove);
+            return null;
+        }));
+    }
+
+    /**
+     * 候補を登録（同じ対象の旧キーは置き換え）
+     */
+    private void put(SuggestionType type, SuggestionSource source) {
+        String target = targetOf(type, source.id());
+        Suggestion suggestion = new Suggestion(type, source.id(), source.label());
+        keysByTarget.compute(target, (key, previousKeys) -> {
+            if (previousKeys != null) {
+                previousKeys.forEach(entries::remove);
+            }
+            List<String> keys = new ArrayList<>();
+            for (String text : searchableTexts(source)) {
+                String entryKey = text + KEY_SEPARATOR + target;
+                entries.put(entryKey, suggestion);
+                keys.add(entryKey);
+            }
+            return keys;
+        });
+    }
+
+    /**
+     * 前方一致の対象とする文字列（表示名全体、表示名の2語目以降、別名）
+     */
+    private static Set<String> searchableTexts(SuggestionSource source) {
+        Set<String> texts = new HashSet<>();
+        if (source.label() != null) {
+            String[] words = source.label().trim().split("\\s+");
+            for (int i = 0; i < words.length; i++) {
+                texts.add(normalize(String.join("", List.of(words).subList(i, words.length))));
+            }
+        }
+        if (source.alias() != null) {
+            texts.add(normalize(source.alias()));
+        }
+        texts.remove("");
+        return texts;
+    }
+
+    private static String targetOf(SuggestionType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    /**
+     * 全角英数字の半角化・小文字化・空白除去
+     */
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase().replaceAll("\\s+", "");
+    }
+}
@@ -0,0 +1,107 @@
+package com.realestate.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 全文検索用のトークナイザ（日本語バイグラム）
+ *
+ * 全角英数字の半角化（NFKC正規化）と小文字化の後、漢字・ひらがな・カタカナの連続は
+ * 2文字ずつずらした組（バイグラム）に、英数字の連続は単語単位に分割します。
+ * 1文字だけの日本語の連続はその1文字をトークンとします。記号・空白は区切りとして扱います。
+ *
+ * 索引用の分割では、2文字以上の日本語の連続の末尾の1文字もトークンに加えます。
+ * これにより日本語の各文字は「その文字で始まるトークン」に必ず含まれるため、
+ * 1文字の検索語（駅、港など）や入力途中の英数字（aoy など）はトークンの前方一致で検索できます
+ * （{@link #isPrefixTerm(String)}）。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 索引する文字列をトークンに分割（日本語の連続の末尾の1文字を含む）
+     * @param text 対象の文字列（nullの場合は空）
+     * @return トークンの一覧（出現順、重複を含む）
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 検索語をトークンに分割（日本語の連続はバイグラムのみ）
+     * @param query 検索語（nullの場合は空）
+     * @return トークンの一覧（出現順、重複を含む）
+     */
+    public static List<String> tokenizeQuery(String query) {
+        return tokenize(query, false);
+    }
+
+    /**
+     * 検索時に前方一致で展開するトークンかどうか（1文字の日本語、または英数字の単語）
+     * @param token 検索語のトークン
+     * @return 前方一致で展開する場合true
+     */
+    public static boolean isPrefixTerm(String token) {
+        return token.length() == 1 || !isJapanese(token.charAt(0));
+    }
+
+    private static List<String> tokenize(String text, boolean index) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isJapanese(c)) {
+                int start = i;
+                while (i < length && isJapanese(normalized.charAt(i))) {
+                    i++;
+                }
+                if (i - start == 1) {
+                    tokens.add(normalized.substring(start, i));
+                } else {
+                    for (int j = start; j + 1 < i; j++) {
+                        tokens.add(normalized.substring(j, j + 2));
+                    }
+                    if (index) {
+                        tokens.add(normalized.substring(i - 1, i));
+                    }
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(normalized.charAt(i))
+                        && !isJapanese(normalized.charAt(i))) {
+                    i++;
+                }
+                tokens.add(normalized.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 漢字・ひらがな・カタカナ（長音記号を含む）かどうか
+     */
+    private static boolean isJapanese(char c) {
+        Character.UnicodeBlock block = Character.UnicodeBlock.of(c);
+        return block == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS
+                || block == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS_EXTENSION_A
+                || block == Character.UnicodeBlock.CJK_COMPATIBILITY_IDEOGRAPHS
+                || block == Character.UnicodeBlock.HIRAGANA
+                || block == Character.UnicodeBlock.KATAKANA
+                || block == Character.UnicodeBlock.KATAKANA_PHONETIC_EXTENSIONS
+                || c == '々' || c == 'ー';
+    }
+}
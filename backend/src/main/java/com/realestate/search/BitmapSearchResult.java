@@ -0,0 +1,15 @@
+package com.realestate.search;
+
+import java.util.List;
+
+/**
+ * ビットマップインデックスの検索結果
+ *
+ * @param totalHits 条件に一致した物件数
+ * @param propertyIds 該当ページの物件ID（昇順）
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record BitmapSearchResult(int totalHits, List<Long> propertyIds) {
+}
@@ -0,0 +1,19 @@
+package com.realestate.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ファセット検索の結果
+ *
+ * @param totalHits 条件に一致した物件数
+ * @param counts ファセット → （ファセット値 → 件数）
+ * @param propertyIds 条件に一致した物件ID（先頭から最大limit件）
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record FacetSearchResult(int totalHits,
+                                Map<PropertyFacet, Map<String, Integer>> counts,
+                                List<Long> propertyIds) {
+}
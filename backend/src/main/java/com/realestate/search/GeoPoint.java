@@ -0,0 +1,41 @@
+package com.realestate.search;
+
+/**
+ * 緯度経度の座標
+ *
+ * 周辺検索の中心点や物件の位置を表します。
+ * 距離計算には球面上の大円距離（ハーサイン公式）を使用します。
+ *
+ * @param latitude 緯度（度）
+ * @param longitude 経度（度）
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    /**
+     * 地球の平均半径（メートル）
+     */
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    /**
+     * 緯度1度あたりの距離（メートル）
+     */
+    public static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    /**
+     * 指定座標までの距離を計算
+     * @param otherLatitude 緯度（度）
+     * @param otherLongitude 経度（度）
+     * @return 距離（メートル）
+     */
+    public double distanceMeters(double otherLatitude, double otherLongitude) {
+        double lat1 = Math.toRadians(latitude);
+        double lat2 = Math.toRadians(otherLatitude);
+        double sinHalfLat = Math.sin((lat2 - lat1) / 2);
+        double sinHalfLon = Math.sin(Math.toRadians(otherLongitude - longitude) / 2);
+        double h = sinHalfLat * sinHalfLat + Math.cos(lat1) * Math.cos(lat2) * sinHalfLon * sinHalfLon;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(h)));
+    }
+}
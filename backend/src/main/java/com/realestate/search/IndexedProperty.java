@@ -0,0 +1,56 @@
+package com.realestate.search;
+
+import com.realestate.entity.Property;
+import com.realestate.entity.Property.PropertyStatus;
+import com.realestate.entity.Property.PropertyType;
+
+import java.math.BigDecimal;
+
+/**
+ * インデックス登録用の物件情報
+ *
+ * 検索インデックスが絞り込みに使用する項目のみを保持します。
+ * 起動時の一括構築では PropertyRepository.findAllIndexEntries の
+ * JPQLコンストラクタ式で直接生成し、エンティティを読み込みません。
+ *
+ * @param id 物件ID
+ * @param latitude 緯度（未設定の場合はnull）
+ * @param longitude 経度（未設定の場合はnull）
+ * @param type 物件タイプ
+ * @param status 物件ステータス
+ * @param price 物件価格
+ * @param area 物件面積
+ * @param rooms 部屋数
+ * @param bathrooms 浴室数
+ * @param parkingSpaces 駐車場スペース数
+ * @param yearBuilt 築年
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record IndexedProperty(Long id, Double latitude, Double longitude,
+                              PropertyType type, PropertyStatus status,
+                              BigDecimal price, BigDecimal area,
+                              Integer rooms, Integer bathrooms, Integer parkingSpaces,
+                              Integer yearBuilt) {
+
+    /**
+     * 物件エンティティからインデックス登録用の情報を生成
+     * @param property 物件エンティティ
+     * @return インデックス登録用の物件情報
+     */
+    public static IndexedProperty of(Property property) {
+        return new IndexedProperty(property.getId(), property.getLatitude(), property.getLongitude(),
+                property.getType(), property.getStatus(), property.getPrice(), property.getArea(),
+                property.getRooms(), property.getBathrooms(), property.getParkingSpaces(),
+                property.getYearBuilt());
+    }
+
+    /**
+     * 座標が設定されているかどうか
+     * @return 緯度・経度の両方が設定されている場合true
+     */
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
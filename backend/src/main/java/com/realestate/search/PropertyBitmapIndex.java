@@ -0,0 +1,399 @@
+package com.realestate.search;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 物件のビットマップインデックス（圧縮ビットマップ）
+ *
+ * 物件IDをそのままビットマップの値として、タイプ・ステータスは値ごと、
+ * 数値項目は区間（バケット）ごとに該当物件のビットマップを保持します。
+ * PropertyCondition の AND・OR・NOT はビットマップの積・和・差で評価し、
+ * 範囲条件は範囲内のバケットの和と、境界のバケットのみ実値で判定して求めます。
+ * 結果は物件IDの昇順となるため、そのままページングに使用できます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class PropertyBitmapIndex implements PropertyIndexListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyBitmapIndex.class);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 登録済みの全物件
+     */
+    private final RoaringBitmap all = new RoaringBitmap();
+
+    /**
+     * 物件ID → 登録済みの物件（更新・削除時に旧値のビットを落とすため）
+     */
+    private final Map<Integer, IndexedProperty> entries = new HashMap<>();
+
+    private final Map<String, CategoryField> categoryFields = new HashMap<>();
+
+    private final Map<String, NumericField> numericFields = new HashMap<>();
+
+    public PropertyBitmapIndex() {
+        addCategory("type", property -> property.type() != null ? property.type().name() : null);
+        addCategory("status", property -> property.status() != null ? property.status().name() : null);
+        // 価格は円単位・1000万円ごと、面積は0.01平方メートル単位・10平方メートルごとに区切る
+        addNumeric("price", 0, 10_000_000L, IndexedProperty::price);
+        addNumeric("area", 2, 1_000L, IndexedProperty::area);
+        addNumeric("rooms", 0, 1L, property -> toDecimal(property.rooms()));
+        addNumeric("bathrooms", 0, 1L, property -> toDecimal(property.bathrooms()));
+        addNumeric("parkingSpaces", 0, 1L, property -> toDecimal(property.parkingSpaces()));
+        addNumeric("yearBuilt", 0, 1L, property -> toDecimal(property.yearBuilt()));
+    }
+
+    @Override
+    public void rebuild(List<IndexedProperty> properties) {
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            entries.clear();
+            categoryFields.values().forEach(CategoryField::clear);
+            numericFields.values().forEach(NumericField::clear);
+            for (IndexedProperty property : properties) {
+                addInternal(property);
+            }
+            all.runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("物件のビットマップインデックスを構築しました: {}件", properties.size());
+    }
+
+    @Override
+    public void upsert(IndexedProperty property) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(property.id());
+            addInternal(property);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 条件式に一致する物件を物件IDの昇順でページ単位に取得
+     * @param condition 条件式（nullの場合は全物件）
+     * @param offset 先頭からの読み飛ばし件数
+     * @param limit 最大件数
+     * @return 一致件数と該当ページの物件ID
+     * @throws IllegalArgumentException 条件式に未対応の項目・値が含まれる場合
+     */
+    public BitmapSearchResult search(PropertyCondition condition, int offset, int limit) {
+        RoaringBitmap matching;
+        lock.readLock().lock();
+        try {
+            matching = evaluate(condition);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int total = matching.getCardinality();
+        List<Long> ids = new ArrayList<>(Math.max(0, Math.min(limit, total - offset)));
+        if (offset < total && limit > 0) {
+            PeekableIntIterator iterator = matching.getIntIterator();
+            iterator.advanceIfNeeded(matching.select(offset));
+            while (iterator.hasNext() && ids.size() < limit) {
+                ids.add((long) iterator.next());
+            }
+        }
+        return new BitmapSearchResult(total, ids);
+    }
+
+    /**
+     * 条件式をビットマップ演算で評価（常に新しいビットマップを返す）
+     */
+    private RoaringBitmap evaluate(PropertyCondition condition) {
+        RoaringBitmap result = all.clone();
+        if (condition == null) {
+            return result;
+        }
+        if (condition.getField() != null) {
+            result.and(evaluateField(condition));
+        }
+        if (condition.getAll() != null) {
+            for (PropertyCondition child : condition.getAll()) {
+                result.and(evaluate(child));
+            }
+        }
+        if (condition.getAny() != null && !condition.getAny().isEmpty()) {
+            RoaringBitmap[] children = new RoaringBitmap[condition.getAny().size()];
+            for (int i = 0; i < children.length; i++) {
+                children[i] = evaluate(condition.getAny().get(i));
+            }
+            result.and(FastAggregation.or(children));
+        }
+        if (condition.getNot() != null) {
+            result.andNot(evaluate(condition.getNot()));
+        }
+        return result;
+    }
+
+    private RoaringBitmap evaluateField(PropertyCondition condition) {
+        String field = condition.getField();
+        CategoryField category = categoryFields.get(field);
+        if (category != null) {
+            if (condition.getGte() != null || condition.getLte() != null) {
+                throw new IllegalArgumentException("範囲条件は数値項目にのみ指定できます: " + field);
+            }
+            return category.matchAny(condition.getIn());
+        }
+        NumericField numeric = numericFields.get(field);
+        if (numeric == null) {
+            throw new IllegalArgumentException("未対応の項目です: " + field);
+        }
+        RoaringBitmap result = numeric.range(condition.getGte(), condition.getLte());
+        if (condition.getIn() != null) {
+            RoaringBitmap[] values = new RoaringBitmap[condition.getIn().size()];
+            for (int i = 0; i < values.length; i++) {
+                BigDecimal value = parseNumber(field, condition.getIn().get(i));
+                values[i] = numeric.range(value, value);
+            }
+            result.and(FastAggregation.or(values));
+        }
+        return result;
+    }
+
+    private void addInternal(IndexedProperty property) {
+        int doc = toDocument(property.id());
+        entries.put(doc, property);
+        all.add(doc);
+        categoryFields.values().forEach(field -> field.add(doc, property));
+        numericFields.values().forEach(field -> field.add(doc, property));
+    }
+
+    private void removeInternal(Long propertyId) {
+        int doc = toDocument(propertyId);
+        IndexedProperty previous = entries.remove(doc);
+        if (previous == null) {
+            return;
+        }
+        all.remove(doc);
+        categoryFields.values().forEach(field -> field.remove(doc, previous));
+        numericFields.values().forEach(field -> field.remove(doc, previous));
+    }
+
+    private void addCategory(String name, Function<IndexedProperty, String> accessor) {
+        categoryFields.put(name, new CategoryField(accessor));
+    }
+
+    private void addNumeric(String name, int scale, long bucketWidth, Function<IndexedProperty, BigDecimal> accessor) {
+        numericFields.put(name, new NumericField(scale, bucketWidth, accessor));
+    }
+
+    private static int toDocument(Long propertyId) {
+        if (propertyId == null || propertyId < 0 || propertyId > Integer.MAX_VALUE) {
+            throw new IllegalStateException("ビットマップインデックスに登録できない物件IDです: " + propertyId);
+        }
+        return propertyId.intValue();
+    }
+
+    private static BigDecimal toDecimal(Integer value) {
+        return value != null ? BigDecimal.valueOf(value) : null;
+    }
+
+    private static BigDecimal parseNumber(String field, String value) {
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("数値ではありません: " + field + "=" + value, e);
+        }
+    }
+
+    /**
+     * 値ごとのビットマップを持つ項目（タイプ・ステータス）
+     */
+    private static final class CategoryField {
+
+        private final Function<IndexedProperty, String> accessor;
+
+        private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+
+        private CategoryField(Function<IndexedProperty, String> accessor) {
+            this.accessor = accessor;
+        }
+
+        private void clear() {
+            bitmaps.clear();
+        }
+
+        private void add(int doc, IndexedProperty property) {
+            String value = accessor.apply(property);
+            if (value != null) {
+                bitmaps.computeIfAbsent(value, key -> new RoaringBitmap()).add(doc);
+            }
+        }
+
+        private void remove(int doc, IndexedProperty property) {
+            String value = accessor.apply(property);
+            RoaringBitmap bitmap = value != null ? bitmaps.get(value) : null;
+            if (bitmap != null) {
+                bitmap.remove(doc);
+            }
+        }
+
+        private RoaringBitmap matchAny(List<String> values) {
+            if (values == null || values.isEmpty()) {
+                throw new IllegalArgumentException("値（in）を指定してください");
+            }
+            List<RoaringBitmap> matched = new ArrayList<>(values.size());
+            for (String value : values) {
+                RoaringBitmap bitmap = bitmaps.get(value);
+                if (bitmap != null) {
+                    matched.add(bitmap);
+                }
+            }
+            return matched.isEmpty() ? new RoaringBitmap() : FastAggregation.or(matched.iterator());
+        }
+    }
+
+    /**
+     * 区間（バケット）ごとのビットマップを持つ数値項目
+     */
+    private static final class NumericField {
+
+        private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+
+        private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+        /**
+         * 内部表現の小数点以下桁数（値 × 10^scale を整数で保持）
+         */
+        private final int scale;
+
+        /**
+         * バケット幅（内部表現の単位）
+         */
+        private final long bucketWidth;
+
+        private final Function<IndexedProperty, BigDecimal> accessor;
+
+        /**
+         * バケット番号 → 該当物件
+         */
+        private final NavigableMap<Long, RoaringBitmap> buckets = new TreeMap<>();
+
+        /**
+         * 物件ID → 内部表現の値（境界バケットの判定用、バケット幅1の項目では不要）
+         */
+        private final Map<Integer, Long> values = new HashMap<>();
+
+        private NumericField(int scale, long bucketWidth, Function<IndexedProperty, BigDecimal> accessor) {
+            this.scale = scale;
+            this.bucketWidth = bucketWidth;
+            this.accessor = accessor;
+        }
+
+        private void clear() {
+            buckets.clear();
+            values.clear();
+        }
+
+        private void add(int doc, IndexedProperty property) {
+            BigDecimal value = accessor.apply(property);
+            if (value == null) {
+                return;
+            }
+            long units = units(value, RoundingMode.FLOOR);
+            buckets.computeIfAbsent(Math.floorDiv(units, bucketWidth), key -> new RoaringBitmap()).add(doc);
+            if (bucketWidth > 1) {
+                values.put(doc, units);
+            }
+        }
+
+        private void remove(int doc, IndexedProperty property) {
+            BigDecimal value = accessor.apply(property);
+            if (value == null) {
+                return;
+            }
+            long units = units(value, RoundingMode.FLOOR);
+            RoaringBitmap bucket = buckets.get(Math.floorDiv(units, bucketWidth));
+            if (bucket != null) {
+                bucket.remove(doc);
+            }
+            values.remove(doc);
+        }
+
+        /**
+         * 内部表現の値（小数点以下scale桁の整数。longの範囲外はlongの最小値・最大値に丸める）
+         */
+        private long units(BigDecimal value, RoundingMode roundingMode) {
+            BigDecimal units = value.movePointRight(scale).setScale(0, roundingMode);
+            if (units.compareTo(LONG_MIN) < 0) {
+                return Long.MIN_VALUE;
+            }
+            if (units.compareTo(LONG_MAX) > 0) {
+                return Long.MAX_VALUE;
+            }
+            return units.longValue();
+        }
+
+        /**
+         * 下限以上・上限以下の物件（nullの境界は無制限）
+         */
+        private RoaringBitmap range(BigDecimal gte, BigDecimal lte) {
+            long lower = gte != null ? units(gte, RoundingMode.CEILING) : Long.MIN_VALUE;
+            long upper = lte != null ? units(lte, RoundingMode.FLOOR) : Long.MAX_VALUE;
+            if (lower > upper) {
+                return new RoaringBitmap();
+            }
+            long lowerBucket = Math.floorDiv(lower, bucketWidth);
+            long upperBucket = Math.floorDiv(upper, bucketWidth);
+
+            List<RoaringBitmap> parts = new ArrayList<>();
+            for (Map.Entry<Long, RoaringBitmap> bucket : buckets.subMap(lowerBucket, true, upperBucket, true).entrySet()) {
+                long key = bucket.getKey();
+                boolean boundary = bucketWidth > 1 && (key == lowerBucket || key == upperBucket);
+                parts.add(boundary ? filterExact(bucket.getValue(), lower, upper) : bucket.getValue());
+            }
+            return parts.isEmpty() ? new RoaringBitmap() : FastAggregation.or(parts.iterator());
+        }
+
+        /**
+         * 境界バケットの物件を実値で判定
+         */
+        private RoaringBitmap filterExact(RoaringBitmap bucket, long lower, long upper) {
+            RoaringBitmap filtered = new RoaringBitmap();
+            bucket.forEach((int doc) -> {
+                long value = values.get(doc);
+                if (value >= lower && value <= upper) {
+                    filtered.add(doc);
+                }
+            });
+            return filtered;
+        }
+    }
+}
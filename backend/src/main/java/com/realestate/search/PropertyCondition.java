@@ -0,0 +1,68 @@
+package com.realestate.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 物件の絞り込み条件式（ビットマップインデックス用）
+ *
+ * AND・OR・NOTを入れ子にした任意の条件を表します。1つの条件に複数の要素を指定した場合は
+ * すべてを満たす物件（AND）が対象となり、何も指定しない条件は全物件に一致します。
+ *
+ * 例: 部屋数3以上 かつ 駐車場1台以上 かつ（マンション または 一戸建て）
+ * <pre>
+ * {"all": [
+ *   {"field": "rooms", "gte": 3},
+ *   {"field": "parkingSpaces", "gte": 1},
+ *   {"field": "type", "in": ["APARTMENT", "HOUSE"]}
+ * ]}
+ * </pre>
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyCondition {
+
+    /**
+     * すべてを満たす条件（AND）
+     */
+    private List<PropertyCondition> all;
+
+    /**
+     * いずれかを満たす条件（OR）
+     */
+    private List<PropertyCondition> any;
+
+    /**
+     * 満たさない条件（NOT）
+     */
+    private PropertyCondition not;
+
+    /**
+     * 項目名（type, status, price, area, rooms, bathrooms, parkingSpaces, yearBuilt）
+     */
+    private String field;
+
+    /**
+     * いずれかに一致する値
+     */
+    private List<String> in;
+
+    /**
+     * 下限（この値以上）
+     */
+    private BigDecimal gte;
+
+    /**
+     * 上限（この値以下）
+     */
+    private BigDecimal lte;
+}
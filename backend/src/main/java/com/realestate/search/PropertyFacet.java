@@ -0,0 +1,164 @@
+package com.realestate.search;
+
+import com.realestate.entity.Property.PropertyStatus;
+import com.realestate.entity.Property.PropertyType;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+
+/**
+ * 物件検索のファセット定義
+ *
+ * 各ファセットは物件を1つの値（タイプ名・価格帯など）に分類します。
+ * 価格・面積は帯（下限-上限）、部屋数は5部屋以上をまとめ、築年は年代に丸めます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public enum PropertyFacet {
+
+    /** 物件タイプ */
+    TYPE("type") {
+        @Override
+        public String valueOf(IndexedProperty property) {
+            return property.type() != null ? property.type().name() : null;
+        }
+
+        @Override
+        public Comparator<String> order() {
+            return Comparator.comparing(PropertyType::valueOf);
+        }
+    },
+
+    /** 物件ステータス */
+    STATUS("status") {
+        @Override
+        public String valueOf(IndexedProperty property) {
+            return property.status() != null ? property.status().name() : null;
+        }
+
+        @Override
+        public Comparator<String> order() {
+            return Comparator.comparing(PropertyStatus::valueOf);
+        }
+    },
+
+    /** 価格帯（円） */
+    PRICE_BAND("priceBand") {
+        @Override
+        public String valueOf(IndexedProperty property) {
+            return band(property.price(), PRICE_BAND_BOUNDS);
+        }
+    },
+
+    /** 面積帯（平方メートル） */
+    AREA_BAND("areaBand") {
+        @Override
+        public String valueOf(IndexedProperty property) {
+            return band(property.area(), AREA_BAND_BOUNDS);
+        }
+    },
+
+    /** 部屋数 */
+    ROOMS("rooms") {
+        @Override
+        public String valueOf(IndexedProperty property) {
+            if (property.rooms() == null) {
+                return null;
+            }
+            return property.rooms() >= MAX_ROOMS ? MAX_ROOMS + "+" : String.valueOf(property.rooms());
+        }
+    },
+
+    /** 築年の年代（例: 2010s） */
+    YEAR_BUILT_DECADE("yearBuiltDecade") {
+        @Override
+        public String valueOf(IndexedProperty property) {
+            return property.yearBuilt() != null ? (property.yearBuilt() / 10 * 10) + "s" : null;
+        }
+    };
+
+    /**
+     * 価格帯の境界（円）
+     */
+    private static final long[] PRICE_BAND_BOUNDS = {30_000_000L, 50_000_000L, 100_000_000L, 200_000_000L};
+
+    /**
+     * 面積帯の境界（平方メートル）
+     */
+    private static final long[] AREA_BAND_BOUNDS = {30L, 60L, 100L, 200L};
+
+    /**
+     * 部屋数ファセットで個別に集計する上限（これ以上は「5+」にまとめる）
+     */
+    private static final int MAX_ROOMS = 5;
+
+    private final String parameterName;
+
+    PropertyFacet(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    /**
+     * リクエストパラメータ・レスポンスで使用するファセット名
+     * @return ファセット名
+     */
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * 物件のファセット値を取得
+     * @param property インデックス登録用の物件情報
+     * @return ファセット値（対象項目が未設定の場合はnull）
+     */
+    public abstract String valueOf(IndexedProperty property);
+
+    /**
+     * ファセット値の表示順
+     * @return 比較器（既定は先頭の数値の昇順）
+     */
+    public Comparator<String> order() {
+        return Comparator.comparingLong(PropertyFacet::leadingNumber).thenComparing(Comparator.naturalOrder());
+    }
+
+    /**
+     * パラメータ名からファセットを取得
+     * @param parameterName パラメータ名
+     * @return ファセット（該当しない場合はnull）
+     */
+    public static PropertyFacet fromParameterName(String parameterName) {
+        for (PropertyFacet facet : values()) {
+            if (facet.parameterName.equals(parameterName)) {
+                return facet;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 値を「下限-上限」形式の帯に分類（最上位の帯は「下限-」）
+     */
+    private static String band(BigDecimal value, long[] bounds) {
+        if (value == null) {
+            return null;
+        }
+        long lower = 0;
+        for (long upper : bounds) {
+            if (value.compareTo(BigDecimal.valueOf(upper)) < 0) {
+                return lower + "-" + upper;
+            }
+            lower = upper;
+        }
+        return lower + "-";
+    }
+
+    private static long leadingNumber(String value) {
+        int end = 0;
+        while (end < value.length() && Character.isDigit(value.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? Long.MAX_VALUE : Long.parseLong(value.substring(0, end));
+    }
+}
@@ -0,0 +1,298 @@
+package com.realestate.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 物件のファセットインデックス
+ *
+ * 物件ごとに連番の文書番号を割り当て、ファセット値ごとに該当文書のビットセットを保持します。
+ * 絞り込みは選択されたファセット値のビットセットの論理演算（同一ファセット内はOR、ファセット間はAND）で求め、
+ * 全ファセットの件数は一致した文書を1回走査して、文書番号 → ファセット値番号の配列から集計します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class PropertyFacetIndex implements PropertyIndexListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyFacetIndex.class);
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * ファセット値が未設定の文書を表す値番号
+     */
+    private static final int NO_VALUE = -1;
+
+    private static final PropertyFacet[] FACETS = PropertyFacet.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 物件ID → 文書番号
+     */
+    private final Map<Long, Integer> documents = new HashMap<>();
+
+    /**
+     * 文書番号 → 物件ID
+     */
+    private long[] propertyIds = new long[INITIAL_CAPACITY];
+
+    /**
+     * 登録済みの文書番号
+     */
+    private final BitSet live = new BitSet();
+
+    /**
+     * 削除により空いた文書番号（再利用）
+     */
+    private final Deque<Integer> freeDocuments = new ArrayDeque<>();
+
+    private int nextDocument;
+
+    private final FacetField[] fields = new FacetField[FACETS.length];
+
+    public PropertyFacetIndex() {
+        for (PropertyFacet facet : FACETS) {
+            fields[facet.ordinal()] = new FacetField(facet, INITIAL_CAPACITY);
+        }
+    }
+
+    @Override
+    public void rebuild(List<IndexedProperty> properties) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            live.clear();
+            freeDocuments.clear();
+            nextDocument = 0;
+            propertyIds = new long[Math.max(INITIAL_CAPACITY, properties.size())];
+            for (FacetField field : fields) {
+                field.clear(propertyIds.length);
+            }
+            for (IndexedProperty property : properties) {
+                addInternal(property);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("物件のファセットインデックスを構築しました: {}件", properties.size());
+    }
+
+    @Override
+    public void upsert(IndexedProperty property) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(property.id());
+            addInternal(property);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ファセット値で絞り込み、全ファセットの件数を集計
+     * @param selections ファセット → 選択された値（同一ファセット内はOR、ファセット間はAND）
+     * @param limit 返却する物件IDの最大件数
+     * @return 検索結果（物件IDは文書番号順）
+     */
+    public FacetSearchResult search(Map<PropertyFacet, Set<String>> selections, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matching = (BitSet) live.clone();
+            for (Map.Entry<PropertyFacet, Set<String>> selection : selections.entrySet()) {
+                if (selection.getValue() == null || selection.getValue().isEmpty()) {
+                    continue;
+                }
+                matching.and(fields[selection.getKey().ordinal()].union(selection.getValue()));
+            }
+
+            // 一致した文書を1回走査して全ファセットの件数を集計
+            int[][] counts = new int[fields.length][];
+            for (int f = 0; f < fields.length; f++) {
+                counts[f] = new int[fields[f].values.size()];
+            }
+            List<Long> ids = new ArrayList<>(Math.min(limit, matching.cardinality()));
+            int totalHits = 0;
+            for (int doc = matching.nextSetBit(0); doc >= 0; doc = matching.nextSetBit(doc + 1)) {
+                totalHits++;
+                for (int f = 0; f < fields.length; f++) {
+                    int value = fields[f].documentValues[doc];
+                    if (value != NO_VALUE) {
+                        counts[f][value]++;
+                    }
+                }
+                if (ids.size() < limit) {
+                    ids.add(propertyIds[doc]);
+                }
+            }
+
+            Map<PropertyFacet, Map<String, Integer>> facetCounts = new EnumMap<>(PropertyFacet.class);
+            for (int f = 0; f < fields.length; f++) {
+                facetCounts.put(FACETS[f], fields[f].toSortedCounts(counts[f]));
+            }
+            return new FacetSearchResult(totalHits, facetCounts, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(IndexedProperty property) {
+        int doc = freeDocuments.isEmpty() ? nextDocument++ : freeDocuments.poll();
+        if (doc >= propertyIds.length) {
+            int capacity = propertyIds.length * 2;
+            propertyIds = Arrays.copyOf(propertyIds, capacity);
+            for (FacetField field : fields) {
+                field.grow(capacity);
+            }
+        }
+        propertyIds[doc] = property.id();
+        documents.put(property.id(), doc);
+        live.set(doc);
+        for (FacetField field : fields) {
+            field.add(doc, field.facet.valueOf(property));
+        }
+    }
+
+    private void removeInternal(Long propertyId) {
+        Integer doc = documents.remove(propertyId);
+        if (doc == null) {
+            return;
+        }
+        live.clear(doc);
+        for (FacetField field : fields) {
+            field.remove(doc);
+        }
+        freeDocuments.push(doc);
+    }
+
+    /**
+     * 1ファセット分の値辞書・ビットセット・文書ごとの値番号
+     */
+    private static final class FacetField {
+
+        private final PropertyFacet facet;
+
+        /**
+         * ファセット値 → 値番号
+         */
+        private final Map<String, Integer> ordinals = new HashMap<>();
+
+        /**
+         * 値番号 → ファセット値
+         */
+        private final List<String> values = new ArrayList<>();
+
+        /**
+         * 値番号 → 該当文書のビットセット
+         */
+        private final List<BitSet> postings = new ArrayList<>();
+
+        /**
+         * 文書番号 → 値番号
+         */
+        private int[] documentValues;
+
+        private FacetField(PropertyFacet facet, int capacity) {
+            this.facet = facet;
+            clear(capacity);
+        }
+
+        private void clear(int capacity) {
+            ordinals.clear();
+            values.clear();
+            postings.clear();
+            documentValues = new int[capacity];
+            Arrays.fill(documentValues, NO_VALUE);
+        }
+
+        private void grow(int capacity) {
+            int previous = documentValues.length;
+            documentValues = Arrays.copyOf(documentValues, capacity);
+            Arrays.fill(documentValues, previous, capacity, NO_VALUE);
+        }
+
+        private void add(int doc, String value) {
+            if (value == null) {
+                documentValues[doc] = NO_VALUE;
+                return;
+            }
+            Integer ordinal = ordinals.get(value);
+            if (ordinal == null) {
+                ordinal = values.size();
+                ordinals.put(value, ordinal);
+                values.add(value);
+                postings.add(new BitSet());
+            }
+            postings.get(ordinal).set(doc);
+            documentValues[doc] = ordinal;
+        }
+
+        private void remove(int doc) {
+            int ordinal = documentValues[doc];
+            if (ordinal != NO_VALUE) {
+                postings.get(ordinal).clear(doc);
+                documentValues[doc] = NO_VALUE;
+            }
+        }
+
+        /**
+         * 選択された値のビットセットの和集合
+         */
+        private BitSet union(Set<String> selected) {
+            BitSet union = new BitSet();
+            for (String value : selected) {
+                Integer ordinal = ordinals.get(value);
+                if (ordinal != null) {
+                    union.or(postings.get(ordinal));
+                }
+            }
+            return union;
+        }
+
+        /**
+         * 件数が1件以上の値を表示順に並べた集計結果
+         */
+        private Map<String, Integer> toSortedCounts(int[] counts) {
+            List<String> present = new ArrayList<>();
+            for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+                if (counts[ordinal] > 0) {
+                    present.add(values.get(ordinal));
+                }
+            }
+            present.sort(facet.order());
+            Map<String, Integer> sorted = new LinkedHashMap<>();
+            for (String value : present) {
+                sorted.put(value, counts[ordinals.get(value)]);
+            }
+            return sorted;
+        }
+    }
+}
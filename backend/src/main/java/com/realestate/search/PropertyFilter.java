@@ -0,0 +1,59 @@
+package com.realestate.search;
+
+import com.realestate.entity.Property.PropertyStatus;
+import com.realestate.entity.Property.PropertyType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 物件の絞り込み条件
+ *
+ * 既存の複数条件検索（タイプ・ステータス・価格・面積）と同じ条件を
+ * インデックス上で評価するためのクラスです。nullの項目は条件に含めません。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyFilter {
+
+    private PropertyType type;
+    private PropertyStatus status;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private BigDecimal minArea;
+    private BigDecimal maxArea;
+
+    /**
+     * 物件が条件に一致するかどうかを判定
+     * @param property インデックス登録済みの物件情報
+     * @return 一致する場合true
+     */
+    public boolean matches(IndexedProperty property) {
+        if (type != null && type != property.type()) {
+            return false;
+        }
+        if (status != null && status != property.status()) {
+            return false;
+        }
+        return inRange(property.price(), minPrice, maxPrice)
+                && inRange(property.area(), minArea, maxArea);
+    }
+
+    private static boolean inRange(BigDecimal value, BigDecimal min, BigDecimal max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        if (value == null) {
+            return false;
+        }
+        return (min == null || value.compareTo(min) >= 0)
+                && (max == null || value.compareTo(max) <= 0);
+    }
+}
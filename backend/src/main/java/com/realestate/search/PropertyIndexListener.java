@@ -0,0 +1,34 @@
+package com.realestate.search;
+
+import java.util.List;
+
+/**
+ * 物件検索インデックスの更新通知インターフェース
+ *
+ * メモリ上の検索インデックスはこのインターフェースを実装し、
+ * PropertyIndexRegistry から一括構築・差分更新の通知を受け取ります。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public interface PropertyIndexListener {
+
+    /**
+     * 全物件からインデックスを再構築
+     * @param properties 全物件のインデックス登録用情報
+     */
+    void rebuild(List<IndexedProperty> properties);
+
+    /**
+     * 物件を登録または更新
+     * @param property インデックス登録用の物件情報
+     */
+    void upsert(IndexedProperty property);
+
+    /**
+     * 物件を削除
+     * @param propertyId 物件ID
+     */
+    void remove(Long propertyId);
+}
@@ -0,0 +1,98 @@
+package com.realestate.search;
+
+import com.realestate.entity.Property;
+import com.realestate.repository.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 物件検索インデックスの管理クラス
+ *
+ * 起動完了時に物件を一度だけ読み込んで全インデックス（属性インデックスと全文検索インデックス）を構築し、
+ * PropertyService からの作成・更新・削除を各インデックスへ通知します。
+ * 物件説明は件数が多いとメモリを圧迫するため、全文検索インデックスにはストリームで読み込みます。
+ * トランザクション内の変更はコミット後に通知するため、ロールバックされた変更は反映されません。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyIndexRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyIndexRegistry.class);
+
+    private final PropertyRepository propertyRepository;
+
+    /**
+     * 登録済みの検索インデックス
+     */
+    private final List<PropertyIndexListener> listeners;
+
+    /**
+     * 全文検索インデックス
+     */
+    private final PropertyTextIndex textIndex;
+
+    /**
+     * 入力補完インデックス（物件名）
+     */
+    private final AutocompleteIndex autocompleteIndex;
+
+    /**
+     * データベースの全物件から全インデックスを再構築
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildAll() {
+        long start = System.nanoTime();
+        List<IndexedProperty> properties = propertyRepository.findAllIndexEntries();
+        for (PropertyIndexListener listener : listeners) {
+            listener.rebuild(properties);
+        }
+        try (Stream<PropertyText> texts = propertyRepository.streamAllTextEntries()) {
+            textIndex.rebuild(texts);
+        }
+        log.info("物件検索インデックスを構築しました: {}件, {}インデックス, {}ms",
+                properties.size(), listeners.size() + 1, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 作成・更新された物件を全インデックスに反映
+     * @param property 保存済みの物件エンティティ
+     */
+    public void propertySaved(Property property) {
+        IndexedProperty entry = IndexedProperty.of(property);
+        PropertyText text = PropertyText.of(property);
+        AfterCommit.run(() -> {
+            for (PropertyIndexListener listener : listeners) {
+                listener.upsert(entry);
+            }
+            textIndex.upsert(text);
+        });
+        autocompleteIndex.propertySaved(property);
+    }
+
+    /**
+     * 削除された物件を全インデックスから除外
+     * @param propertyId 物件ID
+     */
+    public void propertyDeleted(Long propertyId) {
+        AfterCommit.run(() -> {
+            for (PropertyIndexListener listener : listeners) {
+                listener.remove(propertyId);
+            }
+            textIndex.remove(propertyId);
+        });
+        autocompleteIndex.deleted(SuggestionType.PROPERTY, propertyId);
+    }
+}
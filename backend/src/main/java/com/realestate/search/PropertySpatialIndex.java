@@ -0,0 +1,262 @@
+package com.realestate.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 物件の空間インデックス（緯度経度グリッド）
+ *
+ * 座標を持つ物件を固定サイズ（0.01度四方、東京付近で約1.1km×0.9km）のセルに分類して
+ * メモリ上に保持します。半径検索・矩形検索では検索範囲に重なるセルのみを走査するため、
+ * 物件数が増えても走査件数は検索範囲内の物件数に比例します。
+ *
+ * PropertyIndexRegistry から起動完了時に一括構築され、以降は物件の
+ * 作成・更新・削除に合わせて差分更新されます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class PropertySpatialIndex implements PropertyIndexListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertySpatialIndex.class);
+
+    /**
+     * セルの大きさ（度）
+     */
+    static final double CELL_DEGREES = 0.01;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * セルキー → セル内の物件
+     */
+    private Map<Long, List<IndexedProperty>> cells = new HashMap<>();
+
+    /**
+     * 物件ID → 登録済みの物件（更新・削除時のセル特定用）
+     */
+    private Map<Long, IndexedProperty> entries = new HashMap<>();
+
+    @Override
+    public void rebuild(List<IndexedProperty> properties) {
+        Map<Long, List<IndexedProperty>> newCells = new HashMap<>();
+        Map<Long, IndexedProperty> newEntries = new HashMap<>(properties.size() * 2);
+        for (IndexedProperty property : properties) {
+            if (property.hasLocation()) {
+                newCells.computeIfAbsent(cellKeyOf(property), key -> new ArrayList<>()).add(property);
+                newEntries.put(property.id(), property);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            cells = newCells;
+            entries = newEntries;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("物件の空間インデックスを構築しました: {}件, {}セル", newEntries.size(), newCells.size());
+    }
+
+    /**
+     * 物件を登録または更新（座標がない場合はインデックスから除外）
+     * @param property インデックス登録用の物件情報
+     */
+    @Override
+    public void upsert(IndexedProperty property) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(property.id());
+            if (property.hasLocation()) {
+                cells.computeIfAbsent(cellKeyOf(property), key -> new ArrayList<>()).add(property);
+                entries.put(property.id(), property);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 物件をインデックスから削除
+     * @param propertyId 物件ID
+     */
+    @Override
+    public void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 中心点から指定半径内の物件を距離の近い順に検索
+     * @param center 中心点
+     * @param radiusMeters 半径（メートル）
+     * @param filter 絞り込み条件
+     * @param limit 最大件数
+     * @return 検索結果（距離の昇順）
+     */
+    public List<SpatialHit> withinRadius(GeoPoint center, double radiusMeters, PropertyFilter filter, int limit) {
+        double latDelta = radiusMeters / GeoPoint.METERS_PER_DEGREE;
+        double cosLat = Math.max(Math.cos(Math.toRadians(center.latitude())), 1e-6);
+        double lonDelta = latDelta / cosLat;
+        return search(center,
+                center.latitude() - latDelta, center.longitude() - lonDelta,
+                center.latitude() + latDelta, center.longitude() + lonDelta,
+                radiusMeters, filter, limit);
+    }
+
+    /**
+     * 矩形範囲内の物件を矩形の中心から近い順に検索
+     * @param minLatitude 南端の緯度
+     * @param minLongitude 西端の経度
+     * @param maxLatitude 北端の緯度
+     * @param maxLongitude 東端の経度
+     * @param filter 絞り込み条件
+     * @param limit 最大件数
+     * @return 検索結果（矩形の中心からの距離の昇順）
+     */
+    public List<SpatialHit> withinBox(double minLatitude, double minLongitude,
+                                      double maxLatitude, double maxLongitude,
+                                      PropertyFilter filter, int limit) {
+        GeoPoint center = new GeoPoint((minLatitude + maxLatitude) / 2, (minLongitude + maxLongitude) / 2);
+        return search(center, minLatitude, minLongitude, maxLatitude, maxLongitude,
+                Double.POSITIVE_INFINITY, filter, limit);
+    }
+
+    /**
+     * インデックス登録済みの物件数
+     * @return 物件数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 矩形範囲に重なるセルを走査し、条件に一致する物件を近い順に最大limit件返す
+     */
+    private List<SpatialHit> search(GeoPoint center,
+                                    double minLatitude, double minLongitude,
+                                    double maxLatitude, double maxLongitude,
+                                    double radiusMeters, PropertyFilter filter, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        // 距離の降順ヒープで上位limit件のみ保持
+        PriorityQueue<SpatialHit> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(SpatialHit::distanceMeters).reversed());
+
+        int minRow = row(minLatitude);
+        int maxRow = row(maxLatitude);
+        int minCol = column(minLongitude);
+        int maxCol = column(maxLongitude);
+        long cellsInRange = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+        lock.readLock().lock();
+        try {
+            if (cellsInRange > cells.size()) {
+                // 検索範囲が広い場合は空セルを数えずに登録済みセルのみ走査
+                for (Map.Entry<Long, List<IndexedProperty>> cell : cells.entrySet()) {
+                    int row = (int) (cell.getKey() >> 32);
+                    int col = (int) (long) cell.getKey();
+                    if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                        collect(cell.getValue(), center, minLatitude, minLongitude, maxLatitude, maxLongitude,
+                                radiusMeters, filter, limit, nearest);
+                    }
+                }
+            } else {
+                for (int row = minRow; row <= maxRow; row++) {
+                    for (int col = minCol; col <= maxCol; col++) {
+                        List<IndexedProperty> cell = cells.get(cellKey(row, col));
+                        if (cell != null) {
+                            collect(cell, center, minLatitude, minLongitude, maxLatitude, maxLongitude,
+                                    radiusMeters, filter, limit, nearest);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SpatialHit> hits = new ArrayList<>(nearest);
+        hits.sort(Comparator.comparingDouble(SpatialHit::distanceMeters));
+        return hits;
+    }
+
+    private void collect(List<IndexedProperty> cell, GeoPoint center,
+                         double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                         double radiusMeters, PropertyFilter filter, int limit, PriorityQueue<SpatialHit> nearest) {
+        for (IndexedProperty property : cell) {
+            double lat = property.latitude();
+            double lon = property.longitude();
+            if (lat < minLatitude || lat > maxLatitude || lon < minLongitude || lon > maxLongitude) {
+                continue;
+            }
+            double distance = center.distanceMeters(lat, lon);
+            if (distance > radiusMeters) {
+                continue;
+            }
+            if (nearest.size() >= limit && distance >= nearest.peek().distanceMeters()) {
+                continue;
+            }
+            if (filter != null && !filter.matches(property)) {
+                continue;
+            }
+            nearest.add(new SpatialHit(property.id(), distance));
+            if (nearest.size() > limit) {
+                nearest.poll();
+            }
+        }
+    }
+
+    private void removeInternal(Long propertyId) {
+        IndexedProperty previous = entries.remove(propertyId);
+        if (previous == null) {
+            return;
+        }
+        long key = cellKeyOf(previous);
+        List<IndexedProperty> cell = cells.get(key);
+        if (cell != null) {
+            cell.removeIf(property -> property.id().equals(propertyId));
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static long cellKeyOf(IndexedProperty property) {
+        return cellKey(row(property.latitude()), column(property.longitude()));
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((Math.max(-90.0, Math.min(90.0, latitude)) + 90.0) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor((Math.max(-180.0, Math.min(180.0, longitude)) + 180.0) / CELL_DEGREES);
+    }
+}
@@ -0,0 +1,30 @@
+package com.realestate.search;
+
+import com.realestate.entity.Property;
+
+/**
+ * 全文検索インデックス登録用の物件テキスト
+ *
+ * 起動時の一括構築では PropertyRepository.streamAllTextEntries の
+ * JPQLコンストラクタ式で直接生成します。
+ *
+ * @param id 物件ID
+ * @param name 物件名
+ * @param address 住所
+ * @param description 物件説明
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record PropertyText(Long id, String name, String address, String description) {
+
+    /**
+     * 物件エンティティから全文検索インデックス登録用の情報を生成
+     * @param property 物件エンティティ
+     * @return 全文検索インデックス登録用の物件テキスト
+     */
+    public static PropertyText of(Property property) {
+        return new PropertyText(property.getId(), property.getName(), property.getAddress(),
+                property.getDescription());
+    }
+}
@@ -0,0 +1,445 @@
+package com.realestate.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 物件の全文検索インデックス（バイグラム転置インデックス・BM25）
+ *
+ * 物件名・住所・物件説明を BigramTokenizer で分割し、トークンごとに出現文書と
+ * フィールド別の出現回数を保持します。検索は全トークンを含む物件を対象に、
+ * フィールドの重み付きBM25（物件名3・住所2・説明1）でスコアを計算し、
+ * 上位K件のみをヒープで保持して返します。スコアは転置リストが最も短い検索語のトークンを含む文書についてのみ
+ * 累積するため、1回の検索で確保する領域は物件数ではなく一致した文書数に比例します。
+ * 1文字の日本語・英数字の単語の検索語は、その語で始まる全トークンのいずれかを含む物件に一致します
+ * （トークン辞書を整列して保持し、前方一致の範囲を走査）。
+ *
+ * 差分更新のため文書ごとにトークンと転置リスト上の位置（前方インデックス）を保持し、
+ * 削除は転置リストの末尾要素との入れ替えで行います。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class PropertyTextIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyTextIndex.class);
+
+    /**
+     * BM25の出現回数飽和パラメータ
+     */
+    static final float K1 = 1.2f;
+
+    /**
+     * BM25の文書長正規化パラメータ
+     */
+    static final float B = 0.75f;
+
+    /**
+     * フィールド（物件名・住所・物件説明）の重み
+     */
+    private static final float[] FIELD_WEIGHTS = {3.0f, 2.0f, 1.0f};
+
+    private static final int FIELD_COUNT = FIELD_WEIGHTS.length;
+
+    /**
+     * フィールド別出現回数のパック形式: 物件名8bit・住所8bit・物件説明16bit（上限で飽和）
+     */
+    private static final int[] FIELD_SHIFTS = {24, 16, 0};
+
+    private static final int[] FIELD_MAX = {0xFF, 0xFF, 0xFFFF};
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * トークン → トークン番号（前方一致で走査するため整列）
+     */
+    private final NavigableMap<String, Integer> terms = new TreeMap<>();
+
+    /**
+     * トークン番号 → 転置リスト
+     */
+    private final List<Postings> postings = new ArrayList<>();
+
+    /**
+     * 物件ID → 文書番号
+     */
+    private final Map<Long, Integer> documents = new HashMap<>();
+
+    /**
+     * 削除により空いた文書番号（再利用）
+     */
+    private final Deque<Integer> freeDocuments = new ArrayDeque<>();
+
+    private int nextDocument;
+
+    private long[] propertyIds = new long[INITIAL_CAPACITY];
+
+    /**
+     * フィールド → 文書番号 → トークン数
+     */
+    private int[][] fieldLengths = new int[FIELD_COUNT][INITIAL_CAPACITY];
+
+    /**
+     * フィールドごとの総トークン数（平均文書長の計算用）
+     */
+    private final long[] totalFieldLengths = new long[FIELD_COUNT];
+
+    /**
+     * 文書番号 → 含まれるトークン番号（昇順）
+     */
+    private int[][] documentTerms = new int[INITIAL_CAPACITY][];
+
+    /**
+     * 文書番号 → 各トークンの転置リスト上の位置
+     */
+    private int[][] documentSlots = new int[INITIAL_CAPACITY][];
+
+    /**
+     * 全物件からインデックスを再構築
+     * @param texts 全物件のテキスト
+     */
+    public void rebuild(Stream<PropertyText> texts) {
+        int count;
+        lock.writeLock().lock();
+        try {
+            terms.clear();
+            postings.clear();
+            documents.clear();
+            freeDocuments.clear();
+            nextDocument = 0;
+            propertyIds = new long[INITIAL_CAPACITY];
+            fieldLengths = new int[FIELD_COUNT][INITIAL_CAPACITY];
+            Arrays.fill(totalFieldLengths, 0);
+            documentTerms = new int[INITIAL_CAPACITY][];
+            documentSlots = new int[INITIAL_CAPACITY][];
+            texts.forEach(this::addInternal);
+            count = documents.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("物件の全文検索インデックスを構築しました: {}件, {}トークン", count, terms.size());
+    }
+
+    /**
+     * 物件を登録または更新
+     * @param text 物件テキスト
+     */
+    public void upsert(PropertyText text) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(text.id());
+            addInternal(text);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 物件をインデックスから削除
+     * @param propertyId 物件ID
+     */
+    public void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 検索語の全トークンを含む物件を関連度の高い順に検索
+     * @param query 検索語
+     * @param limit 最大件数
+     * @return 検索結果（スコアの降順）
+     */
+    public List<TextHit> search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(BigramTokenizer.tokenizeQuery(query));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            // 検索語のトークンごとに、一致するトークンの転置リスト（前方一致の場合は複数）
+            List<List<Postings>> groups = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                List<Postings> group = matchingPostings(term);
+                if (group.isEmpty()) {
+                    // 含まれないトークンがあれば一致する物件はない
+                    return List.of();
+                }
+                groups.add(group);
+            }
+
+            float[] averageLengths = new float[FIELD_COUNT];
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                averageLengths[f] = Math.max(1.0f, (float) totalFieldLengths[f] / documentCount);
+            }
+
+            // 転置リストの合計が最も短い検索語のトークンの文書のみが全トークンを含む候補となるため、
+            // 候補の文書に限ってスコアと一致した検索語のトークン数を累積する（物件数に比例する配列は確保しない）
+            int shortest = 0;
+            int[] groupSizes = new int[groups.size()];
+            for (int g = 0; g < groups.size(); g++) {
+                groupSizes[g] = groups.get(g).stream().mapToInt(list -> list.size).sum();
+                if (groupSizes[g] < groupSizes[shortest]) {
+                    shortest = g;
+                }
+            }
+            Map<Integer, Accumulator> candidates = new HashMap<>((int) (groupSizes[shortest] / 0.75f) + 1);
+            accumulate(groups.get(shortest), shortest, documentCount, averageLengths, candidates, true);
+            for (int g = 0; g < groups.size(); g++) {
+                if (g != shortest) {
+                    accumulate(groups.get(g), g, documentCount, averageLengths, candidates, false);
+                }
+            }
+
+            PriorityQueue<TextHit> top = new PriorityQueue<>(Comparator.comparingDouble(TextHit::score));
+            int required = groups.size();
+            for (Map.Entry<Integer, Accumulator> entry : candidates.entrySet()) {
+                Accumulator candidate = entry.getValue();
+                if (candidate.matched < required) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.add(new TextHit(propertyIds[entry.getKey()], candidate.score));
+                } else if (candidate.score > top.peek().score()) {
+                    top.poll();
+                    top.add(new TextHit(propertyIds[entry.getKey()], candidate.score));
+                }
+            }
+
+            List<TextHit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(TextHit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 検索語の1トークンに一致する転置リストのスコアを候補の文書に累積
+     * （addCandidatesがfalseの場合は候補に含まれない文書を読み飛ばす）
+     */
+    private void accumulate(List<Postings> group, int g, int documentCount, float[] averageLengths,
+                            Map<Integer, Accumulator> candidates, boolean addCandidates) {
+        for (Postings list : group) {
+            float idf = (float) Math.log(1.0 + (documentCount - list.size + 0.5) / (list.size + 0.5));
+            for (int i = 0; i < list.size; i++) {
+                int doc = list.documents[i];
+                Accumulator candidate = addCandidates
+                        ? candidates.computeIfAbsent(doc, key -> new Accumulator())
+                        : candidates.get(doc);
+                if (candidate == null) {
+                    continue;
+                }
+                int packed = list.frequencies[i];
+                float weightedFrequency = 0;
+                for (int f = 0; f < FIELD_COUNT; f++) {
+                    int frequency = frequency(packed, f);
+                    if (frequency > 0) {
+                        float norm = 1 - B + B * fieldLengths[f][doc] / averageLengths[f];
+                        weightedFrequency += FIELD_WEIGHTS[f] * frequency / norm;
+                    }
+                }
+                candidate.score += idf * weightedFrequency * (K1 + 1) / (K1 + weightedFrequency);
+                // 前方一致で同じ検索語の複数のトークンに一致しても1つと数える
+                if (candidate.lastGroup != g + 1) {
+                    candidate.lastGroup = g + 1;
+                    candidate.matched++;
+                }
+            }
+        }
+    }
+
+    /**
+     * 検索語のトークンに一致するトークンの転置リスト
+     * （1文字の日本語・英数字の単語は前方一致、それ以外は完全一致。空のリストは除く）
+     */
+    private List<Postings> matchingPostings(String term) {
+        List<Postings> lists = new ArrayList<>();
+        if (BigramTokenizer.isPrefixTerm(term)) {
+            for (int termId : terms.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                if (postings.get(termId).size > 0) {
+                    lists.add(postings.get(termId));
+                }
+            }
+        } else {
+            Integer termId = terms.get(term);
+            if (termId != null && postings.get(termId).size > 0) {
+                lists.add(postings.get(termId));
+            }
+        }
+        return lists;
+    }
+
+    private void addInternal(PropertyText text) {
+        int doc = allocateDocument();
+        propertyIds[doc] = text.id();
+        documents.put(text.id(), doc);
+
+        // トークン番号 → フィールド別出現回数（パック済み）
+        TreeMap<Integer, Integer> frequencies = new TreeMap<>();
+        String[] fields = {text.name(), text.address(), text.description()};
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            List<String> tokens = BigramTokenizer.tokenize(fields[f]);
+            fieldLengths[f][doc] = tokens.size();
+            totalFieldLengths[f] += tokens.size();
+            for (String token : tokens) {
+                int termId = terms.computeIfAbsent(token, key -> {
+                    postings.add(new Postings());
+                    return postings.size() - 1;
+                });
+                int field = f;
+                frequencies.merge(termId, increment(0, field), (current, ignored) -> increment(current, field));
+            }
+        }
+
+        int[] termIds = new int[frequencies.size()];
+        int[] slots = new int[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : frequencies.entrySet()) {
+            termIds[i] = entry.getKey();
+            slots[i] = postings.get(entry.getKey()).add(doc, entry.getValue());
+            i++;
+        }
+        documentTerms[doc] = termIds;
+        documentSlots[doc] = slots;
+    }
+
+    private void removeInternal(Long propertyId) {
+        Integer doc = documents.remove(propertyId);
+        if (doc == null) {
+            return;
+        }
+        int[] termIds = documentTerms[doc];
+        int[] slots = documentSlots[doc];
+        for (int i = 0; i < termIds.length; i++) {
+            Postings list = postings.get(termIds[i]);
+            int moved = list.removeAt(slots[i]);
+            if (moved >= 0) {
+                // 末尾から移動した文書の位置情報を更新
+                int index = Arrays.binarySearch(documentTerms[moved], termIds[i]);
+                documentSlots[moved][index] = slots[i];
+            }
+        }
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            totalFieldLengths[f] -= fieldLengths[f][doc];
+            fieldLengths[f][doc] = 0;
+        }
+        documentTerms[doc] = null;
+        documentSlots[doc] = null;
+        freeDocuments.push(doc);
+    }
+
+    private int allocateDocument() {
+        if (!freeDocuments.isEmpty()) {
+            return freeDocuments.pop();
+        }
+        int doc = nextDocument++;
+        if (doc >= propertyIds.length) {
+            int capacity = propertyIds.length * 2;
+            propertyIds = Arrays.copyOf(propertyIds, capacity);
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                fieldLengths[f] = Arrays.copyOf(fieldLengths[f], capacity);
+            }
+            documentTerms = Arrays.copyOf(documentTerms, capacity);
+            documentSlots = Arrays.copyOf(documentSlots, capacity);
+        }
+        return doc;
+    }
+
+    private static int frequency(int packed, int field) {
+        return (packed >>> FIELD_SHIFTS[field]) & FIELD_MAX[field];
+    }
+
+    private static int increment(int packed, int field) {
+        int current = frequency(packed, field);
+        if (current == FIELD_MAX[field]) {
+            return packed;
+        }
+        return packed + (1 << FIELD_SHIFTS[field]);
+    }
+
+    /**
+     * 検索中の候補文書のスコアと一致した検索語のトークン数
+     */
+    private static final class Accumulator {
+
+        private float score;
+
+        private int matched;
+
+        /**
+         * 最後に一致した検索語のトークンの番号+1
+         */
+        private int lastGroup;
+    }
+
+    /**
+     * 1トークン分の転置リスト（文書番号とパック済み出現回数、順不同）
+     */
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+
+        private int[] frequencies = new int[4];
+
+        private int size;
+
+        /**
+         * 末尾に追加
+         * @return 追加した位置
+         */
+        private int add(int doc, int packedFrequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = doc;
+            frequencies[size] = packedFrequency;
+            return size++;
+        }
+
+        /**
+         * 指定位置の要素を末尾の要素で置き換えて削除
+         * @return 移動した文書番号（移動がない場合は-1）
+         */
+        private int removeAt(int slot) {
+            int last = --size;
+            if (slot == last) {
+                return -1;
+            }
+            documents[slot] = documents[last];
+            frequencies[slot] = frequencies[last];
+            return documents[slot];
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.realestate.search;
+
+/**
+ * 空間インデックスの検索結果
+ *
+ * @param propertyId 物件ID
+ * @param distanceMeters 検索中心点からの距離（メートル）
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record SpatialHit(Long propertyId, double distanceMeters) {
+}
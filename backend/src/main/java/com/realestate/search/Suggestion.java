@@ -0,0 +1,14 @@
+package com.realestate.search;
+
+/**
+ * 入力補完候補
+ *
+ * @param type 候補の種別
+ * @param id 対象のID（物件ID・顧客ID・契約ID）
+ * @param label 表示名（物件名・顧客名・契約番号）
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record Suggestion(SuggestionType type, Long id, String label) {
+}
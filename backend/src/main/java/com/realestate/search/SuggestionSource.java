@@ -0,0 +1,25 @@
+package com.realestate.search;
+
+/**
+ * 入力補完インデックスの登録元
+ *
+ * 起動時の一括構築では各リポジトリのJPQLコンストラクタ式で直接生成します。
+ *
+ * @param id 対象のID
+ * @param label 表示名（単語ごとに前方一致の対象となります）
+ * @param alias 別名（顧客のメールアドレスなど、nullの場合は対象外）
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record SuggestionSource(Long id, String label, String alias) {
+
+    /**
+     * 別名のない登録元を生成
+     * @param id 対象のID
+     * @param label 表示名
+     */
+    public SuggestionSource(Long id, String label) {
+        this(id, label, null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.realestate.search;
+
+/**
+ * 入力補完候補の種別
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public enum SuggestionType {
+    /** 物件名 */
+    PROPERTY,
+    /** 顧客名・メールアドレス */
+    CLIENT,
+    /** 契約番号 */
+    CONTRACT
+}
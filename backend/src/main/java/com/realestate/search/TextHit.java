@@ -0,0 +1,13 @@
+package com.realestate.search;
+
+/**
+ * 全文検索の検索結果
+ *
+ * @param propertyId 物件ID
+ * @param score 関連度スコア（BM25）
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record TextHit(Long propertyId, float score) {
+}
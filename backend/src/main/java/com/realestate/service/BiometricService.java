@@ -1,5 +1,6 @@
 package com.realestate.service;
 
+import com.realestate.document.StreamingDigest;
 import com.realestate.entity.BiometricData;
 import com.realestate.repository.BiometricDataRepository;
 import lombok.RequiredArgsConstructor;
@@ -7,8 +8,6 @@ import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
@@ -216,12 +215,10 @@ public class BiometricService {
     }
 
     /**
-     * 生体データのハッシュを生成
+     * 生体データのハッシュを生成（UTF-8で符号化しながら計算）
      */
-    private String generateHash(String data) throws NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] hash = digest.digest(data.getBytes());
-        return Base64.getEncoder().encodeToString(hash);
+    private String generateHash(String data) {
+        return Base64.getEncoder().encodeToString(StreamingDigest.sha256(data));
     }
 
     /**
@@ -3,9 +3,16 @@ package com.realestate.service;
 import com.realestate.dto.ClientDto;
 import com.realestate.entity.Client;
 import com.realestate.entity.Client.ClientType;
+import com.realestate.entity.OutboxEvent.AggregateType;
+import com.realestate.entity.OutboxEvent.EventType;
+import com.realestate.event.DomainEventPublisher;
+import com.realestate.mapper.ClientMapper;
 import com.realestate.repository.ClientRepository;
+import com.realestate.search.AutocompleteIndex;
+import com.realestate.search.SuggestionType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,6 +34,14 @@ public class ClientService {
 
     // クライアントリポジトリ（データアクセス層）
     private final ClientRepository clientRepository;
+    // クライアントマッパー（エンティティ・DTO変換）
+    private final ClientMapper clientMapper;
+    // 入力補完インデックス（顧客名・メールアドレス）
+    private final AutocompleteIndex autocompleteIndex;
+    // テーブル更新バージョン（一覧APIのETag生成用）
+    private final TableVersionService tableVersionService;
+    // ドメインイベント記録（変更と同じトランザクションでアウトボックスへ記録）
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 全てのクライアントを取得
@@ -36,7 +51,7 @@ public class ClientService {
         try {
             List<Client> clients = clientRepository.findAll();
             return clients.stream()
-                    .map(this::convertToDto)
+                    .map(clientMapper::toDto)
                     .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("クライアントデータの取得に失敗しました", e);
@@ -52,7 +67,7 @@ public class ClientService {
      */
     public Optional<ClientDto> getClientById(Long id) {
         return clientRepository.findById(id)
-                .map(this::convertToDto);
+                .map(clientMapper::toDto);
     }
 
     /**
@@ -62,7 +77,7 @@ public class ClientService {
      */
     public List<ClientDto> getClientsByType(ClientType type) {
         return clientRepository.findByType(type).stream()
-                .map(this::convertToDto)
+                .map(clientMapper::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -82,7 +97,7 @@ public class ClientService {
                         client.getEmail().toLowerCase().contains(lowerQuery) ||
                         (client.getAddress() != null && client.getAddress().toLowerCase().contains(lowerQuery))
                     )
-                    .map(this::convertToDto)
+                    .map(clientMapper::toDto)
                     .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("クライアント検索に失敗しました: {}", query, e);
@@ -129,7 +144,7 @@ public class ClientService {
                         
                         return true;
                     })
-                    .map(this::convertToDto)
+                    .map(clientMapper::toDto)
                     .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("高度なクライアント検索に失敗しました", e);
@@ -143,12 +158,16 @@ public class ClientService {
      * @param clientDto クライアント情報DTO
      * @return 作成されたクライアントDTO
      */
+    @Transactional
     public ClientDto createClient(ClientDto clientDto) {
-        Client client = convertToEntity(clientDto);
+        Client client = clientMapper.toEntity(clientDto);
         client.setCreatedAt(LocalDateTime.now());
         client.setUpdatedAt(LocalDateTime.now());
         Client savedClient = clientRepository.save(client);
-        return convertToDto(savedClient);
+        autocompleteIndex.clientSaved(savedClient);
+        tableVersionService.bump(TableVersionService.Table.CLIENTS);
+        domainEventPublisher.record(AggregateType.CLIENT, savedClient.getId(), EventType.CREATED);
+        return clientMapper.toDto(savedClient);
     }
 
     /**
@@ -157,6 +176,7 @@ public class ClientService {
      * @param clientDto 更新するクライアント情報DTO
      * @return 更新されたクライアントDTO（存在しない場合は空）
      */
+    @Transactional
     public Optional<ClientDto> updateClient(Long id, ClientDto clientDto) {
         return clientRepository.findById(id)
                 .map(existingClient -> {
@@ -169,7 +189,10 @@ public class ClientService {
                     existingClient.setType(clientDto.getType());
                     existingClient.setUpdatedAt(LocalDateTime.now());
                     Client savedClient = clientRepository.save(existingClient);
-                    return convertToDto(savedClient);
+                    autocompleteIndex.clientSaved(savedClient);
+                    tableVersionService.bump(TableVersionService.Table.CLIENTS);
+                    domainEventPublisher.record(AggregateType.CLIENT, savedClient.getId(), EventType.UPDATED);
+                    return clientMapper.toDto(savedClient);
                 });
     }
 
@@ -178,49 +201,15 @@ public class ClientService {
      * @param id 削除対象のクライアントID
      * @return 削除成功時true、存在しない場合はfalse
      */
+    @Transactional
     public boolean deleteClient(Long id) {
         if (clientRepository.existsById(id)) {
             clientRepository.deleteById(id);
+            autocompleteIndex.deleted(SuggestionType.CLIENT, id);
+            tableVersionService.bump(TableVersionService.Table.CLIENTS);
+            domainEventPublisher.record(AggregateType.CLIENT, id, EventType.DELETED);
             return true;
         }
         return false;
     }
-
-    /**
-     * クライアントエンティティをDTOに変換
-     * @param client クライアントエンティティ
-     * @return クライアントDTO
-     */
-    private ClientDto convertToDto(Client client) {
-        ClientDto dto = new ClientDto();
-        dto.setId(client.getId());
-        dto.setFirstName(client.getFirstName());
-        dto.setLastName(client.getLastName());
-        dto.setEmail(client.getEmail());
-        dto.setPhone(client.getPhone());
-        dto.setAddress(client.getAddress());
-        dto.setType(client.getType());
-        dto.setCreatedAt(client.getCreatedAt());
-        dto.setUpdatedAt(client.getUpdatedAt());
-        return dto;
-    }
-
-    /**
-     * クライアントDTOをエンティティに変換
-     * @param dto クライアントDTO
-     * @return クライアントエンティティ
-     */
-    private Client convertToEntity(ClientDto dto) {
-        Client client = new Client();
-        client.setId(dto.getId());
-        client.setFirstName(dto.getFirstName());
-        client.setLastName(dto.getLastName());
-        client.setEmail(dto.getEmail());
-        client.setPhone(dto.getPhone());
-        client.setAddress(dto.getAddress());
-        client.setType(dto.getType());
-        client.setCreatedAt(dto.getCreatedAt());
-        client.setUpdatedAt(dto.getUpdatedAt());
-        return client;
-    }
 }
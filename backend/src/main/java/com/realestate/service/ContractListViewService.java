@@ -0,0 +1,197 @@
+package com.realestate.service;
+
+import com.realestate.dto.ContractListCriteria;
+import com.realestate.dto.ContractListPageDto;
+import com.realestate.entity.ContractListView;
+import com.realestate.event.DomainEvent;
+import com.realestate.event.DomainEventSubscriber;
+import com.realestate.repository.ContractListViewRepository;
+import com.realestate.repository.ContractListViewSpecifications;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 契約一覧ビューサービスクラス
+ *
+ * 契約一覧画面用の読み取りモデル（contract_list_view）の更新と検索を行います。
+ *
+ * 起動時に全件を生成した後は、ドメインイベントを受けて影響する契約の行のみを再生成します。
+ * <ul>
+ *   <li>契約の変更：その契約の行</li>
+ *   <li>物件・顧客の変更：その物件・顧客を参照する契約の行</li>
+ *   <li>取引の変更：取引が属する契約の行と、その取引を最新取引として保持している行</li>
+ * </ul>
+ * 再生成はINSERT ... SELECTで行うため、再配信されたイベントを処理しても結果は変わりません。
+ * 行を更新した後は一覧APIのETag用のバージョンを進めます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+public class ContractListViewService implements DomainEventSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractListViewService.class);
+
+    /**
+     * 1ページあたりの件数の既定値
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * 1ページあたりの件数の上限
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * 並べ替えに指定できる項目
+     */
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "contractId", "contractNumber", "type", "status", "amount", "monthlyRent", "startDate", "endDate",
+            "propertyId", "propertyName", "propertyAddress", "clientId", "clientName", "clientStatus",
+            "latestTransactionId", "latestTransactionStatus", "latestTransactionDate", "contractUpdatedAt");
+
+    private final ContractListViewRepository contractListViewRepository;
+
+    private final TableVersionService tableVersionService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 全件生成と差分更新の排他制御
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public ContractListViewService(ContractListViewRepository contractListViewRepository,
+                                   TableVersionService tableVersionService,
+                                   PlatformTransactionManager transactionManager) {
+        this.contractListViewRepository = contractListViewRepository;
+        this.tableVersionService = tableVersionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 起動時に全件を生成
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        refreshLock.lock();
+        try {
+            Integer rows = transactionTemplate.execute(status -> {
+                contractListViewRepository.deleteAllRows();
+                return contractListViewRepository.insertAll();
+            });
+            tableVersionService.bump(TableVersionService.Table.CONTRACT_LIST_VIEW);
+            log.info("契約一覧ビューを生成しました: {}件", rows);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * ドメインイベントを受けて影響する行を再生成
+     * @param events ドメインイベント
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        List<Long> contractIds = new ArrayList<>();
+        List<Long> propertyIds = new ArrayList<>();
+        List<Long> clientIds = new ArrayList<>();
+        List<Long> transactionIds = new ArrayList<>();
+        for (DomainEvent event : events) {
+            switch (event.aggregateType()) {
+                case CONTRACT -> contractIds.add(event.aggregateId());
+                case PROPERTY -> propertyIds.add(event.aggregateId());
+                case CLIENT -> clientIds.add(event.aggregateId());
+                case TRANSACTION -> transactionIds.add(event.aggregateId());
+            }
+        }
+
+        refreshLock.lock();
+        try {
+            Integer rows = transactionTemplate.execute(status -> {
+                Set<Long> affected = new HashSet<>(contractIds);
+                if (!propertyIds.isEmpty()) {
+                    affected.addAll(contractListViewRepository.findContractIdsByPropertyIds(propertyIds));
+                }
+                if (!clientIds.isEmpty()) {
+                    affected.addAll(contractListViewRepository.findContractIdsByClientIds(clientIds));
+                }
+                if (!transactionIds.isEmpty()) {
+                    affected.addAll(contractListViewRepository.findContractIdsByTransactionIds(transactionIds));
+                    affected.addAll(contractListViewRepository.findContractIdsByLatestTransactionIds(transactionIds));
+                }
+                if (affected.isEmpty()) {
+                    return 0;
+                }
+                contractListViewRepository.deleteByContractIds(affected);
+                contractListViewRepository.insertByContractIds(affected);
+                return affected.size();
+            });
+            if (rows != null && rows > 0) {
+                tableVersionService.bump(TableVersionService.Table.CONTRACT_LIST_VIEW);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 契約一覧を検索
+     * @param criteria 絞り込み条件
+     * @param sort 並べ替え項目の並び（降順の場合は先頭に"-"、省略時は契約IDの昇順）
+     * @param page ページ番号（0始まり）
+     * @param size 1ページあたりの件数
+     * @return 検索結果
+     * @throws IllegalArgumentException 並べ替え項目・ページ指定が不正な場合
+     */
+    public ContractListPageDto search(ContractListCriteria criteria, List<String> sort, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("ページ番号は0以上を指定してください");
+        }
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Page<ContractListView> result = contractListViewRepository.findAll(
+                ContractListViewSpecifications.matching(criteria),
+                PageRequest.of(page, pageSize, toSort(sort)));
+        return new ContractListPageDto(result.getTotalElements(), page, pageSize, result.getContent());
+    }
+
+    /**
+     * 並べ替え指定を変換（ページ間で順序が安定するよう最後に契約IDを加える）
+     */
+    private static Sort toSort(List<String> sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        if (sort != null) {
+            for (String spec : sort) {
+                String field = spec.trim();
+                Sort.Direction direction = Sort.Direction.ASC;
+                if (field.startsWith("-")) {
+                    field = field.substring(1);
+                    direction = Sort.Direction.DESC;
+                }
+                if (!SORTABLE_FIELDS.contains(field)) {
+                    throw new IllegalArgumentException("並べ替えできない項目です: " + field);
+                }
+                orders.add(new Sort.Order(direction, field));
+            }
+        }
+        if (orders.stream().noneMatch(order -> order.getProperty().equals("contractId"))) {
+            orders.add(Sort.Order.asc("contractId"));
+        }
+        return Sort.by(orders);
+    }
+}
@@ -1,24 +1,34 @@
 package com.realestate.service;
 
 import com.realestate.dto.ContractDto;
-import com.realestate.dto.PropertyDto;
-import com.realestate.dto.ClientDto;
+import com.realestate.dto.PatchRequestDto;
 import com.realestate.entity.Contract;
 import com.realestate.entity.Contract.ContractType;
 import com.realestate.entity.Contract.ContractStatus;
 import com.realestate.entity.Property;
 import com.realestate.entity.Client;
+import com.realestate.entity.OutboxEvent.AggregateType;
+import com.realestate.entity.OutboxEvent.EventType;
+import com.realestate.event.DomainEventPublisher;
+import com.realestate.mapper.ContractMapper;
+import com.realestate.rent.RentScheduleService;
 import com.realestate.repository.ContractRepository;
+import com.realestate.search.AutocompleteIndex;
+import com.realestate.search.SuggestionType;
 import com.realestate.repository.PropertyRepository;
 import com.realestate.repository.ClientRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
 
@@ -32,23 +42,42 @@ public class ContractService {
 
     private static final Logger log = LoggerFactory.getLogger(ContractService.class);
 
+    // 部分更新で変更可能な項目
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("type", "status", "amount", "monthlyRent",
+            "startDate", "endDate", "terms");
+
+    // 部分更新でnullを設定可能な項目
+    private static final Set<String> NULLABLE_FIELDS = Set.of("monthlyRent", "terms");
+
     // 契約リポジトリ（データアクセス層）
     private final ContractRepository contractRepository;
     // 物件リポジトリ（物件情報の取得用）
     private final PropertyRepository propertyRepository;
     // クライアントリポジトリ（クライアント情報の取得用）
     private final ClientRepository clientRepository;
+    // 契約マッパー（エンティティ・DTO変換）
+    private final ContractMapper contractMapper;
+    // 入力補完インデックス（契約番号）
+    private final AutocompleteIndex autocompleteIndex;
+    // テーブル更新バージョン（一覧APIのETag生成用）
+    private final TableVersionService tableVersionService;
+    // ドメインイベント記録（変更と同じトランザクションでアウトボックスへ記録）
+    private final DomainEventPublisher domainEventPublisher;
+    // 項目単位マージ（部分更新用）
+    private final FieldMerger fieldMerger;
+    // バージョン競合時の再試行（部分更新用）
+    private final OptimisticRetry optimisticRetry;
+    // 賃料スケジュール（賃貸・リース契約の支払予定を差分で再生成）
+    private final RentScheduleService rentScheduleService;
 
     /**
      * 全ての契約を取得
      * @return 契約DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<ContractDto> getAllContracts() {
         try {
-            List<Contract> contracts = contractRepository.findAll();
-            return contracts.stream()
-                    .map(this::convertToDto)
-                    .collect(Collectors.toList());
+            return contractRepository.findAllDtos();
         } catch (Exception e) {
             log.error("契約データの取得に失敗しました", e);
             // エラー時は空のリストを返す
@@ -63,7 +92,7 @@ public class ContractService {
      */
     public Optional<ContractDto> getContractById(Long id) {
         return contractRepository.findById(id)
-                .map(this::convertToDto);
+                .map(contractMapper::toDto);
     }
 
     /**
@@ -71,10 +100,9 @@ public class ContractService {
      * @param type 契約タイプ（売買、賃貸など）
      * @return 該当する契約DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<ContractDto> getContractsByType(ContractType type) {
-        return contractRepository.findByType(type).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return contractRepository.findDtosByType(type);
     }
 
     /**
@@ -82,10 +110,9 @@ public class ContractService {
      * @param status 契約ステータス（進行中、完了、キャンセルなど）
      * @return 該当する契約DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<ContractDto> getContractsByStatus(ContractStatus status) {
-        return contractRepository.findByStatus(status).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return contractRepository.findDtosByStatus(status);
     }
 
     /**
@@ -129,7 +156,7 @@ public class ContractService {
                         }
                         return false;
                     })
-                    .map(this::convertToDto)
+                    .map(contractMapper::toDto)
                     .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("契約検索に失敗しました: {}", query, e);
@@ -143,12 +170,18 @@ public class ContractService {
      * @param contractDto 契約情報DTO
      * @return 作成された契約DTO
      */
+    @Transactional
     public ContractDto createContract(ContractDto contractDto) {
-        Contract contract = convertToEntity(contractDto);
+        Contract contract = contractMapper.toEntity(contractDto);
+        assignPropertyAndClient(contract, contractDto);
         contract.setCreatedAt(LocalDateTime.now());
         contract.setUpdatedAt(LocalDateTime.now());
         Contract savedContract = contractRepository.save(contract);
-        return convertToDto(savedContract);
+        rentScheduleService.regenerate(savedContract.getId(), false);
+        autocompleteIndex.contractSaved(savedContract);
+        tableVersionService.bump(TableVersionService.Table.CONTRACTS);
+        domainEventPublisher.record(AggregateType.CONTRACT, savedContract.getId(), EventType.CREATED);
+        return contractMapper.toDto(savedContract);
     }
 
     /**
@@ -157,121 +190,86 @@ public class ContractService {
      * @param contractDto 更新する契約情報DTO
      * @return 更新された契約DTO（存在しない場合は空）
      */
+    @Transactional
     public Optional<ContractDto> updateContract(Long id, ContractDto contractDto) {
         return contractRepository.findById(id)
                 .map(existingContract -> {
-                    // 物件情報の設定（IDから物件エンティティを取得）
-                    if (contractDto.getProperty() != null && contractDto.getProperty().getId() != null) {
-                        Optional<Property> property = propertyRepository.findById(contractDto.getProperty().getId());
-                        property.ifPresent(existingContract::setProperty);
-                    }
-                    // クライアント情報の設定（IDからクライアントエンティティを取得）
-                    if (contractDto.getClient() != null && contractDto.getClient().getId() != null) {
-                        Optional<Client> client = clientRepository.findById(contractDto.getClient().getId());
-                        client.ifPresent(existingContract::setClient);
+                    // 読み込み時のバージョンが指定されている場合は、他の更新が無いことを確認
+                    if (contractDto.getVersion() != null
+                            && !contractDto.getVersion().equals(existingContract.getVersion())) {
+                        throw new ObjectOptimisticLockingFailureException(Contract.class, id);
                     }
+                    // 物件・クライアント情報の設定
+                    assignPropertyAndClient(existingContract, contractDto);
                     // 契約基本情報の更新
                     existingContract.setType(contractDto.getType());
                     existingContract.setStatus(contractDto.getStatus());
                     existingContract.setAmount(contractDto.getAmount());
+                    // 月額賃料の変更は賃料スケジュールの再生成で今日以降の未処理分に反映
+                    existingContract.setMonthlyRent(contractDto.getMonthlyRent());
                     existingContract.setStartDate(contractDto.getStartDate());
                     existingContract.setEndDate(contractDto.getEndDate());
                     existingContract.setTerms(contractDto.getTerms());
                     existingContract.setUpdatedAt(LocalDateTime.now());
-                    Contract savedContract = contractRepository.save(existingContract);
-                    return convertToDto(savedContract);
+                    // 更新後のバージョンを応答に含めるため即時に反映
+                    Contract savedContract = contractRepository.saveAndFlush(existingContract);
+                    rentScheduleService.regenerate(savedContract.getId(), false);
+                    autocompleteIndex.contractSaved(savedContract);
+                    tableVersionService.bump(TableVersionService.Table.CONTRACTS);
+                    domainEventPublisher.record(AggregateType.CONTRACT, savedContract.getId(), EventType.UPDATED);
+                    return contractMapper.toDto(savedContract);
                 });
     }
 
+    /**
+     * 契約の部分更新（項目単位のマージ）
+     * 読み込み後に他の更新があっても、変更項目が重ならなければ自動的にマージして適用します。
+     * 保存時にバージョン競合が発生した場合は最新の状態を読み直して再試行します
+     * @param id 更新対象の契約ID
+     * @param patch 部分更新リクエスト
+     * @return 更新された契約DTO（存在しない場合は空）
+     * @throws PatchConflictException 他の更新と同じ項目を変更しようとした場合
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ContractDto> patchContract(Long id, PatchRequestDto patch) {
+        return optimisticRetry.execute(() -> contractRepository.findById(id)
+                .map(existingContract -> {
+                    fieldMerger.merge(existingContract, existingContract.getVersion(), patch, ContractDto.class,
+                            PATCHABLE_FIELDS, NULLABLE_FIELDS);
+                    existingContract.setUpdatedAt(LocalDateTime.now());
+                    Contract savedContract = contractRepository.saveAndFlush(existingContract);
+                    rentScheduleService.regenerate(savedContract.getId(), false);
+                    autocompleteIndex.contractSaved(savedContract);
+                    tableVersionService.bump(TableVersionService.Table.CONTRACTS);
+                    domainEventPublisher.record(AggregateType.CONTRACT, savedContract.getId(), EventType.UPDATED);
+                    return contractMapper.toDto(savedContract);
+                }));
+    }
+
     /**
      * 契約の削除
      * @param id 削除対象の契約ID
      * @return 削除成功時true、存在しない場合はfalse
      */
+    @Transactional
     public boolean deleteContract(Long id) {
         if (contractRepository.existsById(id)) {
+            rentScheduleService.removePending(id);
             contractRepository.deleteById(id);
+            autocompleteIndex.deleted(SuggestionType.CONTRACT, id);
+            tableVersionService.bump(TableVersionService.Table.CONTRACTS);
+            domainEventPublisher.record(AggregateType.CONTRACT, id, EventType.DELETED);
             return true;
         }
         return false;
     }
 
     /**
-     * 契約エンティティをDTOに変換
-     * @param contract 契約エンティティ
-     * @return 契約DTO
-     */
-    private ContractDto convertToDto(Contract contract) {
-        ContractDto dto = new ContractDto();
-        dto.setId(contract.getId());
-        dto.setContractNumber(contract.getContractNumber());
-        
-        // 物件情報のDTO変換
-        if (contract.getProperty() != null) {
-            PropertyDto propertyDto = new PropertyDto();
-            propertyDto.setId(contract.getProperty().getId());
-            propertyDto.setName(contract.getProperty().getName());
-            propertyDto.setAddress(contract.getProperty().getAddress());
-            propertyDto.setDescription(contract.getProperty().getDescription());
-            propertyDto.setType(contract.getProperty().getType());
-            propertyDto.setStatus(contract.getProperty().getStatus());
-            propertyDto.setPrice(contract.getProperty().getPrice());
-            propertyDto.setArea(contract.getProperty().getArea());
-            propertyDto.setRooms(contract.getProperty().getRooms());
-            propertyDto.setBathrooms(contract.getProperty().getBathrooms());
-            propertyDto.setParkingSpaces(contract.getProperty().getParkingSpaces());
-            propertyDto.setYearBuilt(contract.getProperty().getYearBuilt());
-            propertyDto.setCreatedAt(contract.getProperty().getCreatedAt());
-            propertyDto.setUpdatedAt(contract.getProperty().getUpdatedAt());
-            dto.setProperty(propertyDto);
-        }
-        
-        // クライアント情報のDTO変換
-        if (contract.getClient() != null) {
-            ClientDto clientDto = new ClientDto();
-            clientDto.setId(contract.getClient().getId());
-            clientDto.setFirstName(contract.getClient().getFirstName());
-            clientDto.setLastName(contract.getClient().getLastName());
-            clientDto.setEmail(contract.getClient().getEmail());
-            clientDto.setPhone(contract.getClient().getPhone());
-            clientDto.setAddress(contract.getClient().getAddress());
-            clientDto.setType(contract.getClient().getType());
-            clientDto.setCreatedAt(contract.getClient().getCreatedAt());
-            clientDto.setUpdatedAt(contract.getClient().getUpdatedAt());
-            dto.setClient(clientDto);
-        }
-        
-        // 物件名と顧客名の設定
-        if (contract.getProperty() != null) {
-            dto.setPropertyName(contract.getProperty().getName());
-        }
-        if (contract.getClient() != null) {
-            dto.setClientName(contract.getClient().getFirstName() + " " + contract.getClient().getLastName());
-        }
-        
-        // 契約基本情報の設定
-        dto.setType(contract.getType());
-        dto.setStatus(contract.getStatus());
-        dto.setAmount(contract.getAmount());
-        dto.setMonthlyRent(contract.getMonthlyRent());
-        dto.setStartDate(contract.getStartDate());
-        dto.setEndDate(contract.getEndDate());
-        dto.setTerms(contract.getTerms());
-        dto.setCreatedAt(contract.getCreatedAt());
-        dto.setUpdatedAt(contract.getUpdatedAt());
-        return dto;
-    }
-
-    /**
-     * 契約DTOをエンティティに変換
-     * @param dto 契約DTO
-     * @return 契約エンティティ
+     * 契約DTOで指定された物件・クライアントを契約エンティティに設定
+     * @param contract 設定先の契約エンティティ
+     * @param dto 契約DTO（物件ID・クライアントIDを参照）
      */
-    private Contract convertToEntity(ContractDto dto) {
-        Contract contract = new Contract();
-        contract.setId(dto.getId());
-        contract.setContractNumber(dto.getContractNumber());
-        
+    private void assignPropertyAndClient(Contract contract, ContractDto dto) {
         // 物件情報の設定（IDから物件エンティティを取得）
         if (dto.getProperty() != null && dto.getProperty().getId() != null) {
             Optional<Property> property = propertyRepository.findById(dto.getProperty().getId());
@@ -283,17 +281,5 @@ public class ContractService {
             Optional<Client> client = clientRepository.findById(dto.getClient().getId());
             client.ifPresent(contract::setClient);
         }
-        
-        // 契約基本情報の設定
-        contract.setType(dto.getType());
-        contract.setStatus(dto.getStatus());
-        contract.setAmount(dto.getAmount());
-        contract.setMonthlyRent(dto.getMonthlyRent());
-        contract.setStartDate(dto.getStartDate());
-        contract.setEndDate(dto.getEndDate());
-        contract.setTerms(dto.getTerms());
-        contract.setCreatedAt(dto.getCreatedAt());
-        contract.setUpdatedAt(dto.getUpdatedAt());
-        return contract;
     }
 }
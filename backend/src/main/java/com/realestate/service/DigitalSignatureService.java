@@ -1,17 +1,27 @@
 package com.realestate.service;
 
+import com.realestate.document.DocumentStore;
+import com.realestate.document.StreamingDigest;
 import com.realestate.entity.DigitalSignature;
 import com.realestate.repository.DigitalSignatureRepository;
+import com.realestate.signature.CertificateCheck;
+import com.realestate.signature.CertificateVerifier;
+import com.realestate.signature.SignatureAlgorithm;
+import com.realestate.signature.SigningRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.security.*;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
+import java.security.cert.X509Certificate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +30,9 @@ import java.util.Optional;
  * 
  * 電子署名の作成、検証、管理を行うサービスクラスです。
  * 暗号化、ハッシュ生成、署名検証などの機能を提供します。
+ * 署名対象の文書は文書ストアに保存し、再検証時は保存済みの文書を使用します。
+ * 署名アルゴリズム（RSA・RSA-PSS・ECDSA P-256・Ed25519）は秘密鍵の種類から選択し、署名に記録します。
+ * 署名者の証明書（X.509）を指定した場合は、証明書パス・有効期間・失効状況も検証します。
  * 
  * @author システム開発チーム
  * @version 1.0.0
@@ -33,6 +46,10 @@ public class DigitalSignatureService {
 
     private final DigitalSignatureRepository digitalSignatureRepository;
 
+    private final DocumentStore documentStore;
+
+    private final CertificateVerifier certificateVerifier;
+
     /**
      * 電子署名を作成
      * 
@@ -40,37 +57,88 @@ public class DigitalSignatureService {
      * @param signerName 署名者名
      * @param contractId 契約ID
      * @param documentType 文書タイプ
-     * @param documentContent 署名対象の文書内容
-     * @param privateKeyBase64 秘密鍵（Base64エンコード）
+     * @param documentContent 署名対象の文書内容（省略時は文書ストアに保存済みの文書）
+     * @param storedDocumentHash 文書ストアに保存済みの文書のSHA-256（16進数、文書内容の省略時は必須）
+     * @param privateKeyBase64 秘密鍵（PKCS#8、Base64エンコード）
+     * @param algorithm 署名アルゴリズム（省略時は秘密鍵の種類から判定。RSA鍵の場合はRSA_SHA256）
      * @return 作成された電子署名
      */
     public DigitalSignature createSignature(Long signerId, String signerName, Long contractId,
                                          DigitalSignature.DocumentType documentType, String documentContent,
-                                         String privateKeyBase64) {
+                                         String storedDocumentHash, String privateKeyBase64,
+                                         SignatureAlgorithm algorithm) {
+        DigitalSignature signature = prepareSignature(new SigningRequest(signerId, signerName, contractId,
+                documentType, documentContent, storedDocumentHash, privateKeyBase64, algorithm, null));
+        // データベースに保存
+        return digitalSignatureRepository.save(signature);
+    }
+
+    /**
+     * 電子署名を作成（データベースには保存しない）
+     * 
+     * @param request 署名作成リクエスト
+     * @return 作成された電子署名（未保存）
+     */
+    public DigitalSignature prepareSignature(SigningRequest request) {
         try {
-            // 文書のハッシュを生成
-            String documentHash = generateHash(documentContent);
+            // 署名者の証明書を検証
+            X509Certificate certificate = null;
+            if (request.certificateChain() != null) {
+                CertificateCheck check = certificateVerifier.check(request.certificateChain(), new Date());
+                if (!check.valid()) {
+                    throw new IllegalArgumentException(
+                            "署名者の証明書が無効です: " + check.status() + " " + check.message());
+                }
+                certificate = check.certificate();
+            }
+
+            String documentContent = request.documentContent();
+            String storedDocumentHash = request.documentHash();
+            String documentHash;
+            String storedHash;
+            if (documentContent != null) {
+                // 文書を文書ストアに保存（保存時に計算したハッシュを使用）
+                storedHash = documentStore.put(documentContent).hash();
+                if (storedDocumentHash != null && !storedDocumentHash.equals(storedHash)) {
+                    throw new IllegalArgumentException("文書内容と文書のハッシュが一致しません");
+                }
+                documentHash = Base64.getEncoder().encodeToString(HexFormat.of().parseHex(storedHash));
+            } else if (storedDocumentHash != null) {
+                // 保存済みの文書からハッシュを生成
+                storedHash = storedDocumentHash;
+                documentHash = generateStoredDocumentHash(storedHash);
+            } else {
+                throw new IllegalArgumentException("署名対象の文書が指定されていません");
+            }
             
             // 秘密鍵で署名を作成
-            String signatureData = signDocument(documentHash, privateKeyBase64);
+            byte[] privateKeyBytes = Base64.getDecoder().decode(request.privateKeyBase64());
+            SignatureAlgorithm signatureAlgorithm = request.algorithm() != null
+                    ? request.algorithm() : SignatureAlgorithm.forPrivateKey(privateKeyBytes);
+            String signatureData = signDocument(documentHash, privateKeyBytes, signatureAlgorithm);
+            if (certificate != null
+                    && !verifyDocumentSignature(documentHash, signatureData, certificate.getPublicKey(), signatureAlgorithm)) {
+                throw new IllegalArgumentException("秘密鍵が署名者の証明書と一致しません");
+            }
             
             // 署名ハッシュを生成
             String signatureHash = generateHash(signatureData);
             
             // 電子署名エンティティを作成
             DigitalSignature signature = new DigitalSignature();
-            signature.setSignerId(signerId);
-            signature.setSignerName(signerName);
-            signature.setContractId(contractId);
-            signature.setDocumentType(documentType);
+            signature.setSignerId(request.signerId());
+            signature.setSignerName(request.signerName());
+            signature.setContractId(request.contractId());
+            signature.setDocumentType(request.documentType());
+            signature.setDocumentHash(storedHash);
             signature.setSignatureData(signatureData);
+            signature.setSignatureAlgorithm(signatureAlgorithm);
+            signature.setSignerCertificate(request.certificateChain());
             signature.setSignatureHash(signatureHash);
             signature.setSignedAt(LocalDateTime.now());
             signature.setExpiresAt(LocalDateTime.now().plusYears(10)); // 10年間有効
             signature.setStatus(DigitalSignature.SignatureStatus.SIGNED);
-            
-            // データベースに保存
-            return digitalSignatureRepository.save(signature);
+            return signature;
             
         } catch (Exception e) {
             log.error("電子署名の作成に失敗しました: {}", e.getMessage(), e);
@@ -78,12 +146,23 @@ public class DigitalSignatureService {
         }
     }
 
+    /**
+     * 作成済みの電子署名をまとめて保存（1トランザクション）
+     * 
+     * @param signatures 電子署名（未保存）
+     * @return 保存された電子署名
+     */
+    @Transactional
+    public List<DigitalSignature> saveSignatures(List<DigitalSignature> signatures) {
+        return digitalSignatureRepository.saveAll(signatures);
+    }
+
     /**
      * 電子署名を検証
      * 
      * @param signatureId 署名ID
-     * @param documentContent 署名対象の文書内容
-     * @param publicKeyBase64 公開鍵（Base64エンコード）
+     * @param documentContent 署名対象の文書内容（省略時は文書ストアに保存された署名時の文書）
+     * @param publicKeyBase64 公開鍵（Base64エンコード、署名者の証明書がある場合は省略可）
      * @return 検証結果
      */
     public boolean verifySignature(Long signatureId, String documentContent, String publicKeyBase64) {
@@ -109,10 +188,38 @@ public class DigitalSignatureService {
             }
             
             // 文書のハッシュを生成
-            String documentHash = generateHash(documentContent);
+            String documentHash;
+            if (documentContent != null) {
+                documentHash = generateHash(documentContent);
+            } else if (signature.getDocumentHash() != null) {
+                documentHash = generateStoredDocumentHash(signature.getDocumentHash());
+            } else {
+                log.warn("署名対象の文書が保存されていません: {}", signatureId);
+                return false;
+            }
+            
+            // 公開鍵を取得（署名者の証明書がある場合は証明書パス・失効状況を検証して証明書の公開鍵を使用）
+            PublicKey publicKey;
+            if (signature.getSignerCertificate() != null) {
+                Date signedAt = Date.from(signature.getSignedAt().atZone(ZoneId.systemDefault()).toInstant());
+                CertificateCheck check = certificateVerifier.check(signature.getSignerCertificate(), signedAt);
+                if (!check.valid()) {
+                    log.warn("署名者の証明書が無効です: {} {}", check.status(), check.message());
+                    signature.setVerificationResult("CERTIFICATE_" + check.status());
+                    digitalSignatureRepository.save(signature);
+                    return false;
+                }
+                publicKey = check.certificate().getPublicKey();
+            } else if (publicKeyBase64 != null) {
+                publicKey = signature.getSignatureAlgorithm().publicKey(Base64.getDecoder().decode(publicKeyBase64));
+            } else {
+                log.warn("公開鍵が指定されていません: {}", signatureId);
+                return false;
+            }
             
             // 署名を検証
-            boolean isValid = verifyDocumentSignature(documentHash, signature.getSignatureData(), publicKeyBase64);
+            boolean isValid = verifyDocumentSignature(documentHash, signature.getSignatureData(), publicKey,
+                    signature.getSignatureAlgorithm());
             
             // 検証結果を更新
             signature.setVerificationResult(isValid ? "VERIFIED" : "INVALID");
@@ -175,45 +282,35 @@ public class DigitalSignatureService {
     }
 
     /**
-     * 文書のハッシュを生成
+     * 文書のハッシュを生成（UTF-8で符号化しながら計算）
+     */
+    private String generateHash(String content) {
+        return Base64.getEncoder().encodeToString(StreamingDigest.sha256(content));
+    }
+
+    /**
+     * 文書ストアに保存された文書のハッシュを生成（文書をヒープに読み込まずに計算）
      */
-    private String generateHash(String content) throws NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] hash = digest.digest(content.getBytes());
+    private String generateStoredDocumentHash(String storedHash) {
+        byte[] hash = documentStore.digest(storedHash, "SHA-256");
         return Base64.getEncoder().encodeToString(hash);
     }
 
     /**
      * 文書に署名を作成
      */
-    private String signDocument(String documentHash, String privateKeyBase64) throws Exception {
-        byte[] privateKeyBytes = Base64.getDecoder().decode(privateKeyBase64);
-        PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(privateKeyBytes);
-        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-        PrivateKey privateKey = keyFactory.generatePrivate(keySpec);
-        
-        Signature signature = Signature.getInstance("SHA256withRSA");
-        signature.initSign(privateKey);
-        signature.update(documentHash.getBytes());
-        
-        byte[] signatureBytes = signature.sign();
+    private String signDocument(String documentHash, byte[] privateKeyBytes, SignatureAlgorithm algorithm) throws Exception {
+        PrivateKey privateKey = algorithm.privateKey(privateKeyBytes);
+        byte[] signatureBytes = algorithm.sign(privateKey, documentHash.getBytes(StandardCharsets.US_ASCII));
         return Base64.getEncoder().encodeToString(signatureBytes);
     }
 
     /**
      * 署名を検証
      */
-    private boolean verifyDocumentSignature(String documentHash, String signatureData, String publicKeyBase64) throws Exception {
-        byte[] publicKeyBytes = Base64.getDecoder().decode(publicKeyBase64);
-        X509EncodedKeySpec keySpec = new X509EncodedKeySpec(publicKeyBytes);
-        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-        PublicKey publicKey = keyFactory.generatePublic(keySpec);
-        
-        Signature signature = Signature.getInstance("SHA256withRSA");
-        signature.initVerify(publicKey);
-        signature.update(documentHash.getBytes());
-        
+    private boolean verifyDocumentSignature(String documentHash, String signatureData, PublicKey publicKey,
+                                            SignatureAlgorithm algorithm) throws Exception {
         byte[] signatureBytes = Base64.getDecoder().decode(signatureData);
-        return signature.verify(signatureBytes);
+        return algorithm.verify(publicKey, documentHash.getBytes(StandardCharsets.US_ASCII), signatureBytes);
     }
 }
@@ -1,14 +1,20 @@
 package com.realestate.service;
 
+import com.realestate.document.DocumentStore;
 import com.realestate.dto.DigitalTimestampDto;
 import com.realestate.entity.DigitalTimestamp;
 import com.realestate.repository.DigitalTimestampRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -16,16 +22,26 @@ public class DigitalTimestampService {
 
     private final DigitalTimestampRepository timestampRepository;
 
+    private final DocumentStore documentStore;
+
     /**
-     * 電子タイムスタンプを作成
+     * 電子タイムスタンプを作成（文書のハッシュを指定した場合は文書ストアに保存済みの文書が対象）
      */
     public DigitalTimestamp createTimestamp(DigitalTimestampDto timestampDto) {
+        String documentHash = timestampDto.getDocumentHash();
+        if (documentHash != null && documentStore.find(documentHash).isEmpty()) {
+            throw new IllegalArgumentException("文書が保存されていません: " + documentHash);
+        }
+
         DigitalTimestamp timestamp = new DigitalTimestamp();
         timestamp.setDocumentId(Long.parseLong(timestampDto.getDocumentId()));
         timestamp.setDocumentType(timestampDto.getDocumentType());
+        timestamp.setDocumentHash(documentHash);
         timestamp.setTimestampAt(LocalDateTime.now());
         timestamp.setTimestampCertificate(timestampDto.getTimestampCertificate());
         timestamp.setTimestampAuthority(timestampDto.getTimestampAuthority());
+        timestamp.setTimestampHash(generateTimestampHash(timestamp));
+        timestamp.setExpiresAt(timestamp.getTimestampAt().plusYears(10)); // 10年間有効
         timestamp.setStatus(DigitalTimestamp.TimestampStatus.ACTIVE);
         
         return timestampRepository.save(timestamp);
@@ -39,7 +55,13 @@ public class DigitalTimestampService {
         if (optionalTimestamp.isPresent()) {
             DigitalTimestamp timestamp = optionalTimestamp.get();
             // 基本的な検証ロジック（実際の実装ではより複雑な検証を行う）
-            return timestamp.getStatus() == DigitalTimestamp.TimestampStatus.ACTIVE;
+            if (timestamp.getStatus() != DigitalTimestamp.TimestampStatus.ACTIVE) {
+                return false;
+            }
+            // 対象文書が保存されている場合は、文書が改ざんされていないことを確認
+            String documentHash = timestamp.getDocumentHash();
+            return documentHash == null
+                    || (documentStore.find(documentHash).isPresent() && documentStore.verify(documentHash));
         }
         return false;
     }
@@ -83,4 +105,18 @@ public class DigitalTimestampService {
             timestampRepository.save(timestamp);
         }
     }
+
+    /**
+     * タイムスタンプのハッシュを生成
+     */
+    private String generateTimestampHash(DigitalTimestamp timestamp) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String content = timestamp.getDocumentId() + "|" + timestamp.getDocumentHash() + "|"
+                    + timestamp.getTimestampAt() + "|" + timestamp.getTimestampAuthority() + "|" + UUID.randomUUID();
+            return Base64.getEncoder().encodeToString(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
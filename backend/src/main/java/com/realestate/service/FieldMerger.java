@@ -0,0 +1,116 @@
+package com.realestate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestate.dto.PatchRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 項目単位マージコンポーネント
+ *
+ * 部分更新リクエストの変更項目をエンティティに適用します。
+ * リクエストのバージョンが現在のバージョンと異なる場合（読み込み後に他の更新があった場合）は、
+ * 変更項目ごとに次のいずれかを満たせば競合なしとしてそのまま適用します。
+ * <ul>
+ *   <li>読み込み時の値が指定されており、現在値がその値から変わっていない</li>
+ *   <li>現在値が既に新しい値と等しい</li>
+ * </ul>
+ * いずれも満たさない項目があれば {@link PatchConflictException} を送出し、エンティティは変更しません。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+@RequiredArgsConstructor
+public class FieldMerger {
+
+    // 値の型変換（JSONの値をDTOの項目型へ変換）
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 変更項目をエンティティへマージ
+     *
+     * @param entity 更新対象のエンティティ（最新の状態を読み込んだもの）
+     * @param currentVersion エンティティの現在のバージョン
+     * @param patch 部分更新リクエスト
+     * @param dtoType 値の型変換に使用するDTOクラス（項目名・型がエンティティと一致すること）
+     * @param patchable 変更可能な項目名
+     * @param nullable nullを設定可能な項目名
+     * @throws IllegalArgumentException リクエストが不正な場合
+     * @throws PatchConflictException 他の更新と競合した場合
+     */
+    public void merge(Object entity, Long currentVersion, PatchRequestDto patch, Class<?> dtoType,
+                      Set<String> patchable, Set<String> nullable) {
+        if (patch == null || patch.getVersion() == null) {
+            throw new IllegalArgumentException("versionは必須です");
+        }
+        Map<String, Object> changes = patch.getChanges();
+        if (changes == null || changes.isEmpty()) {
+            throw new IllegalArgumentException("changesに変更する項目を指定してください");
+        }
+        Map<String, Object> original = patch.getOriginal() != null ? patch.getOriginal() : Map.of();
+        validateFields(changes.keySet(), patchable);
+        validateFields(original.keySet(), patchable);
+
+        BeanWrapper changed = convert(changes, dtoType);
+        BeanWrapper loaded = convert(original, dtoType);
+        BeanWrapper target = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+
+        for (String field : changes.keySet()) {
+            if (changed.getPropertyValue(field) == null && !nullable.contains(field)) {
+                throw new IllegalArgumentException(field + "にnullは指定できません");
+            }
+        }
+
+        if (!patch.getVersion().equals(currentVersion)) {
+            List<String> conflicts = new ArrayList<>();
+            for (String field : changes.keySet()) {
+                Object current = target.getPropertyValue(field);
+                boolean unchangedSinceRead = original.containsKey(field)
+                        && valueEquals(loaded.getPropertyValue(field), current);
+                if (!unchangedSinceRead && !valueEquals(current, changed.getPropertyValue(field))) {
+                    conflicts.add(field);
+                }
+            }
+            if (!conflicts.isEmpty()) {
+                throw new PatchConflictException(conflicts, currentVersion);
+            }
+        }
+
+        for (String field : changes.keySet()) {
+            target.setPropertyValue(field, changed.getPropertyValue(field));
+        }
+    }
+
+    private static void validateFields(Set<String> fields, Set<String> patchable) {
+        for (String field : fields) {
+            if (!patchable.contains(field)) {
+                throw new IllegalArgumentException("変更できない項目です: " + field);
+            }
+        }
+    }
+
+    private BeanWrapper convert(Map<String, Object> values, Class<?> dtoType) {
+        return PropertyAccessorFactory.forBeanPropertyAccess(objectMapper.convertValue(values, dtoType));
+    }
+
+    /**
+     * 値の比較（金額・面積などの小数はスケールを無視して比較）
+     */
+    private static boolean valueEquals(Object a, Object b) {
+        if (a instanceof BigDecimal x && b instanceof BigDecimal y) {
+            return x.compareTo(y) == 0;
+        }
+        return Objects.equals(a, b);
+    }
+}
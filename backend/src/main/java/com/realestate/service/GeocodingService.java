@@ -0,0 +1,119 @@
+package com.realestate.service;
+
+import com.realestate.entity.Property;
+import com.realestate.search.GeoPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 住所座標変換サービス（オフライン）
+ *
+ * クラスパス上の住所座標テーブル（geocode/address-coordinates.csv）を起動時に読み込み、
+ * 住所・駅名から緯度経度を求めます。外部のジオコーディングAPIは使用しません。
+ * 住所は前方からの最長一致で解決するため、番地まで登録されていなくても
+ * 丁目・町名・市区町村の単位で座標を返します。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+public class GeocodingService {
+
+    private static final Logger log = LoggerFactory.getLogger(GeocodingService.class);
+
+    /**
+     * 住所座標テーブルの場所
+     */
+    private static final String TABLE_LOCATION = "classpath:geocode/address-coordinates.csv";
+
+    /**
+     * 正規化済みの住所・地名 → 座標
+     */
+    private final Map<String, GeoPoint> table;
+
+    public GeocodingService(ResourceLoader resourceLoader) {
+        this.table = loadTable(resourceLoader.getResource(TABLE_LOCATION));
+        log.info("住所座標テーブルを読み込みました: {}件", table.size());
+    }
+
+    /**
+     * 住所または地名から座標を取得
+     * @param addressOrPlace 住所または地名（駅名など）
+     * @return 座標（テーブルに該当がない場合は空）
+     */
+    public Optional<GeoPoint> geocode(String addressOrPlace) {
+        if (addressOrPlace == null || addressOrPlace.isBlank()) {
+            return Optional.empty();
+        }
+        String key = normalize(addressOrPlace);
+        // 最長一致（番地の途中で切れた一致は採用しない）
+        for (int end = key.length(); end > 0; end--) {
+            if (end < key.length() && Character.isDigit(key.charAt(end)) && Character.isDigit(key.charAt(end - 1))) {
+                continue;
+            }
+            GeoPoint point = table.get(key.substring(0, end));
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 座標が未設定の物件に住所から求めた座標を設定
+     * @param property 物件エンティティ
+     */
+    public void applyCoordinates(Property property) {
+        if (property.getLatitude() != null && property.getLongitude() != null) {
+            return;
+        }
+        geocode(property.getAddress()).ifPresent(point -> {
+            property.setLatitude(point.latitude());
+            property.setLongitude(point.longitude());
+        });
+    }
+
+    /**
+     * 住所表記の正規化（全角英数字の半角化・空白除去）
+     */
+    private static String normalize(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFKC).replaceAll("\\s+", "");
+    }
+
+    private static Map<String, GeoPoint> loadTable(Resource resource) {
+        Map<String, GeoPoint> entries = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length != 3) {
+                    log.warn("住所座標テーブルの不正な行をスキップしました: {}", line);
+                    continue;
+                }
+                entries.put(normalize(columns[0]), new GeoPoint(
+                        Double.parseDouble(columns[1].trim()), Double.parseDouble(columns[2].trim())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("住所座標テーブルの読み込みに失敗しました: " + TABLE_LOCATION, e);
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,62 @@
+package com.realestate.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 楽観的排他制御の再試行コンポーネント
+ *
+ * 処理を新しいトランザクションで実行し、コミット時にバージョン競合が検出された場合は
+ * 最新の状態を読み直して再実行します。項目単位で競合した場合（{@link PatchConflictException}）は
+ * 再試行しても結果が変わらないため、そのまま呼び出し元へ伝えます。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class OptimisticRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 最大試行回数
+     */
+    private final int maxAttempts;
+
+    public OptimisticRetry(PlatformTransactionManager transactionManager,
+                           @Value("${app.optimistic-lock.max-attempts:3}") int maxAttempts) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * 処理をトランザクション内で実行（バージョン競合時は再試行）
+     *
+     * @param action 実行する処理（再試行のたびに最新の状態を読み込むこと）
+     * @return 処理結果
+     */
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (PatchConflictException e) {
+                throw e;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("バージョン競合のため再試行します: {}/{}", attempt, maxAttempts);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.realestate.service;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
+
+/**
+ * 部分更新の競合例外
+ * 読み込み後に他の更新で変更された項目を、リクエストでも変更しようとした場合に発生します。
+ * 再試行しても解消しないため、{@link OptimisticRetry} は再試行せずに呼び出し元へ伝えます
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public class PatchConflictException extends OptimisticLockingFailureException {
+
+    private final List<String> fields;
+
+    private final Long currentVersion;
+
+    public PatchConflictException(List<String> fields, Long currentVersion) {
+        super("他の更新と競合しました: " + fields);
+        this.fields = List.copyOf(fields);
+        this.currentVersion = currentVersion;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
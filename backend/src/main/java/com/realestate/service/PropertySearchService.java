@@ -0,0 +1,220 @@
+package com.realestate.service;
+
+import com.realestate.dto.PropertyDto;
+import com.realestate.dto.PropertyFacetSearchDto;
+import com.realestate.dto.PropertyGeoResultDto;
+import com.realestate.dto.PropertyPageDto;
+import com.realestate.repository.PropertyRepository;
+import com.realestate.search.BitmapSearchResult;
+import com.realestate.search.FacetSearchResult;
+import com.realestate.search.GeoPoint;
+import com.realestate.search.PropertyBitmapIndex;
+import com.realestate.search.PropertyCondition;
+import com.realestate.search.PropertyFacet;
+import com.realestate.search.PropertyFacetIndex;
+import com.realestate.search.PropertyFilter;
+import com.realestate.search.PropertyTextIndex;
+import com.realestate.search.PropertySpatialIndex;
+import com.realestate.search.SpatialHit;
+import com.realestate.search.TextHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 物件検索サービスクラス
+ * メモリ上の検索インデックスを使用した物件検索を提供します
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PropertySearchService {
+
+    /**
+     * 最大件数の既定値
+     */
+    static final int DEFAULT_LIMIT = 100;
+
+    /**
+     * キーワード検索の最大件数の既定値
+     */
+    static final int DEFAULT_TEXT_LIMIT = 20;
+
+    /**
+     * 最大件数の上限
+     */
+    static final int MAX_LIMIT = 1000;
+
+    /**
+     * 検索半径の上限（メートル）
+     */
+    static final double MAX_RADIUS_METERS = 50_000;
+
+    // 物件の空間インデックス
+    private final PropertySpatialIndex spatialIndex;
+
+    // 物件のファセットインデックス
+    private final PropertyFacetIndex facetIndex;
+
+    // 物件のビットマップインデックス
+    private final PropertyBitmapIndex bitmapIndex;
+
+    // 物件の全文検索インデックス
+    private final PropertyTextIndex textIndex;
+
+    // 住所座標変換サービス
+    private final GeocodingService geocodingService;
+
+    // 物件リポジトリ（検索結果の物件情報取得用）
+    private final PropertyRepository propertyRepository;
+
+    /**
+     * キーワードによる物件の検索（物件名・住所・物件説明を対象に関連度の高い順）
+     * @param query 検索キーワード
+     * @param limit 最大件数（未指定時は20件）
+     * @return 該当する物件DTOのリスト（関連度の降順）
+     */
+    public List<PropertyDto> searchText(String query, Integer limit) {
+        int max = limit == null || limit <= 0 ? DEFAULT_TEXT_LIMIT : Math.min(limit, MAX_LIMIT);
+        List<TextHit> hits = textIndex.search(query, max);
+        return findInOrder(hits.stream().map(TextHit::propertyId).collect(Collectors.toList()));
+    }
+
+    /**
+     * 中心点から指定半径内の物件を近い順に検索
+     * @param latitude 中心点の緯度（nearを指定しない場合は必須）
+     * @param longitude 中心点の経度（nearを指定しない場合は必須）
+     * @param near 中心点の地名・住所（例: 表参道駅）
+     * @param radiusMeters 半径（メートル）
+     * @param filter 絞り込み条件
+     * @param limit 最大件数
+     * @return 検索結果（距離の昇順）
+     * @throws IllegalArgumentException 中心点を特定できない場合、または半径が範囲外の場合
+     */
+    public List<PropertyGeoResultDto> searchNearby(Double latitude, Double longitude, String near,
+                                                   double radiusMeters, PropertyFilter filter, Integer limit) {
+        if (radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+            throw new IllegalArgumentException("検索半径は0より大きく" + (int) MAX_RADIUS_METERS + "m以下で指定してください");
+        }
+        GeoPoint center = resolveCenter(latitude, longitude, near);
+        return toResults(spatialIndex.withinRadius(center, radiusMeters, filter, normalizeLimit(limit)));
+    }
+
+    /**
+     * 矩形範囲内の物件を検索（地図表示範囲での検索用）
+     * @param minLatitude 南端の緯度
+     * @param minLongitude 西端の経度
+     * @param maxLatitude 北端の緯度
+     * @param maxLongitude 東端の経度
+     * @param filter 絞り込み条件
+     * @param limit 最大件数
+     * @return 検索結果（矩形の中心からの距離の昇順）
+     * @throws IllegalArgumentException 範囲指定が不正な場合
+     */
+    public List<PropertyGeoResultDto> searchWithinBox(double minLatitude, double minLongitude,
+                                                      double maxLatitude, double maxLongitude,
+                                                      PropertyFilter filter, Integer limit) {
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("範囲の南西端は北東端より小さい値で指定してください");
+        }
+        return toResults(spatialIndex.withinBox(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                filter, normalizeLimit(limit)));
+    }
+
+    /**
+     * ファセット値による絞り込みと全ファセットの件数集計
+     * @param selections ファセット → 選択された値（同一ファセット内はOR、ファセット間はAND）
+     * @param limit 返却する物件の最大件数
+     * @return 検索結果とファセット値ごとの件数
+     */
+    public PropertyFacetSearchDto searchFacets(Map<PropertyFacet, Set<String>> selections, Integer limit) {
+        FacetSearchResult result = facetIndex.search(selections, normalizeLimit(limit));
+
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        result.counts().forEach((facet, counts) -> facets.put(facet.getParameterName(), counts));
+        return new PropertyFacetSearchDto(result.totalHits(), facets, findInOrder(result.propertyIds()));
+    }
+
+    /**
+     * 条件式（AND・OR・NOTの組み合わせ）に一致する物件をページ単位で検索
+     * @param condition 条件式（nullの場合は全物件）
+     * @param page ページ番号（0始まり）
+     * @param size 1ページあたりの件数
+     * @return 一致件数と該当ページの物件
+     * @throws IllegalArgumentException 条件式・ページ指定が不正な場合
+     */
+    public PropertyPageDto searchByCondition(PropertyCondition condition, int page, int size) {
+        if (page < 0 || size <= 0 || size > MAX_LIMIT) {
+            throw new IllegalArgumentException("ページ番号は0以上、件数は1以上" + MAX_LIMIT + "以下で指定してください");
+        }
+        BitmapSearchResult result = bitmapIndex.search(condition, (int) Math.min((long) page * size, Integer.MAX_VALUE), size);
+        return new PropertyPageDto(result.totalHits(), page, size, findInOrder(result.propertyIds()));
+    }
+
+    private GeoPoint resolveCenter(Double latitude, Double longitude, String near) {
+        if (near != null && !near.isBlank()) {
+            return geocodingService.geocode(near)
+                    .orElseThrow(() -> new IllegalArgumentException("地名・住所の座標が見つかりません: " + near));
+        }
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("中心点の緯度・経度、または地名を指定してください");
+        }
+        return new GeoPoint(latitude, longitude);
+    }
+
+    private static int normalizeLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * インデックスの検索結果に物件情報を付与（検索結果の順序を維持）
+     */
+    private List<PropertyGeoResultDto> toResults(List<SpatialHit> hits) {
+        Map<Long, PropertyDto> properties = findByIds(hits.stream().map(SpatialHit::propertyId).collect(Collectors.toList()));
+        List<PropertyGeoResultDto> results = new ArrayList<>(hits.size());
+        for (SpatialHit hit : hits) {
+            PropertyDto property = properties.get(hit.propertyId());
+            if (property != null) {
+                results.add(new PropertyGeoResultDto(property, hit.distanceMeters()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 物件IDの順序どおりに物件情報を取得
+     */
+    private List<PropertyDto> findInOrder(List<Long> ids) {
+        Map<Long, PropertyDto> properties = findByIds(ids);
+        List<PropertyDto> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PropertyDto property = properties.get(id);
+            if (property != null) {
+                results.add(property);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 物件情報を主キー検索1回でまとめて取得
+     */
+    private Map<Long, PropertyDto> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return propertyRepository.findDtosByIdIn(ids).stream()
+                .collect(Collectors.toMap(PropertyDto::getId, Function.identity()));
+    }
+}
@@ -1,21 +1,30 @@
 package com.realestate.service;
 
+import com.realestate.dto.PatchRequestDto;
 import com.realestate.dto.PropertyDto;
 import com.realestate.entity.Property;
 import com.realestate.entity.Property.PropertyType;
 import com.realestate.entity.Property.PropertyStatus;
+import com.realestate.entity.OutboxEvent.AggregateType;
+import com.realestate.entity.OutboxEvent.EventType;
+import com.realestate.event.DomainEventPublisher;
+import com.realestate.mapper.PropertyMapper;
 import com.realestate.repository.PropertyRepository;
+import com.realestate.search.PropertyIndexRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 /**
  * 物件管理サービスクラス
@@ -28,19 +37,45 @@ public class PropertyService {
     
     private static final Logger log = LoggerFactory.getLogger(PropertyService.class);
     
+    // 部分更新で変更可能な項目
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("name", "address", "description", "type", "status",
+            "price", "area", "rooms", "bathrooms", "parkingSpaces", "yearBuilt", "latitude", "longitude");
+    
+    // 部分更新でnullを設定可能な項目
+    private static final Set<String> NULLABLE_FIELDS = Set.of("description", "latitude", "longitude");
+    
     // 物件リポジトリ（データアクセス層）
     private final PropertyRepository propertyRepository;
     
+    // 物件マッパー（エンティティ・DTO変換）
+    private final PropertyMapper propertyMapper;
+    
+    // 住所座標変換サービス（座標未指定時に住所から設定）
+    private final GeocodingService geocodingService;
+    
+    // 物件検索インデックス（作成・更新・削除時に差分更新）
+    private final PropertyIndexRegistry indexRegistry;
+    
+    // テーブル更新バージョン（一覧APIのETag生成用）
+    private final TableVersionService tableVersionService;
+    
+    // ドメインイベント記録（変更と同じトランザクションでアウトボックスへ記録）
+    private final DomainEventPublisher domainEventPublisher;
+    
+    // 項目単位マージ（部分更新用）
+    private final FieldMerger fieldMerger;
+    
+    // バージョン競合時の再試行（部分更新用）
+    private final OptimisticRetry optimisticRetry;
+    
     /**
      * 全ての物件を取得
      * @return 物件DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<PropertyDto> getAllProperties() {
         try {
-            List<Property> properties = propertyRepository.findAll();
-            return properties.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+            return propertyRepository.findAllDtos();
         } catch (Exception e) {
             log.error("物件データの取得に失敗しました", e);
             // エラー時は空のリストを返す
@@ -55,7 +90,7 @@ public class PropertyService {
      */
     public Optional<PropertyDto> getPropertyById(Long id) {
         return propertyRepository.findById(id)
-            .map(this::convertToDto);
+            .map(propertyMapper::toDto);
     }
     
     /**
@@ -63,10 +98,9 @@ public class PropertyService {
      * @param type 物件タイプ（マンション、一戸建て、土地など）
      * @return 該当する物件DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<PropertyDto> getPropertiesByType(PropertyType type) {
-        return propertyRepository.findByType(type).stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return propertyRepository.findDtosByType(type);
     }
     
     /**
@@ -74,30 +108,9 @@ public class PropertyService {
      * @param status 物件ステータス（販売中、売約済み、賃貸中など）
      * @return 該当する物件DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<PropertyDto> getPropertiesByStatus(PropertyStatus status) {
-        return propertyRepository.findByStatus(status).stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
-    }
-    
-    /**
-     * キーワードによる物件の検索
-     * @param query 検索キーワード
-     * @return 該当する物件DTOのリスト
-     */
-    public List<PropertyDto> searchProperties(String query) {
-        try {
-            List<Property> properties = propertyRepository.findByNameContainingIgnoreCase(query);
-            properties.addAll(propertyRepository.findByAddressContainingIgnoreCase(query));
-            return properties.stream()
-                .distinct()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("物件検索に失敗しました: {}", query, e);
-            // エラー時は空のリストを返す
-            return new ArrayList<>();
-        }
+        return propertyRepository.findDtosByStatus(status);
     }
     
     /**
@@ -110,14 +123,12 @@ public class PropertyService {
      * @param maxArea 最大面積
      * @return 該当する物件DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<PropertyDto> getPropertiesByCriteria(
             PropertyType type, PropertyStatus status, 
             BigDecimal minPrice, BigDecimal maxPrice,
             BigDecimal minArea, BigDecimal maxArea) {
-        return propertyRepository.findPropertiesByCriteria(type, status, minPrice, maxPrice, minArea, maxArea)
-            .stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return propertyRepository.findDtosByCriteria(type, status, minPrice, maxPrice, minArea, maxArea);
     }
     
     /**
@@ -126,9 +137,13 @@ public class PropertyService {
      * @return 作成された物件DTO
      */
     public PropertyDto createProperty(PropertyDto propertyDto) {
-        Property property = convertToEntity(propertyDto);
+        Property property = propertyMapper.toEntity(propertyDto);
+        geocodingService.applyCoordinates(property);
         Property savedProperty = propertyRepository.save(property);
-        return convertToDto(savedProperty);
+        indexRegistry.propertySaved(savedProperty);
+        tableVersionService.bump(TableVersionService.Table.PROPERTIES);
+        domainEventPublisher.record(AggregateType.PROPERTY, savedProperty.getId(), EventType.CREATED);
+        return propertyMapper.toDto(savedProperty);
     }
     
     /**
@@ -140,12 +155,61 @@ public class PropertyService {
     public Optional<PropertyDto> updateProperty(Long id, PropertyDto propertyDto) {
         return propertyRepository.findById(id)
             .map(existingProperty -> {
-                updatePropertyFields(existingProperty, propertyDto);
-                Property savedProperty = propertyRepository.save(existingProperty);
-                return convertToDto(savedProperty);
+                // 読み込み時のバージョンが指定されている場合は、他の更新が無いことを確認
+                if (propertyDto.getVersion() != null
+                        && !propertyDto.getVersion().equals(existingProperty.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(Property.class, id);
+                }
+                String previousAddress = existingProperty.getAddress();
+                propertyMapper.updateEntity(propertyDto, existingProperty);
+                // 住所のみ変更された場合は座標を住所から再設定
+                if (!Objects.equals(existingProperty.getAddress(), previousAddress)
+                        && propertyDto.getLatitude() == null && propertyDto.getLongitude() == null) {
+                    existingProperty.setLatitude(null);
+                    existingProperty.setLongitude(null);
+                }
+                geocodingService.applyCoordinates(existingProperty);
+                // 更新後のバージョンを応答に含めるため即時に反映
+                Property savedProperty = propertyRepository.saveAndFlush(existingProperty);
+                indexRegistry.propertySaved(savedProperty);
+                tableVersionService.bump(TableVersionService.Table.PROPERTIES);
+                domainEventPublisher.record(AggregateType.PROPERTY, savedProperty.getId(), EventType.UPDATED);
+                return propertyMapper.toDto(savedProperty);
             });
     }
     
+    /**
+     * 物件の部分更新（項目単位のマージ）
+     * 読み込み後に他の更新があっても、変更項目が重ならなければ自動的にマージして適用します。
+     * 保存時にバージョン競合が発生した場合は最新の状態を読み直して再試行します
+     * @param id 更新対象の物件ID
+     * @param patch 部分更新リクエスト
+     * @return 更新された物件DTO（存在しない場合は空）
+     * @throws PatchConflictException 他の更新と同じ項目を変更しようとした場合
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<PropertyDto> patchProperty(Long id, PatchRequestDto patch) {
+        return optimisticRetry.execute(() -> propertyRepository.findById(id)
+            .map(existingProperty -> {
+                String previousAddress = existingProperty.getAddress();
+                fieldMerger.merge(existingProperty, existingProperty.getVersion(), patch, PropertyDto.class,
+                        PATCHABLE_FIELDS, NULLABLE_FIELDS);
+                // 住所のみ変更された場合は座標を住所から再設定
+                if (!Objects.equals(existingProperty.getAddress(), previousAddress)
+                        && !patch.getChanges().containsKey("latitude")
+                        && !patch.getChanges().containsKey("longitude")) {
+                    existingProperty.setLatitude(null);
+                    existingProperty.setLongitude(null);
+                }
+                geocodingService.applyCoordinates(existingProperty);
+                Property savedProperty = propertyRepository.saveAndFlush(existingProperty);
+                indexRegistry.propertySaved(savedProperty);
+                tableVersionService.bump(TableVersionService.Table.PROPERTIES);
+                domainEventPublisher.record(AggregateType.PROPERTY, savedProperty.getId(), EventType.UPDATED);
+                return propertyMapper.toDto(savedProperty);
+            }));
+    }
+    
     /**
      * 物件の削除
      * @param id 削除対象の物件ID
@@ -154,72 +218,11 @@ public class PropertyService {
     public boolean deleteProperty(Long id) {
         if (propertyRepository.existsById(id)) {
             propertyRepository.deleteById(id);
+            indexRegistry.propertyDeleted(id);
+            tableVersionService.bump(TableVersionService.Table.PROPERTIES);
+            domainEventPublisher.record(AggregateType.PROPERTY, id, EventType.DELETED);
             return true;
         }
         return false;
     }
-    
-    /**
-     * 物件DTOをエンティティに変換
-     * @param dto 物件DTO
-     * @return 物件エンティティ
-     */
-    private Property convertToEntity(PropertyDto dto) {
-        Property property = new Property();
-        property.setName(dto.getName());
-        property.setAddress(dto.getAddress());
-        property.setDescription(dto.getDescription());
-        property.setType(dto.getType());
-        property.setStatus(dto.getStatus());
-        property.setPrice(dto.getPrice());
-        property.setArea(dto.getArea());
-        property.setRooms(dto.getRooms());
-        property.setBathrooms(dto.getBathrooms());
-        property.setParkingSpaces(dto.getParkingSpaces());
-        property.setYearBuilt(dto.getYearBuilt());
-        return property;
-    }
-    
-    /**
-     * 物件エンティティをDTOに変換
-     * @param property 物件エンティティ
-     * @return 物件DTO
-     */
-    private PropertyDto convertToDto(Property property) {
-        return new PropertyDto(
-            property.getId(),
-            property.getName(),
-            property.getAddress(),
-            property.getDescription(),
-            property.getType(),
-            property.getStatus(),
-            property.getPrice(),
-            property.getArea(),
-            property.getRooms(),
-            property.getBathrooms(),
-            property.getParkingSpaces(),
-            property.getYearBuilt(),
-            property.getCreatedAt(),
-            property.getUpdatedAt()
-        );
-    }
-    
-    /**
-     * 物件フィールドの更新
-     * @param existingProperty 既存の物件エンティティ
-     * @param dto 更新する物件情報DTO
-     */
-    private void updatePropertyFields(Property existingProperty, PropertyDto dto) {
-        if (dto.getName() != null) existingProperty.setName(dto.getName());
-        if (dto.getAddress() != null) existingProperty.setAddress(dto.getAddress());
-        if (dto.getDescription() != null) existingProperty.setDescription(dto.getDescription());
-        if (dto.getType() != null) existingProperty.setType(dto.getType());
-        if (dto.getStatus() != null) existingProperty.setStatus(dto.getStatus());
-        if (dto.getPrice() != null) existingProperty.setPrice(dto.getPrice());
-        if (dto.getArea() != null) existingProperty.setArea(dto.getArea());
-        if (dto.getRooms() != null) existingProperty.setRooms(dto.getRooms());
-        if (dto.getBathrooms() != null) existingProperty.setBathrooms(dto.getBathrooms());
-        if (dto.getParkingSpaces() != null) existingProperty.setParkingSpaces(dto.getParkingSpaces());
-        if (dto.getYearBuilt() != null) existingProperty.setYearBuilt(dto.getYearBuilt());
-    }
 }
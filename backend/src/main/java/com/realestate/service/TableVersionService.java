@@ -0,0 +1,63 @@
+package com.realestate.service;
+
+import com.realestate.search.AfterCommit;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * テーブル更新バージョン管理サービスクラス
+ * 物件・顧客・契約テーブル（および契約一覧ビュー）ごとの更新カウンタを保持し、一覧APIのETag生成に使用します
+ *
+ * 各サービスの更新メソッドがコミット後にカウンタを進めます。
+ * 再起動時にETagが以前の値と衝突しないよう、カウンタの初期値は起動時刻（ミリ秒）とします。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+public class TableVersionService {
+
+    /**
+     * バージョン管理対象のテーブル
+     */
+    public enum Table {
+        /** 物件 */
+        PROPERTIES,
+        /** 顧客 */
+        CLIENTS,
+        /** 契約 */
+        CONTRACTS,
+        /** 契約一覧ビュー（読み取りモデル） */
+        CONTRACT_LIST_VIEW
+    }
+
+    private final Map<Table, AtomicLong> versions = new EnumMap<>(Table.class);
+
+    public TableVersionService() {
+        long initial = System.currentTimeMillis();
+        for (Table table : Table.values()) {
+            versions.put(table, new AtomicLong(initial));
+        }
+    }
+
+    /**
+     * 現在のバージョンを取得
+     * @param table テーブル
+     * @return バージョン
+     */
+    public long current(Table table) {
+        return versions.get(table).get();
+    }
+
+    /**
+     * テーブルの更新を記録（トランザクション内の場合はコミット後にカウンタを進める）
+     * @param table 更新されたテーブル
+     */
+    public void bump(Table table) {
+        AfterCommit.run(() -> versions.get(table).incrementAndGet());
+    }
+}
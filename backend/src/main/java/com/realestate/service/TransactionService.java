@@ -1,19 +1,27 @@
 package com.realestate.service;
 
+import com.realestate.archive.TransactionArchiveQuery;
+import com.realestate.archive.TransactionArchiveService;
 import com.realestate.dto.TransactionDto;
 import com.realestate.entity.Transaction;
 import com.realestate.entity.Transaction.TransactionType;
 import com.realestate.entity.Transaction.TransactionStatus;
 import com.realestate.entity.Contract;
+import com.realestate.entity.OutboxEvent.AggregateType;
+import com.realestate.entity.OutboxEvent.EventType;
+import com.realestate.event.DomainEventPublisher;
+import com.realestate.mapper.TransactionMapper;
 import com.realestate.repository.TransactionRepository;
 import com.realestate.repository.ContractRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 取引管理サービスクラス
@@ -27,71 +35,127 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     // 契約リポジトリ（契約情報の取得用）
     private final ContractRepository contractRepository;
+    // 取引マッパー（エンティティ・DTO変換）
+    private final TransactionMapper transactionMapper;
+    // ドメインイベント記録（変更と同じトランザクションでアウトボックスへ記録）
+    private final DomainEventPublisher domainEventPublisher;
+    // 取引アーカイブ（締め済みの月の取引の検索・締め済み期間の確認）
+    private final TransactionArchiveService transactionArchiveService;
 
     /**
-     * 全ての取引を取得
+     * 全ての取引を取得（アーカイブ済みの取引を含む）
      * @return 取引DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<TransactionDto> getAllTransactions() {
-        return transactionRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        List<TransactionDto> transactions = new ArrayList<>(
+                transactionArchiveService.find(TransactionArchiveQuery.all()));
+        transactions.addAll(transactionRepository.findAllDtos());
+        return transactions;
     }
 
     /**
-     * IDによる取引の取得
+     * IDによる取引の取得（アーカイブ済みの取引を含む）
      * @param id 取引ID
      * @return 取引DTO（存在しない場合は空）
      */
     public Optional<TransactionDto> getTransactionById(Long id) {
-        return transactionRepository.findById(id)
-                .map(this::convertToDto);
+        Optional<TransactionDto> transaction = transactionRepository.findById(id)
+                .map(transactionMapper::toDto);
+        if (transaction.isPresent()) {
+            return transaction;
+        }
+        return transactionArchiveService.find(TransactionArchiveQuery.byId(id)).stream().findFirst();
     }
 
     /**
-     * 契約IDによる取引の検索
+     * 契約IDによる取引の検索（アーカイブ済みの取引を含む）
      * @param contractId 契約ID
      * @return 該当する取引DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<TransactionDto> getTransactionsByContractId(Long contractId) {
-        return transactionRepository.findByContract_Id(contractId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        List<TransactionDto> transactions = new ArrayList<>(
+                transactionArchiveService.find(TransactionArchiveQuery.byContractId(contractId)));
+        transactions.addAll(transactionRepository.findDtosByContractId(contractId));
+        return transactions;
     }
 
     /**
-     * 取引タイプによる取引の検索
+     * 期間と条件による取引の検索（アーカイブ済みの取引を含む）
+     * 期間と重ならない月のアーカイブは読み込みません
+     * @param from 取引日時の下限（この日時を含む）
+     * @param to 取引日時の上限（この日時を含まない）
+     * @param type 取引タイプ（nullは条件なし）
+     * @param status 取引ステータス（nullは条件なし）
+     * @param minAmount 金額の下限（nullは条件なし）
+     * @param maxAmount 金額の上限（nullは条件なし）
+     * @return 該当する取引DTOのリスト（取引日時順）
+     */
+    @Transactional(readOnly = true)
+    public List<TransactionDto> searchTransactions(LocalDateTime from, LocalDateTime to,
+                                                   TransactionType type, TransactionStatus status,
+                                                   BigDecimal minAmount, BigDecimal maxAmount) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("期間の開始は終了より前を指定してください");
+        }
+        List<TransactionDto> transactions = new ArrayList<>();
+        if (transactionArchiveService.closedBefore().filter(from::isBefore).isPresent()) {
+            transactions.addAll(transactionArchiveService.find(new TransactionArchiveQuery(
+                    null, null, from, to, type, status, minAmount, maxAmount)));
+        }
+        transactions.addAll(transactionRepository.findDtosByPeriod(from, to, type, status, minAmount, maxAmount));
+        return transactions;
+    }
+
+    /**
+     * 取引タイプによる取引の検索（アーカイブ済みの取引を含む）
+     * 取引タイプを含まない月のアーカイブは読み込みません
      * @param type 取引タイプ（入金、出金、手数料など）
      * @return 該当する取引DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<TransactionDto> getTransactionsByType(TransactionType type) {
-        return transactionRepository.findByType(type).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        List<TransactionDto> transactions = new ArrayList<>(
+                transactionArchiveService.find(TransactionArchiveQuery.byType(type)));
+        transactions.addAll(transactionRepository.findDtosByType(type));
+        return transactions;
     }
 
     /**
-     * 取引ステータスによる取引の検索
+     * 取引ステータスによる取引の検索（アーカイブ済みの取引を含む）
+     * 取引ステータスを含まない月のアーカイブは読み込みません
      * @param status 取引ステータス（完了、処理中、エラーなど）
      * @return 該当する取引DTOのリスト
      */
+    @Transactional(readOnly = true)
     public List<TransactionDto> getTransactionsByStatus(TransactionStatus status) {
-        return transactionRepository.findByStatus(status).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        List<TransactionDto> transactions = new ArrayList<>(
+                transactionArchiveService.find(TransactionArchiveQuery.byStatus(status)));
+        transactions.addAll(transactionRepository.findDtosByStatus(status));
+        return transactions;
     }
 
     /**
      * 新規取引の作成
      * @param transactionDto 取引情報DTO
      * @return 作成された取引DTO
+     * @throws IllegalArgumentException 取引日時が締め済みの期間の場合
      */
+    @Transactional
     public TransactionDto createTransaction(TransactionDto transactionDto) {
-        Transaction transaction = convertToEntity(transactionDto);
+        transactionArchiveService.checkOpen(transactionDto.getTransactionDate());
+        Transaction transaction = transactionMapper.toEntity(transactionDto);
+        // 契約オブジェクトの設定（IDから契約エンティティを取得）
+        if (transactionDto.getContractId() != null) {
+            Optional<Contract> contract = contractRepository.findById(transactionDto.getContractId());
+            contract.ifPresent(transaction::setContract);
+        }
         transaction.setCreatedAt(LocalDateTime.now());
         transaction.setUpdatedAt(LocalDateTime.now());
         Transaction savedTransaction = transactionRepository.save(transaction);
-        return convertToDto(savedTransaction);
+        domainEventPublisher.record(AggregateType.TRANSACTION, savedTransaction.getId(), EventType.CREATED);
+        return transactionMapper.toDto(savedTransaction);
     }
 
     /**
@@ -99,8 +163,11 @@ public class TransactionService {
      * @param id 更新対象の取引ID
      * @param transactionDto 更新する取引情報DTO
      * @return 更新された取引DTO（存在しない場合は空）
+     * @throws IllegalArgumentException 取引日時が締め済みの期間の場合
      */
+    @Transactional
     public Optional<TransactionDto> updateTransaction(Long id, TransactionDto transactionDto) {
+        transactionArchiveService.checkOpen(transactionDto.getTransactionDate());
         return transactionRepository.findById(id)
                 .map(existingTransaction -> {
                     // 契約オブジェクトの取得（IDから契約エンティティを取得）
@@ -116,7 +183,8 @@ public class TransactionService {
                     existingTransaction.setStatus(transactionDto.getStatus());
                     existingTransaction.setUpdatedAt(LocalDateTime.now());
                     Transaction savedTransaction = transactionRepository.save(existingTransaction);
-                    return convertToDto(savedTransaction);
+                    domainEventPublisher.record(AggregateType.TRANSACTION, savedTransaction.getId(), EventType.UPDATED);
+                    return transactionMapper.toDto(savedTransaction);
                 });
     }
 
@@ -125,57 +193,13 @@ public class TransactionService {
      * @param id 削除対象の取引ID
      * @return 削除成功時true、存在しない場合はfalse
      */
+    @Transactional
     public boolean deleteTransaction(Long id) {
         if (transactionRepository.existsById(id)) {
             transactionRepository.deleteById(id);
+            domainEventPublisher.record(AggregateType.TRANSACTION, id, EventType.DELETED);
             return true;
         }
         return false;
     }
-
-    /**
-     * 取引エンティティをDTOに変換
-     * @param transaction 取引エンティティ
-     * @return 取引DTO
-     */
-    private TransactionDto convertToDto(Transaction transaction) {
-        TransactionDto dto = new TransactionDto();
-        dto.setId(transaction.getId());
-        // 契約IDの設定（契約エンティティからIDを取得）
-        dto.setContractId(transaction.getContract() != null ? transaction.getContract().getId() : null);
-        dto.setType(transaction.getType());
-        dto.setAmount(transaction.getAmount());
-        dto.setTransactionDate(transaction.getTransactionDate());
-        dto.setDescription(transaction.getDescription());
-        dto.setStatus(transaction.getStatus());
-        dto.setCreatedAt(transaction.getCreatedAt());
-        dto.setUpdatedAt(transaction.getUpdatedAt());
-        return dto;
-    }
-
-    /**
-     * 取引DTOをエンティティに変換
-     * @param dto 取引DTO
-     * @return 取引エンティティ
-     */
-    private Transaction convertToEntity(TransactionDto dto) {
-        Transaction transaction = new Transaction();
-        transaction.setId(dto.getId());
-        
-        // 契約オブジェクトの設定（IDから契約エンティティを取得）
-        if (dto.getContractId() != null) {
-            Optional<Contract> contract = contractRepository.findById(dto.getContractId());
-            contract.ifPresent(transaction::setContract);
-        }
-        
-        // 取引基本情報の設定
-        transaction.setType(dto.getType());
-        transaction.setAmount(dto.getAmount());
-        transaction.setTransactionDate(dto.getTransactionDate());
-        transaction.setDescription(dto.getDescription());
-        transaction.setStatus(dto.getStatus());
-        transaction.setCreatedAt(dto.getCreatedAt());
-        transaction.setUpdatedAt(dto.getUpdatedAt());
-        return transaction;
-    }
 }
@@ -0,0 +1,20 @@
+package com.realestate.signature;
+
+import java.security.cert.X509Certificate;
+
+/**
+ * 署名者の証明書の検証結果
+ *
+ * @param status 検証結果
+ * @param certificate 署名者の証明書（形式が不正な場合はnull）
+ * @param message 検証結果の詳細
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record CertificateCheck(CertificateStatus status, X509Certificate certificate, String message) {
+
+    public boolean valid() {
+        return status == CertificateStatus.VALID;
+    }
+}
@@ -0,0 +1,18 @@
+package com.realestate.signature;
+
+/**
+ * 署名者の証明書の検証結果
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public enum CertificateStatus {
+    VALID,              // 有効
+    INVALID,            // 形式が不正
+    UNTRUSTED,          // トラストアンカーまでの証明書パスを構築・検証できない
+    NOT_YET_VALID,      // 有効期間の開始前
+    EXPIRED,            // 有効期限切れ
+    REVOKED,            // 失効
+    REVOCATION_UNKNOWN  // 発行者の有効なCRLが無く、失効状況を判定できない
+}
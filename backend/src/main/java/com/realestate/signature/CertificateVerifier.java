@@ -0,0 +1,315 @@
+package com.realestate.signature;
+
+import com.realestate.dto.PkiStatusDto;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.cert.CertPath;
+import java.security.cert.CertPathValidator;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.PKIXCertPathValidatorResult;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 署名者の証明書の検証
+ *
+ * 署名者の証明書チェーン（PEM、署名者の証明書が先頭）について、トラストアンカーまでの証明書パス、
+ * 有効期間、失効状況を検証します。
+ *
+ * <ul>
+ *   <li>証明書パスの検証結果は証明書チェーンごとにキャッシュし、同じ証明書での再検証ではパスを再構築しません
+ *       （トラストアンカーが変更された場合はキャッシュを破棄）</li>
+ *   <li>失効状況はパスの検証から切り離し、ローカルに配置したCRLから作成した {@link RevocationIndex} で毎回判定します
+ *       （CRLの更新はキャッシュの有効期間を待たずに反映）</li>
+ *   <li>パス上のいずれかの証明書の発行者に現在有効なCRLが無い場合は、失効していないと見なさず
+ *       {@link CertificateStatus#REVOCATION_UNKNOWN} とします</li>
+ *   <li>トラストアンカー・CRLは app.pki.reload-interval-ms ごとに再読み込みします</li>
+ * </ul>
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Component
+public class CertificateVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(CertificateVerifier.class);
+
+    private final Path trustAnchorDirectory;
+
+    private final Path crlDirectory;
+
+    private final long pathCacheTtlMillis;
+
+    private final int pathCacheSize;
+
+    private volatile List<X509Certificate> anchorCertificates = List.of();
+
+    private volatile Set<TrustAnchor> trustAnchors = Set.of();
+
+    private volatile RevocationIndex revocationIndex = RevocationIndex.empty();
+
+    /**
+     * 証明書パスの検証結果（証明書チェーンのPEM → 検証結果）
+     */
+    private final Map<String, CachedPath> pathCache = new ConcurrentHashMap<>();
+
+    public CertificateVerifier(@Value("${app.pki.trust-anchors:./data/pki/trust-anchors}") String trustAnchorDirectory,
+                               @Value("${app.pki.crl-directory:./data/pki/crl}") String crlDirectory,
+                               @Value("${app.pki.path-cache-ttl-minutes:10}") long pathCacheTtlMinutes,
+                               @Value("${app.pki.path-cache-size:10000}") int pathCacheSize) {
+        this.trustAnchorDirectory = Paths.get(trustAnchorDirectory).toAbsolutePath().normalize();
+        this.crlDirectory = Paths.get(crlDirectory).toAbsolutePath().normalize();
+        this.pathCacheTtlMillis = pathCacheTtlMinutes * 60_000;
+        this.pathCacheSize = Math.max(1, pathCacheSize);
+    }
+
+    @PostConstruct
+    public void start() {
+        reload();
+    }
+
+    /**
+     * トラストアンカーとCRLを再読み込み
+     */
+    @Scheduled(fixedDelayString = "${app.pki.reload-interval-ms:300000}",
+            initialDelayString = "${app.pki.reload-interval-ms:300000}")
+    public synchronized void reload() {
+        try {
+            List<X509Certificate> anchors = loadAnchors();
+            if (!anchors.equals(anchorCertificates)) {
+                Set<TrustAnchor> updated = new HashSet<>();
+                anchors.forEach(anchor -> updated.add(new TrustAnchor(anchor, null)));
+                anchorCertificates = anchors;
+                trustAnchors = updated;
+                pathCache.clear();
+            }
+            RevocationIndex index = RevocationIndex.load(crlDirectory, anchors);
+            revocationIndex = index;
+            log.info("証明書の検証情報を読み込みました: トラストアンカー{}件, CRL{}件, 失効{}件",
+                    anchors.size(), index.crlCount(), index.revokedCount());
+        } catch (IOException e) {
+            // 読み込みに失敗した場合は前回の情報で検証を続ける
+            log.error("証明書の検証情報の読み込みに失敗しました", e);
+        }
+    }
+
+    /**
+     * 証明書チェーンを読み込み
+     *
+     * @param pem 証明書チェーン（PEM、署名者の証明書が先頭）
+     * @return 証明書チェーン
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    public List<X509Certificate> parse(String pem) {
+        try {
+            List<X509Certificate> chain = new ArrayList<>();
+            for (Certificate certificate : CertificateFactory.getInstance("X.509")
+                    .generateCertificates(new ByteArrayInputStream(pem.getBytes(StandardCharsets.US_ASCII)))) {
+                chain.add((X509Certificate) certificate);
+            }
+            if (chain.isEmpty()) {
+                throw new IllegalArgumentException("証明書が含まれていません");
+            }
+            return chain;
+        } catch (CertificateException e) {
+            throw new IllegalArgumentException("証明書の形式が不正です", e);
+        }
+    }
+
+    /**
+     * 署名者の証明書を検証
+     *
+     * @param pem 証明書チェーン（PEM、署名者の証明書が先頭）
+     * @param at 有効期間を判定する日時（署名日時）
+     * @return 検証結果
+     */
+    public CertificateCheck check(String pem, Date at) {
+        long now = System.currentTimeMillis();
+        CachedPath path = pathCache.get(pem);
+        if (path == null || path.expiresAt < now) {
+            path = validatePath(pem, now);
+            cache(pem, path, now);
+        }
+
+        if (path.failure != null) {
+            return new CertificateCheck(path.failure, path.leaf, path.message);
+        }
+        if (at.before(path.notBefore)) {
+            return new CertificateCheck(CertificateStatus.NOT_YET_VALID, path.leaf, "有効期間の開始前です: " + path.notBefore);
+        }
+        if (at.after(path.notAfter)) {
+            return new CertificateCheck(CertificateStatus.EXPIRED, path.leaf, "有効期限切れです: " + path.notAfter);
+        }
+        RevocationIndex index = revocationIndex;
+        for (String key : path.revocationKeys) {
+            Date revokedAt = index.revokedAt(key);
+            if (revokedAt != null) {
+                return new CertificateCheck(CertificateStatus.REVOKED, path.leaf, "失効しています: " + revokedAt);
+            }
+        }
+        // 失効リストに無くても、発行者のCRLが無い・古い場合は失効していないことを確認できない
+        Date current = new Date(now);
+        for (X509Certificate issuer : path.issuers) {
+            Date crlNextUpdate = index.crlNextUpdate(issuer);
+            if (crlNextUpdate == null) {
+                return new CertificateCheck(CertificateStatus.REVOCATION_UNKNOWN, path.leaf,
+                        "発行者のCRLがありません: " + issuer.getSubjectX500Principal());
+            }
+            if (crlNextUpdate.before(current)) {
+                return new CertificateCheck(CertificateStatus.REVOCATION_UNKNOWN, path.leaf,
+                        "発行者のCRLの次回更新日時を過ぎています: " + issuer.getSubjectX500Principal()
+                                + " (" + crlNextUpdate + ")");
+            }
+        }
+        return new CertificateCheck(CertificateStatus.VALID, path.leaf, null);
+    }
+
+    /**
+     * 検証情報の状況を取得
+     *
+     * @return トラストアンカー・CRL・キャッシュの件数
+     */
+    public PkiStatusDto getStatus() {
+        RevocationIndex index = revocationIndex;
+        return new PkiStatusDto(
+                anchorCertificates.size(),
+                index.crlCount(),
+                index.revokedCount(),
+                index.staleCrlCount(),
+                index.bitCount(),
+                pathCache.size(),
+                index.loadedAt(),
+                index.nextUpdate() != null ? index.nextUpdate().toInstant() : null);
+    }
+
+    private CachedPath validatePath(String pem, long now) {
+        long expiresAt = now + pathCacheTtlMillis;
+        List<X509Certificate> chain;
+        try {
+            chain = parse(pem);
+        } catch (IllegalArgumentException e) {
+            return CachedPath.failure(CertificateStatus.INVALID, null, e.getMessage(), expiresAt);
+        }
+        X509Certificate leaf = chain.get(0);
+
+        // トラストアンカー自身はパスに含めない
+        List<X509Certificate> anchors = anchorCertificates;
+        List<X509Certificate> path = new ArrayList<>(chain);
+        while (path.size() > 1 && anchors.contains(path.get(path.size() - 1))) {
+            path.remove(path.size() - 1);
+        }
+
+        // 有効期間はパスの検証と切り離して判定（全証明書の有効期間が重なる日時でパスを検証）
+        Date notBefore = leaf.getNotBefore();
+        Date notAfter = leaf.getNotAfter();
+        List<String> revocationKeys = new ArrayList<>(path.size());
+        for (X509Certificate certificate : path) {
+            if (certificate.getNotBefore().after(notBefore)) {
+                notBefore = certificate.getNotBefore();
+            }
+            if (certificate.getNotAfter().before(notAfter)) {
+                notAfter = certificate.getNotAfter();
+            }
+            revocationKeys.add(RevocationIndex.key(certificate));
+        }
+        if (notBefore.after(notAfter)) {
+            return CachedPath.failure(CertificateStatus.INVALID, leaf, "証明書の有効期間が重なりません", expiresAt);
+        }
+
+        Set<TrustAnchor> anchorSet = trustAnchors;
+        if (anchorSet.isEmpty()) {
+            return CachedPath.failure(CertificateStatus.UNTRUSTED, leaf, "トラストアンカーが設定されていません", expiresAt);
+        }
+        X509Certificate anchor;
+        try {
+            CertPath certPath = CertificateFactory.getInstance("X.509").generateCertPath(path);
+            PKIXParameters parameters = new PKIXParameters(anchorSet);
+            parameters.setRevocationEnabled(false);
+            parameters.setDate(notBefore);
+            PKIXCertPathValidatorResult result =
+                    (PKIXCertPathValidatorResult) CertPathValidator.getInstance("PKIX").validate(certPath, parameters);
+            anchor = result.getTrustAnchor().getTrustedCert();
+        } catch (CertPathValidatorException e) {
+            return CachedPath.failure(CertificateStatus.UNTRUSTED, leaf, e.getMessage(), expiresAt);
+        } catch (GeneralSecurityException e) {
+            return CachedPath.failure(CertificateStatus.INVALID, leaf, e.getMessage(), expiresAt);
+        }
+        // 各証明書の発行者（パスの次の証明書、最後の証明書はトラストアンカー）
+        List<X509Certificate> issuers = new ArrayList<>(path.subList(1, path.size()));
+        issuers.add(anchor);
+        return new CachedPath(null, leaf, null, notBefore, notAfter, List.copyOf(revocationKeys),
+                List.copyOf(issuers), expiresAt);
+    }
+
+    private void cache(String pem, CachedPath path, long now) {
+        if (pathCache.size() >= pathCacheSize) {
+            pathCache.values().removeIf(cached -> cached.expiresAt < now);
+            if (pathCache.size() >= pathCacheSize) {
+                pathCache.clear();
+            }
+        }
+        pathCache.put(pem, path);
+    }
+
+    private List<X509Certificate> loadAnchors() throws IOException {
+        if (!Files.isDirectory(trustAnchorDirectory)) {
+            return List.of();
+        }
+        List<Path> files;
+        try (Stream<Path> list = Files.list(trustAnchorDirectory)) {
+            files = list.filter(file -> {
+                String name = file.getFileName().toString().toLowerCase();
+                return name.endsWith(".pem") || name.endsWith(".crt") || name.endsWith(".cer");
+            }).sorted().toList();
+        }
+        List<X509Certificate> anchors = new ArrayList<>();
+        for (Path file : files) {
+            try (InputStream in = Files.newInputStream(file)) {
+                for (Certificate certificate : CertificateFactory.getInstance("X.509").generateCertificates(in)) {
+                    anchors.add((X509Certificate) certificate);
+                }
+            } catch (CertificateException e) {
+                log.warn("トラストアンカーを読み込めません: {}", file, e);
+            }
+        }
+        return List.copyOf(anchors);
+    }
+
+    /**
+     * 証明書パスの検証結果
+     */
+    private record CachedPath(CertificateStatus failure, X509Certificate leaf, String message,
+                              Date notBefore, Date notAfter, List<String> revocationKeys,
+                              List<X509Certificate> issuers, long expiresAt) {
+
+        static CachedPath failure(CertificateStatus status, X509Certificate leaf, String message, long expiresAt) {
+            return new CachedPath(status, leaf, message, null, null, List.of(), List.of(), expiresAt);
+        }
+    }
+}
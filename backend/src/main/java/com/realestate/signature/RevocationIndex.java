@@ -0,0 +1,305 @@
+package com.realestate.signature;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.cert.CRL;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * 証明書失効情報のインデックス
+ *
+ * ローカルに配置したCRL（*.crl / *.pem）を読み込み、失効した証明書（発行者・シリアル番号）を
+ * ブルームフィルタと失効日時の表に展開します。
+ * 失効していない証明書（大部分）はブルームフィルタのみで判定し、フィルタが一致した場合のみ表で確認するため、
+ * 判定はCRLの件数にかかわらず一定時間で完了します。
+ * 発行者ごとに現在有効なCRL（次回更新日時を過ぎていないもの）があるかも判定でき、
+ * CRLが無い・古い発行者の証明書は失効状況を判定できないものとして扱います（{@link #crlNextUpdate(X509Certificate)}）。
+ * 読み込み後は変更しないため、複数スレッドから同時に参照できます（再読み込み時は新しいインデックスに差し替え）。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+final class RevocationIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationIndex.class);
+
+    /**
+     * ブルームフィルタの誤判定率（誤判定時は表で確認するため結果には影響しない）
+     */
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private static final int MIN_BITS = 1024;
+
+    private final long[] bits;
+
+    private final int bitCount;
+
+    private final int hashCount;
+
+    /**
+     * 失効した証明書（発行者#シリアル番号 → 失効日時）
+     */
+    private final Map<String, Date> revoked;
+
+    private final int crlCount;
+
+    private final Date nextUpdate;
+
+    /**
+     * 発行者 → 発行者のCRL
+     */
+    private final Map<X500Principal, List<X509CRL>> crlsByIssuer;
+
+    /**
+     * 発行者の証明書 → 署名を確認できたCRLの最も遅い次回更新日時（CRLが無い場合は空）
+     */
+    private final Map<X509Certificate, Optional<Date>> issuerNextUpdates = new ConcurrentHashMap<>();
+
+    private final Instant loadedAt = Instant.now();
+
+    private RevocationIndex(Map<String, Date> revoked, int crlCount, Date nextUpdate,
+                            Map<X500Principal, List<X509CRL>> crlsByIssuer) {
+        int expected = Math.max(1, revoked.size());
+        this.bitCount = Math.max(MIN_BITS,
+                (int) Math.ceil(-expected * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+        this.bits = new long[(bitCount + 63) >>> 6];
+        this.revoked = revoked;
+        this.crlCount = crlCount;
+        this.nextUpdate = nextUpdate;
+        this.crlsByIssuer = crlsByIssuer;
+        revoked.keySet().forEach(this::add);
+    }
+
+    /**
+     * 失効情報のない空のインデックス
+     */
+    static RevocationIndex empty() {
+        return new RevocationIndex(Map.of(), 0, null, Map.of());
+    }
+
+    /**
+     * ディレクトリ内のCRLを読み込み
+     *
+     * トラストアンカーが発行したCRLは署名を検証し、検証に失敗したCRLは読み込みません。
+     * 発行者を確認できないCRL（中間CAが発行したCRLなど）も読み込みます
+     * （CRLは失効を追加するのみで、誤って読み込んでも有効な証明書を失効扱いにする方向にしか働かないため）。
+     * ただし発行者の現在有効なCRLとしては、検証時に発行者の証明書で署名を確認できたものだけを扱います。
+     *
+     * @param directory CRLの配置ディレクトリ（存在しない場合は空のインデックス）
+     * @param anchors トラストアンカー
+     * @return インデックス
+     * @throws IOException 読み込みに失敗した場合
+     */
+    static RevocationIndex load(Path directory, Collection<X509Certificate> anchors) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return empty();
+        }
+        Map<X500Principal, X509Certificate> issuers = new HashMap<>();
+        anchors.forEach(anchor -> issuers.put(anchor.getSubjectX500Principal(), anchor));
+
+        Map<String, Date> revoked = new HashMap<>();
+        Map<X500Principal, List<X509CRL>> crlsByIssuer = new HashMap<>();
+        int crlCount = 0;
+        Date nextUpdate = null;
+        for (Path file : crlFiles(directory)) {
+            for (X509CRL crl : read(file)) {
+                X509Certificate issuer = issuers.get(crl.getIssuerX500Principal());
+                if (issuer != null) {
+                    try {
+                        crl.verify(issuer.getPublicKey());
+                    } catch (GeneralSecurityException e) {
+                        log.warn("CRLの署名が不正なため読み込みません: {}", file, e);
+                        continue;
+                    }
+                }
+                if (crl.getNextUpdate() != null && crl.getNextUpdate().before(new Date())) {
+                    log.warn("CRLの次回更新日時を過ぎています（発行者の証明書は失効状況を判定できません）: {} ({})",
+                            file, crl.getNextUpdate());
+                }
+                crlsByIssuer.computeIfAbsent(crl.getIssuerX500Principal(), key -> new ArrayList<>()).add(crl);
+                if (crl.getRevokedCertificates() != null) {
+                    for (X509CRLEntry entry : crl.getRevokedCertificates()) {
+                        X500Principal entryIssuer = entry.getCertificateIssuer() != null
+                                ? entry.getCertificateIssuer() : crl.getIssuerX500Principal();
+                        revoked.merge(key(entryIssuer, entry.getSerialNumber()), entry.getRevocationDate(),
+                                (a, b) -> a.before(b) ? a : b);
+                    }
+                }
+                crlCount++;
+                if (crl.getNextUpdate() != null && (nextUpdate == null || crl.getNextUpdate().before(nextUpdate))) {
+                    nextUpdate = crl.getNextUpdate();
+                }
+            }
+        }
+        return new RevocationIndex(revoked, crlCount, nextUpdate, crlsByIssuer);
+    }
+
+    /**
+     * 証明書の失効日時を取得
+     *
+     * @param key 証明書のキー（{@link #key(X509Certificate)}）
+     * @return 失効日時（失効していない場合はnull）
+     */
+    Date revokedAt(String key) {
+        if (!mightContain(key)) {
+            return null;
+        }
+        return revoked.get(key);
+    }
+
+    /**
+     * 発行者のCRLの次回更新日時を取得
+     *
+     * 発行者の公開鍵で署名を確認できたCRLのうち、最も遅い次回更新日時を返します
+     * （次回更新日時の無いCRLは期限なしとして扱います）。
+     * 現在日時がこの日時を過ぎている場合、またはnullの場合は失効状況を判定できません。
+     *
+     * @param issuer 発行者の証明書
+     * @return 次回更新日時（署名を確認できるCRLが無い場合はnull）
+     */
+    Date crlNextUpdate(X509Certificate issuer) {
+        return issuerNextUpdates.computeIfAbsent(issuer, this::latestNextUpdate).orElse(null);
+    }
+
+    /**
+     * 次回更新日時を過ぎたCRLの件数
+     */
+    int staleCrlCount() {
+        Date now = new Date();
+        return (int) crlsByIssuer.values().stream()
+                .flatMap(List::stream)
+                .filter(crl -> crl.getNextUpdate() != null && crl.getNextUpdate().before(now))
+                .count();
+    }
+
+    int crlCount() {
+        return crlCount;
+    }
+
+    int revokedCount() {
+        return revoked.size();
+    }
+
+    int bitCount() {
+        return bitCount;
+    }
+
+    Date nextUpdate() {
+        return nextUpdate;
+    }
+
+    Instant loadedAt() {
+        return loadedAt;
+    }
+
+    private Optional<Date> latestNextUpdate(X509Certificate issuer) {
+        Date latest = null;
+        for (X509CRL crl : crlsByIssuer.getOrDefault(issuer.getSubjectX500Principal(), List.of())) {
+            try {
+                crl.verify(issuer.getPublicKey());
+            } catch (GeneralSecurityException e) {
+                continue;
+            }
+            Date crlNextUpdate = crl.getNextUpdate() != null ? crl.getNextUpdate() : new Date(Long.MAX_VALUE);
+            if (latest == null || crlNextUpdate.after(latest)) {
+                latest = crlNextUpdate;
+            }
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    private void add(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (int) Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private boolean mightContain(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (int) Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64ビットハッシュ（FNV-1aに最終ミックスを加えたもの）
+     */
+    private static long hash(String key, long seed) {
+        long hash = 0xCBF29CE484222325L ^ seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * 証明書のキー（発行者#シリアル番号）
+     *
+     * @param certificate 証明書
+     * @return キー
+     */
+    static String key(X509Certificate certificate) {
+        return key(certificate.getIssuerX500Principal(), certificate.getSerialNumber());
+    }
+
+    private static String key(X500Principal issuer, BigInteger serialNumber) {
+        return issuer.getName(X500Principal.CANONICAL) + "#" + serialNumber.toString(16);
+    }
+
+    private static List<Path> crlFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString().toLowerCase();
+                return name.endsWith(".crl") || name.endsWith(".pem");
+            }).sorted().toList();
+        }
+    }
+
+    private static List<X509CRL> read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            List<X509CRL> crls = new ArrayList<>();
+            for (CRL crl : CertificateFactory.getInstance("X.509").generateCRLs(in)) {
+                crls.add((X509CRL) crl);
+            }
+            return crls;
+        } catch (GeneralSecurityException e) {
+            log.warn("CRLを読み込めません: {}", file, e);
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.realestate.signature;
+
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.edec.EdECObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.asn1.x9.X9ObjectIdentifiers;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+
+/**
+ * 電子署名アルゴリズム
+ *
+ * 署名に使用するアルゴリズムと、鍵の復元・署名・検証の方法を定義します。
+ * RSA-PSSとEd25519はBouncyCastleプロバイダ、それ以外はJDK標準のプロバイダを使用します。
+ * 署名の計算量はRSA（2048ビット）が最も大きく、ECDSA P-256・Ed25519はRSAより高速です
+ * （src/jmh の SignatureBenchmark で比較できます）。
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public enum SignatureAlgorithm {
+
+    /**
+     * RSA PKCS#1 v1.5（SHA-256）。従来の署名との互換用
+     */
+    RSA_SHA256("SHA256withRSA", "RSA", null),
+
+    /**
+     * RSA-PSS（SHA-256、MGF1）
+     */
+    RSA_PSS("SHA256withRSAandMGF1", "RSA", BouncyCastleProvider.PROVIDER_NAME),
+
+    /**
+     * ECDSA（P-256、SHA-256）
+     */
+    ECDSA_P256("SHA256withECDSA", "EC", null),
+
+    /**
+     * Ed25519
+     */
+    ED25519("Ed25519", "Ed25519", BouncyCastleProvider.PROVIDER_NAME);
+
+    private static final ASN1ObjectIdentifier P256 = X9ObjectIdentifiers.prime256v1;
+
+    private final String jcaName;
+
+    private final String keyAlgorithm;
+
+    private final String provider;
+
+    SignatureAlgorithm(String jcaName, String keyAlgorithm, String provider) {
+        this.jcaName = jcaName;
+        this.keyAlgorithm = keyAlgorithm;
+        this.provider = provider;
+    }
+
+    /**
+     * 秘密鍵の種類から既定のアルゴリズムを判定
+     *
+     * RSA鍵は従来の署名と互換性のあるRSA_SHA256（RSA-PSS専用鍵はRSA_PSS）になります。
+     *
+     * @param pkcs8 秘密鍵（PKCS#8 DER）
+     * @return アルゴリズム
+     * @throws IllegalArgumentException 対応していない鍵の場合
+     */
+    public static SignatureAlgorithm forPrivateKey(byte[] pkcs8) {
+        AlgorithmIdentifier keyAlgorithm;
+        try {
+            keyAlgorithm = PrivateKeyInfo.getInstance(pkcs8).getPrivateKeyAlgorithm();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("秘密鍵の形式が不正です", e);
+        }
+        ASN1ObjectIdentifier oid = keyAlgorithm.getAlgorithm();
+        if (PKCSObjectIdentifiers.rsaEncryption.equals(oid)) {
+            return RSA_SHA256;
+        }
+        if (PKCSObjectIdentifiers.id_RSASSA_PSS.equals(oid)) {
+            return RSA_PSS;
+        }
+        if (X9ObjectIdentifiers.id_ecPublicKey.equals(oid) && P256.equals(keyAlgorithm.getParameters())) {
+            return ECDSA_P256;
+        }
+        if (EdECObjectIdentifiers.id_Ed25519.equals(oid)) {
+            return ED25519;
+        }
+        throw new IllegalArgumentException("対応していない鍵の種類です: " + oid);
+    }
+
+    /**
+     * 秘密鍵を復元
+     *
+     * @param pkcs8 秘密鍵（PKCS#8 DER）
+     * @return 秘密鍵
+     * @throws GeneralSecurityException 鍵の種類がアルゴリズムと一致しない場合など
+     */
+    public PrivateKey privateKey(byte[] pkcs8) throws GeneralSecurityException {
+        return keyFactory().generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+    }
+
+    /**
+     * 公開鍵を復元
+     *
+     * @param x509 公開鍵（X.509 SubjectPublicKeyInfo DER）
+     * @return 公開鍵
+     * @throws GeneralSecurityException 鍵の種類がアルゴリズムと一致しない場合など
+     */
+    public PublicKey publicKey(byte[] x509) throws GeneralSecurityException {
+        return keyFactory().generatePublic(new X509EncodedKeySpec(x509));
+    }
+
+    /**
+     * 署名を作成
+     *
+     * @param privateKey 秘密鍵
+     * @param data 署名対象のデータ
+     * @return 署名
+     * @throws GeneralSecurityException 署名に失敗した場合
+     */
+    public byte[] sign(PrivateKey privateKey, byte[] data) throws GeneralSecurityException {
+        Signature signature = newSignature();
+        signature.initSign(privateKey);
+        signature.update(data);
+        return signature.sign();
+    }
+
+    /**
+     * 署名を検証
+     *
+     * @param publicKey 公開鍵
+     * @param data 署名対象のデータ
+     * @param signatureBytes 署名
+     * @return 署名が有効な場合true
+     * @throws GeneralSecurityException 検証処理に失敗した場合
+     */
+    public boolean verify(PublicKey publicKey, byte[] data, byte[] signatureBytes) throws GeneralSecurityException {
+        Signature signature = newSignature();
+        signature.initVerify(publicKey);
+        signature.update(data);
+        return signature.verify(signatureBytes);
+    }
+
+    /**
+     * 鍵ペアを生成（RSAは2048ビット）
+     *
+     * @return 鍵ペア
+     * @throws GeneralSecurityException 生成に失敗した場合
+     */
+    public KeyPair generateKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator generator = provider == null
+                ? KeyPairGenerator.getInstance(keyAlgorithm)
+                : KeyPairGenerator.getInstance(keyAlgorithm, provider);
+        switch (this) {
+            case RSA_SHA256, RSA_PSS -> generator.initialize(2048);
+            case ECDSA_P256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+            default -> {
+                // Ed25519は鍵長の指定なし
+            }
+        }
+        return generator.generateKeyPair();
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return provider == null ? KeyFactory.getInstance(keyAlgorithm) : KeyFactory.getInstance(keyAlgorithm, provider);
+    }
+
+    private Signature newSignature() throws GeneralSecurityException {
+        return provider == null ? Signature.getInstance(jcaName) : Signature.getInstance(jcaName, provider);
+    }
+}
@@ -0,0 +1,16 @@
+package com.realestate.signature;
+
+/**
+ * 電子署名キューの満杯例外
+ * 処理待ちの署名が上限に達している場合に発生します（呼び出し元は時間をおいて再送します）
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public class SigningQueueFullException extends RuntimeException {
+
+    public SigningQueueFullException(int capacity) {
+        super("電子署名の処理待ちが上限に達しています: " + capacity);
+    }
+}
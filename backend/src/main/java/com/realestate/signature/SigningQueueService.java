@@ -0,0 +1,363 @@
+package com.realestate.signature;
+
+import com.realestate.dto.SigningJobDto;
+import com.realestate.dto.SigningQueueStatsDto;
+import com.realestate.entity.DigitalSignature;
+import com.realestate.service.DigitalSignatureService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 電子署名キューサービス
+ *
+ * 署名の作成（CPU負荷の高い署名計算）をリクエスト処理スレッドから切り離し、
+ * 上限付きのキューとCPUコア数のワーカーで処理します。
+ *
+ * <ul>
+ *   <li>キューが満杯の場合は受け付けずに {@link SigningQueueFullException} を送出します（APIは429を返却）</li>
+ *   <li>ワーカーはキューから最大 batch-size 件をまとめて取り出して署名し、1トランザクションで保存します
+ *       （保存に失敗した場合は1件ずつ保存し直し、失敗した署名のみエラーにします）</li>
+ *   <li>完了・失敗は /topic/signatures/{ジョブID} へ通知し、ジョブIDでの照会にも一定時間応答します</li>
+ *   <li>完了を待つ呼び出し（{@link #signAsync(SigningRequest)}）はスレッドを占有せずに待機し、
+ *       sync-timeout-seconds を過ぎた場合は {@link SigningTimeoutException} で終了します（ジョブは処理を継続）</li>
+ * </ul>
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+@Service
+public class SigningQueueService {
+
+    private static final Logger log = LoggerFactory.getLogger(SigningQueueService.class);
+
+    private static final String DESTINATION_PREFIX = "/topic/signatures/";
+
+    private final DigitalSignatureService digitalSignatureService;
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final BlockingQueue<Job> queue;
+
+    private final int queueCapacity;
+
+    private final int workers;
+
+    private final int batchSize;
+
+    /**
+     * 完了したジョブを照会できる時間（分）
+     */
+    private final long retentionMinutes;
+
+    /**
+     * 完了を待つ呼び出しの待機時間（秒）
+     */
+    private final long syncTimeoutSeconds;
+
+    private final ExecutorService workerPool;
+
+    /**
+     * ジョブ（ジョブID → ジョブ、完了後は保持期間の経過まで）
+     */
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+
+    private final LongAdder submitted = new LongAdder();
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder batchedJobs = new LongAdder();
+
+    private final LongAdder signingNanos = new LongAdder();
+
+    public SigningQueueService(DigitalSignatureService digitalSignatureService,
+                               SimpMessagingTemplate messagingTemplate,
+                               @Value("${app.signing.queue-capacity:1000}") int queueCapacity,
+                               @Value("${app.signing.workers:0}") int workers,
+                               @Value("${app.signing.batch-size:32}") int batchSize,
+                               @Value("${app.signing.result-retention-minutes:60}") long retentionMinutes,
+                               @Value("${app.signing.sync-timeout-seconds:30}") long syncTimeoutSeconds) {
+        this.digitalSignatureService = digitalSignatureService;
+        this.messagingTemplate = messagingTemplate;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.queue = new ArrayBlockingQueue<>(this.queueCapacity);
+        this.workers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.batchSize = Math.max(1, batchSize);
+        this.retentionMinutes = retentionMinutes;
+        this.syncTimeoutSeconds = Math.max(1, syncTimeoutSeconds);
+        this.workerPool = Executors.newFixedThreadPool(this.workers, namedThreads("signing"));
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::work);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+
+    /**
+     * 署名の作成を受け付け（完了はジョブIDで照会、または /topic/signatures/{ジョブID} を購読）
+     *
+     * @param request 署名作成リクエスト
+     * @return 受け付けたジョブ
+     * @throws SigningQueueFullException 処理待ちが上限に達している場合
+     */
+    public SigningJobDto submit(SigningRequest request) {
+        return enqueue(request).toDto();
+    }
+
+    /**
+     * 署名を作成（キューで処理し、完了を非同期に通知）
+     *
+     * 待機時間を過ぎた場合は {@link SigningTimeoutException} で完了します（ジョブは処理を継続）。
+     *
+     * @param request 署名作成リクエスト
+     * @return 作成された電子署名（失敗時は署名の作成・保存で発生した例外で完了）
+     * @throws SigningQueueFullException 処理待ちが上限に達している場合
+     */
+    public CompletableFuture<DigitalSignature> signAsync(SigningRequest request) {
+        Job job = enqueue(request);
+        return job.future.copy()
+                .orTimeout(syncTimeoutSeconds, TimeUnit.SECONDS)
+                .handle((signature, error) -> {
+                    if (error == null) {
+                        return signature;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        throw new SigningTimeoutException(job.id, syncTimeoutSeconds);
+                    }
+                    if (cause instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    /**
+     * ジョブの状況を取得
+     *
+     * @param jobId ジョブID
+     * @return ジョブ（存在しない、または保持期間を過ぎた場合は空）
+     */
+    public Optional<SigningJobDto> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toDto);
+    }
+
+    /**
+     * キューの統計を取得
+     *
+     * @return 処理待ち件数・処理件数・平均署名時間など
+     */
+    public SigningQueueStatsDto getStats() {
+        long batchCount = batches.sum();
+        long jobCount = batchedJobs.sum();
+        return new SigningQueueStatsDto(
+                queue.size(),
+                queueCapacity,
+                workers,
+                busyWorkers.get(),
+                submitted.sum(),
+                completed.sum(),
+                failed.sum(),
+                rejected.sum(),
+                batchCount == 0 ? 0 : (double) jobCount / batchCount,
+                jobCount == 0 ? 0 : signingNanos.sum() / 1_000_000.0 / jobCount);
+    }
+
+    /**
+     * 保持期間を過ぎた完了ジョブを削除
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictCompletedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(threshold));
+    }
+
+    private Job enqueue(SigningRequest request) {
+        Job job = new Job(UUID.randomUUID().toString(), request);
+        jobs.put(job.id, job);
+        if (!queue.offer(job)) {
+            jobs.remove(job.id);
+            rejected.increment();
+            throw new SigningQueueFullException(queueCapacity);
+        }
+        submitted.increment();
+        return job;
+    }
+
+    private void work() {
+        List<Job> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            busyWorkers.incrementAndGet();
+            try {
+                process(batch);
+            } catch (RuntimeException e) {
+                log.error("電子署名の処理に失敗しました", e);
+                batch.forEach(job -> fail(job, e));
+            } finally {
+                busyWorkers.decrementAndGet();
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Job> batch) {
+        List<Job> prepared = new ArrayList<>(batch.size());
+        List<DigitalSignature> signatures = new ArrayList<>(batch.size());
+        long start = System.nanoTime();
+        for (Job job : batch) {
+            job.status = SigningStatus.RUNNING;
+            try {
+                signatures.add(digitalSignatureService.prepareSignature(job.request));
+                prepared.add(job);
+            } catch (RuntimeException e) {
+                fail(job, e);
+            }
+        }
+        signingNanos.add(System.nanoTime() - start);
+        batches.increment();
+        batchedJobs.add(batch.size());
+        if (prepared.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<DigitalSignature> saved = digitalSignatureService.saveSignatures(signatures);
+            for (int i = 0; i < prepared.size(); i++) {
+                complete(prepared.get(i), saved.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("電子署名の一括保存に失敗したため1件ずつ保存します: {}", e.getMessage());
+            for (int i = 0; i < prepared.size(); i++) {
+                DigitalSignature signature = signatures.get(i);
+                // ロールバックされた採番をクリア
+                signature.setId(null);
+                try {
+                    complete(prepared.get(i), digitalSignatureService.saveSignatures(List.of(signature)).get(0));
+                } catch (RuntimeException ex) {
+                    fail(prepared.get(i), ex);
+                }
+            }
+        }
+    }
+
+    private void complete(Job job, DigitalSignature signature) {
+        if (job.completedAt != null) {
+            return;
+        }
+        job.signatureId = signature.getId();
+        finish(job, SigningStatus.COMPLETED);
+        completed.increment();
+        job.future.complete(signature);
+    }
+
+    private void fail(Job job, RuntimeException e) {
+        if (job.completedAt != null) {
+            return;
+        }
+        job.error = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        finish(job, SigningStatus.FAILED);
+        failed.increment();
+        job.future.completeExceptionally(e);
+    }
+
+    private void finish(Job job, SigningStatus status) {
+        // 秘密鍵・文書内容を保持し続けない
+        job.request = null;
+        job.status = status;
+        job.completedAt = LocalDateTime.now();
+        try {
+            messagingTemplate.convertAndSend(DESTINATION_PREFIX + job.id, job.toDto());
+        } catch (RuntimeException e) {
+            // 通知に失敗してもジョブIDで照会可能
+            log.warn("電子署名ジョブの通知に失敗しました: {}", job.id, e);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 電子署名ジョブ
+     */
+    private static final class Job {
+
+        private final String id;
+
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+
+        private final CompletableFuture<DigitalSignature> future = new CompletableFuture<>();
+
+        private volatile SigningRequest request;
+
+        private volatile SigningStatus status = SigningStatus.QUEUED;
+
+        private volatile Long signatureId;
+
+        private volatile String error;
+
+        private volatile LocalDateTime completedAt;
+
+        private Job(String id, SigningRequest request) {
+            this.id = id;
+            this.request = request;
+        }
+
+        private SigningJobDto toDto() {
+            return new SigningJobDto(id, status, signatureId, error, submittedAt, completedAt);
+        }
+    }
+}
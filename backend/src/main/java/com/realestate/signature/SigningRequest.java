@@ -0,0 +1,30 @@
+package com.realestate.signature;
+
+import com.realestate.entity.DigitalSignature;
+
+/**
+ * 電子署名の作成リクエスト
+ *
+ * @param signerId 署名者ID
+ * @param signerName 署名者名
+ * @param contractId 契約ID
+ * @param documentType 文書タイプ
+ * @param documentContent 署名対象の文書内容（省略時は文書ストアに保存済みの文書）
+ * @param documentHash 文書ストアに保存済みの文書のSHA-256（16進数、文書内容の省略時は必須）
+ * @param privateKeyBase64 秘密鍵（PKCS#8、Base64エンコード）
+ * @param algorithm 署名アルゴリズム（省略時は秘密鍵の種類から判定）
+ * @param certificateChain 署名者の証明書チェーン（PEM、署名者の証明書が先頭。省略可）
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public record SigningRequest(Long signerId,
+                             String signerName,
+                             Long contractId,
+                             DigitalSignature.DocumentType documentType,
+                             String documentContent,
+                             String documentHash,
+                             String privateKeyBase64,
+                             SignatureAlgorithm algorithm,
+                             String certificateChain) {
+}
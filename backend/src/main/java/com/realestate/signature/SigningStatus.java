@@ -0,0 +1,15 @@
+package com.realestate.signature;
+
+/**
+ * 電子署名ジョブの状況
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public enum SigningStatus {
+    QUEUED,             // 処理待ち
+    RUNNING,            // 処理中
+    COMPLETED,          // 完了
+    FAILED              // 失敗
+}
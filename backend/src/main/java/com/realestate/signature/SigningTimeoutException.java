@@ -0,0 +1,23 @@
+package com.realestate.signature;
+
+/**
+ * 電子署名の待機タイムアウト例外
+ * 署名の完了を待機する時間を過ぎた場合に発生します（ジョブは処理を続け、ジョブIDで結果を照会できます）
+ *
+ * @author システム開発チーム
+ * @version 1.0.0
+ * @since 2025-08-11
+ */
+public class SigningTimeoutException extends RuntimeException {
+
+    private final String jobId;
+
+    public SigningTimeoutException(String jobId, long timeoutSeconds) {
+        super("電子署名の完了を" + timeoutSeconds + "秒以内に確認できませんでした: " + jobId);
+        this.jobId = jobId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+}